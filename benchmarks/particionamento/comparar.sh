@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# Compara financas.lancamento em tabela unica e particionada por ano com o
+# mesmo volume de dados: planos (EXPLAIN ANALYZE), latencia das consultas
+# tipicas (pgbench) e o custo de remover um ano antigo (DELETE x DETACH).
+# Requer psql e pgbench apontando para um PostgreSQL 12+ (variaveis PG*).
+# Com 50 milhoes de linhas, reserve uns 30 GB de disco.
+set -euo pipefail
+
+cd "$(dirname "$0")"
+LINHAS=${LINHAS:-50000000}
+USUARIOS=${USUARIOS:-100000}
+ANO_INICIAL=${ANO_INICIAL:-2010}
+ANO_FINAL=${ANO_FINAL:-2024}
+ANO=${ANO:-$ANO_FINAL}
+DURACAO=${DURACAO:-60}
+CLIENTES=${CLIENTES:-8}
+mkdir -p resultados
+
+psql -v ON_ERROR_STOP=1 -v linhas="$LINHAS" -v usuarios="$USUARIOS" -v ano_inicial="$ANO_INICIAL" \
+	-v ano_final="$ANO_FINAL" -f preparar.sql
+
+for esquema in financas_plana financas_part; do
+	psql -v ON_ERROR_STOP=1 -v esquema="$esquema" -v usuario=42 -v ano="$ANO" -f consultas.sql \
+		> "resultados/$esquema-planos.txt"
+
+	cat > "resultados/$esquema.pgbench" <<SQL
+\set usuario random(1, $USUARIOS)
+\set mes random(1, 12)
+SELECT * FROM $esquema.lancamento WHERE id_usuario = :usuario AND ano = $ANO AND mes = :mes ORDER BY ano, mes, id LIMIT 50;
+SELECT tipo, sum(valor) FROM $esquema.lancamento WHERE id_usuario = :usuario AND ano = $ANO GROUP BY tipo;
+SQL
+	pgbench -n -c "$CLIENTES" -j "$CLIENTES" -T "$DURACAO" -r -f "resultados/$esquema.pgbench" \
+		> "resultados/$esquema-latencia.txt"
+done
+
+echo "== remover $ANO_INICIAL da tabela unica"
+psql -v ON_ERROR_STOP=1 -c '\timing on' \
+	-c "DELETE FROM financas_plana.lancamento WHERE ano = $ANO_INICIAL" | tee resultados/remocao.txt
+echo "== desanexar $ANO_INICIAL da tabela particionada"
+psql -v ON_ERROR_STOP=1 -c '\timing on' \
+	-c "ALTER TABLE financas_part.lancamento DETACH PARTITION financas_part.lancamento_$ANO_INICIAL" \
+	| tee -a resultados/remocao.txt
+
+for esquema in financas_plana financas_part; do
+	echo "== $esquema"
+	grep -E "^(tps|latency average)" "resultados/$esquema-latencia.txt"
+	grep -E "Execution Time|Buffers: shared" "resultados/$esquema-planos.txt"
+done
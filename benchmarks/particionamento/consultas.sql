@@ -0,0 +1,24 @@
+-- Consultas tipicas da API. :esquema e trocado por financas_plana ou
+-- financas_part; :usuario e :ano vem do comparar.sh.
+
+-- Listagem de um mes (buscar com ano e mes, primeira pagina).
+EXPLAIN (ANALYZE, BUFFERS, TIMING OFF)
+SELECT * FROM :esquema.lancamento
+WHERE id_usuario = :usuario AND ano = :ano AND mes = 6
+ORDER BY ano, mes, id LIMIT 50;
+
+-- Proxima pagina pelo cursor, sem filtro de ano (ver LancamentoRepositoryCustomImpl.aposCursor).
+EXPLAIN (ANALYZE, BUFFERS, TIMING OFF)
+SELECT * FROM :esquema.lancamento
+WHERE id_usuario = :usuario AND ano >= :ano AND (ano > :ano OR (ano = :ano AND (mes > 6 OR (mes = 6 AND id > 0))))
+ORDER BY ano, mes, id LIMIT 50;
+
+-- Total do ano (reconciliacao e exportacao de um ano).
+EXPLAIN (ANALYZE, BUFFERS, TIMING OFF)
+SELECT ano, mes, tipo, status, sum(valor), count(*) FROM :esquema.lancamento
+WHERE id_usuario = :usuario AND ano = :ano
+GROUP BY ano, mes, tipo, status;
+
+-- Varredura de um ano inteiro (efetivar em lote, relatorios).
+EXPLAIN (ANALYZE, BUFFERS, TIMING OFF)
+SELECT count(*) FROM :esquema.lancamento WHERE ano = :ano AND status = 'PENDENTE';
@@ -0,0 +1,50 @@
+-- Gera :linhas lancamentos em duas copias: financas_plana.lancamento (tabela
+-- unica, como hoje) e financas_part.lancamento (particionada por ano, como em
+-- db/migration/particionamento). Mesmos dados, mesmos indices.
+DROP SCHEMA IF EXISTS financas_plana CASCADE;
+DROP SCHEMA IF EXISTS financas_part CASCADE;
+CREATE SCHEMA financas_plana;
+CREATE SCHEMA financas_part;
+
+CREATE TABLE financas_plana.lancamento
+(
+  id bigint NOT NULL PRIMARY KEY,
+  descricao character varying(100) NOT NULL,
+  mes integer NOT NULL,
+  ano integer NOT NULL,
+  valor numeric(16,2) NOT NULL,
+  tipo character varying(20) NOT NULL,
+  status character varying(20) NOT NULL,
+  id_usuario bigint NOT NULL,
+  data_cadastro date default now()
+);
+
+CREATE TABLE financas_part.lancamento
+(
+  LIKE financas_plana.lancamento INCLUDING DEFAULTS,
+  PRIMARY KEY (id, ano)
+) PARTITION BY RANGE (ano);
+
+DO $$
+BEGIN
+  FOR v_ano IN :ano_inicial .. :ano_final LOOP
+    EXECUTE format('CREATE TABLE financas_part.lancamento_%s PARTITION OF financas_part.lancamento '
+      || 'FOR VALUES FROM (%s) TO (%s)', v_ano, v_ano, v_ano + 1);
+  END LOOP;
+END $$;
+
+INSERT INTO financas_plana.lancamento (id, descricao, mes, ano, valor, tipo, status, id_usuario)
+SELECT x, 'Compra cartao loja ' || (x % 1000), (x % 12) + 1,
+       :ano_inicial + (x % (:ano_final - :ano_inicial + 1)), (x % 10000) / 100.0,
+       CASE WHEN x % 5 = 0 THEN 'RECEITA' ELSE 'DESPESA' END,
+       CASE WHEN x % 3 = 0 THEN 'PENDENTE' ELSE 'EFETIVADO' END,
+       (x % :usuarios) + 1
+FROM generate_series(1, :linhas) AS x;
+
+INSERT INTO financas_part.lancamento SELECT * FROM financas_plana.lancamento;
+
+CREATE INDEX ON financas_plana.lancamento (id_usuario, ano, mes, id);
+CREATE INDEX ON financas_part.lancamento (id_usuario, ano, mes, id);
+
+VACUUM ANALYZE financas_plana.lancamento;
+VACUUM ANALYZE financas_part.lancamento;
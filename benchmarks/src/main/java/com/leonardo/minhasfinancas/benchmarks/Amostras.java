@@ -0,0 +1,73 @@
+package com.leonardo.minhasfinancas.benchmarks;
+
+import java.math.BigDecimal;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.services.UsuarioService;
+
+/**
+ * Objetos de exemplo compartilhados pelos benchmarks que não sobem o contexto
+ * do Spring.
+ */
+final class Amostras {
+
+	private Amostras() {
+	}
+
+	static Usuario usuario() {
+		return Usuario.builder().id(1L).nome("Usuario").email("usuario@email.com").senha("senha").build();
+	}
+
+	static Lancamento lancamento() {
+		return Lancamento.builder().id(1L).descricao("Conta de luz").mes(3).ano(2020).valor(BigDecimal.valueOf(187.45))
+				.tipo(TipoLancamento.DESPESA).status(StatusLancamento.PENDENTE).usuario(usuario())
+				.dataCadastro(ZonedDateTime.now()).build();
+	}
+
+	static LancamentoDto lancamentoDto() {
+		return LancamentoDto.builder().id(1L).descricao("Conta de luz").mes(3).ano(2020)
+				.valor(BigDecimal.valueOf(187.45)).tipo("DESPESA").status("PENDENTE").usuario(1L).build();
+	}
+
+	/**
+	 * Responde sempre com o mesmo usuário, para medir apenas a conversão. Nada
+	 * é gravado nem validado.
+	 */
+	static UsuarioService usuarioService() {
+		Optional<Usuario> usuario = Optional.of(usuario());
+
+		return new UsuarioService() {
+
+			@Override
+			public Optional<Usuario> obterPorId(Long id) {
+				return usuario;
+			}
+
+			@Override
+			public Optional<Usuario> obterPorEmail(String email) {
+				return usuario;
+			}
+
+			@Override
+			public void validarEmail(String email) {
+			}
+
+			@Override
+			public Usuario salvaUsuario(Usuario novo) {
+				return novo;
+			}
+
+			@Override
+			public Usuario autenticaUsuario(String email, String senha) {
+				return usuario.get();
+			}
+		};
+	}
+
+}
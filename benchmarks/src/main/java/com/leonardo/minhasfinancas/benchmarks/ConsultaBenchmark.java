@@ -0,0 +1,175 @@
+package com.leonardo.minhasfinancas.benchmarks;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.leonardo.minhasfinancas.MinhasFinancasApplication;
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.services.LancamentoService;
+import com.leonardo.minhasfinancas.services.SaldoService;
+import com.leonardo.minhasfinancas.services.UsuarioService;
+
+/**
+ * Consultas sobre um H2 em memória povoado com {@code linhas} lançamentos,
+ * distribuídos entre {@value #USUARIOS} usuários e {@value #ANOS} anos. Cada
+ * volume roda em um fork próprio, com o banco criado pelas migrações.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ConsultaBenchmark {
+
+	private static final int USUARIOS = 10;
+	private static final int ANOS = 10;
+	private static final int ANO_INICIAL = 2015;
+	private static final int TAMANHO_LOTE = 10_000;
+	private static final long ID_USUARIO = 1L;
+
+	@Param({ "10000", "100000", "1000000" })
+	private int linhas;
+
+	private ConfigurableApplicationContext contexto;
+	private LancamentoService lancamentoService;
+	private SaldoService saldoService;
+	private Lancamento filtroMes;
+	private Lancamento filtroUsuario;
+
+	@Setup
+	public void iniciar() {
+		contexto = new SpringApplicationBuilder(MinhasFinancasApplication.class).web(WebApplicationType.NONE)
+				.profiles("test")
+				.properties("spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;"
+						+ "INIT=CREATE SCHEMA IF NOT EXISTS financas", "spring.main.banner-mode=off",
+						"logging.level.root=WARN")
+				.run();
+
+		povoar(contexto.getBean(JdbcTemplate.class));
+
+		lancamentoService = contexto.getBean(LancamentoService.class);
+		saldoService = contexto.getBean(SaldoService.class);
+		Usuario usuario = contexto.getBean(UsuarioService.class).obterPorId(ID_USUARIO).orElseThrow();
+
+		filtroMes = new Lancamento();
+		filtroMes.setUsuario(usuario);
+		filtroMes.setAno(ANO_INICIAL + ANOS / 2);
+		filtroMes.setMes(6);
+
+		filtroUsuario = new Lancamento();
+		filtroUsuario.setUsuario(usuario);
+	}
+
+	@TearDown
+	public void encerrar() {
+		contexto.close();
+	}
+
+	@Benchmark
+	public List<Lancamento> buscarPorMes() {
+		return lancamentoService.buscar(filtroMes);
+	}
+
+	@Benchmark
+	public List<LancamentoDto> buscarDtoPorMes() {
+		return lancamentoService.buscarDto(filtroMes);
+	}
+
+	@Benchmark
+	public Slice<Lancamento> buscarPrimeiraPagina() {
+		return lancamentoService.buscar(filtroUsuario, null, Sort.Direction.ASC, 50);
+	}
+
+	@Benchmark
+	public BigDecimal obterSaldoPorUsuario() {
+		return lancamentoService.obterSaldoPorUsuario(ID_USUARIO);
+	}
+
+	@Benchmark
+	public BigDecimal obterSaldoEfetivadoAteMes() {
+		return saldoService.obterSaldo(ID_USUARIO, List.of(StatusLancamento.EFETIVADO), ANO_INICIAL + ANOS / 2, 6);
+	}
+
+	/**
+	 * Insere os lançamentos direto por JDBC e monta os saldos consolidados como a
+	 * migração V2 faz com uma base existente.
+	 */
+	private void povoar(JdbcTemplate jdbc) {
+		Date hoje = Date.valueOf(LocalDate.now());
+
+		for (int u = 1; u <= USUARIOS; u++) {
+			jdbc.update("INSERT INTO financas.usuario (id, nome, email, senha, data_cadastro) VALUES (?, ?, ?, ?, ?)",
+					u, "Usuario " + u, "usuario" + u + "@email.com", "senha", hoje);
+		}
+
+		for (int inicio = 0; inicio < linhas; inicio += TAMANHO_LOTE) {
+			int primeiro = inicio;
+			int tamanho = Math.min(TAMANHO_LOTE, linhas - inicio);
+
+			jdbc.batchUpdate("INSERT INTO financas.lancamento "
+					+ "(id, descricao, mes, ano, valor, tipo, status, id_usuario, data_cadastro) "
+					+ "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", new BatchPreparedStatementSetter() {
+
+						@Override
+						public void setValues(PreparedStatement ps, int i) throws SQLException {
+							int n = primeiro + i;
+							int periodo = n / USUARIOS;
+
+							ps.setLong(1, n + 1L);
+							ps.setString(2, "Lancamento " + (n % 1000));
+							ps.setInt(3, periodo % 12 + 1);
+							ps.setInt(4, ANO_INICIAL + periodo / 12 % ANOS);
+							ps.setBigDecimal(5, BigDecimal.valueOf(n % 100_000 + 1, 2));
+							ps.setString(6, (n % 3 == 0 ? TipoLancamento.RECEITA : TipoLancamento.DESPESA).name());
+							ps.setString(7, StatusLancamento.values()[n % StatusLancamento.values().length].name());
+							ps.setLong(8, n % USUARIOS + 1L);
+							ps.setDate(9, hoje);
+						}
+
+						@Override
+						public int getBatchSize() {
+							return tamanho;
+						}
+					});
+		}
+
+		jdbc.update("INSERT INTO financas.saldo_mensal (id_usuario, ano, mes, tipo, status, valor, quantidade) "
+				+ "SELECT id_usuario, ano, mes, tipo, status, coalesce(sum(valor), 0), count(*) "
+				+ "FROM financas.lancamento GROUP BY id_usuario, ano, mes, tipo, status");
+		jdbc.update("INSERT INTO financas.saldo_usuario (id_usuario, receitas, despesas) "
+				+ "SELECT id_usuario, coalesce(sum(case when tipo = 'RECEITA' then valor end), 0), "
+				+ "coalesce(sum(case when tipo = 'DESPESA' then valor end), 0) "
+				+ "FROM financas.lancamento GROUP BY id_usuario");
+	}
+
+}
@@ -0,0 +1,57 @@
+package com.leonardo.minhasfinancas.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leonardo.minhasfinancas.api.converter.LancamentoConverter;
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConversaoBenchmark {
+
+	private LancamentoConverter converter;
+	private Lancamento lancamento;
+	private LancamentoDto dto;
+	private Usuario usuario;
+
+	@Setup
+	public void iniciar() {
+		converter = new LancamentoConverter(Amostras.usuarioService());
+		lancamento = Amostras.lancamento();
+		dto = Amostras.lancamentoDto();
+		usuario = Amostras.usuario();
+	}
+
+	@Benchmark
+	public LancamentoDto converterParaDto() {
+		return converter.converter(lancamento);
+	}
+
+	@Benchmark
+	public Lancamento converterParaEntidade() {
+		return converter.converter(dto);
+	}
+
+	@Benchmark
+	public Lancamento converterLinhaDoLote() {
+		return converter.converterLinha(dto, usuario);
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.leonardo.minhasfinancas.benchmarks;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leonardo.minhasfinancas.limite.ArmazenamentoLimiteMemoria;
+import com.leonardo.minhasfinancas.limite.RegraLimite;
+
+/**
+ * Custo do limite de requisições por requisição: consumo do balde de um único
+ * usuário disputado por várias threads e de usuários distintos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class LimiteBenchmark {
+
+	private static final int USUARIOS = 10_000;
+
+	private ArmazenamentoLimiteMemoria armazenamento;
+	private RegraLimite regra;
+	private String[] chaves;
+
+	@Setup
+	public void iniciar() {
+		armazenamento = new ArmazenamentoLimiteMemoria();
+		regra = new RegraLimite(60, 20);
+		chaves = new String[USUARIOS];
+		for (int i = 0; i < USUARIOS; i++) {
+			chaves[i] = "LEITURA:usuario:" + i;
+		}
+	}
+
+	@Benchmark
+	public long mesmoUsuario() {
+		return armazenamento.consumir(chaves[0], regra);
+	}
+
+	@Benchmark
+	public long usuariosDistintos() {
+		return armazenamento.consumir(chaves[ThreadLocalRandom.current().nextInt(USUARIOS)], regra);
+	}
+
+	@Benchmark
+	public boolean entrarESair() {
+		String chave = chaves[ThreadLocalRandom.current().nextInt(USUARIOS)];
+		boolean entrou = armazenamento.entrar(chave, 8);
+		armazenamento.sair(chave);
+		return entrou;
+	}
+
+}
@@ -0,0 +1,68 @@
+package com.leonardo.minhasfinancas.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.task.TaskExecutorBuilder;
+
+import com.leonardo.minhasfinancas.services.impl.SenhaServiceImpl;
+
+/**
+ * Logins por segundo em um núcleo para cada custo do BCrypt: uma thread
+ * chamando o serviço, que usa um pool de uma thread. Serve de base para
+ * escolher {@code minhasfinancas.senha.custo} e {@code .threads}: a vazão de
+ * login da instância é esse valor vezes as threads do pool, até o número de
+ * núcleos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class SenhaBenchmark {
+
+	private static final String SENHA = "palmeirasnaotemmundial";
+
+	@Param({ "8", "10", "12" })
+	public int custo;
+
+	private SenhaServiceImpl senhaService;
+	private String hash;
+
+	@Setup
+	public void iniciar() {
+		senhaService = new SenhaServiceImpl(new TaskExecutorBuilder(), custo, 1, 100, Duration.ofMinutes(1));
+		hash = senhaService.codificar(SENHA);
+	}
+
+	@TearDown
+	public void encerrar() {
+		senhaService.encerrar();
+	}
+
+	@Benchmark
+	public boolean verificarSenha() {
+		return senhaService.confere(SENHA, hash);
+	}
+
+	@Benchmark
+	public String codificarSenha() {
+		return senhaService.codificar(SENHA);
+	}
+
+}
@@ -0,0 +1,69 @@
+package com.leonardo.minhasfinancas.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.model.Lancamento;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+	private ObjectWriter escritorLancamento;
+	private ObjectWriter escritorDto;
+	private ObjectReader leitorDto;
+	private Lancamento lancamento;
+	private LancamentoDto dto;
+	private String json;
+
+	@Setup
+	public void iniciar() throws JsonProcessingException {
+		// Mesma configuração aplicada pelo Spring Boot ao ObjectMapper da API.
+		ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+
+		escritorLancamento = objectMapper.writerFor(Lancamento.class);
+		escritorDto = objectMapper.writerFor(LancamentoDto.class);
+		leitorDto = objectMapper.readerFor(LancamentoDto.class);
+		lancamento = Amostras.lancamento();
+		dto = Amostras.lancamentoDto();
+		json = escritorDto.writeValueAsString(dto);
+	}
+
+	@Benchmark
+	public String serializarLancamento() throws JsonProcessingException {
+		return escritorLancamento.writeValueAsString(lancamento);
+	}
+
+	@Benchmark
+	public String serializarLancamentoDto() throws JsonProcessingException {
+		return escritorDto.writeValueAsString(dto);
+	}
+
+	@Benchmark
+	public LancamentoDto desserializarLancamentoDto() throws JsonProcessingException {
+		return leitorDto.readValue(json);
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.leonardo.minhasfinancas.benchmarks;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.services.impl.TokenServiceImpl;
+
+/**
+ * Custo de emitir e de validar um token, que é o que cada requisição
+ * autenticada paga no lugar da consulta do usuário.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenBenchmark {
+
+	private TokenServiceImpl tokenService;
+	private Usuario usuario;
+	private String token;
+
+	@Setup
+	public void iniciar() {
+		tokenService = new TokenServiceImpl(new ObjectMapper(),
+				"v1:segredo-antigo-com-pelo-menos-32-caracteres,v2:segredo-novo-com-pelo-menos-32-caracteres!!", "v2",
+				Duration.ofHours(8));
+		usuario = Usuario.builder().id(123456L).build();
+		token = tokenService.gerar(usuario);
+	}
+
+	@Benchmark
+	public String gerarToken() {
+		return tokenService.gerar(usuario);
+	}
+
+	@Benchmark
+	public Long validarToken() {
+		return tokenService.validar(token);
+	}
+
+}
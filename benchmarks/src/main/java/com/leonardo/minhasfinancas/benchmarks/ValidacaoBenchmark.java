@@ -0,0 +1,57 @@
+package com.leonardo.minhasfinancas.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.services.impl.LancamentoSeriviceImpl;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidacaoBenchmark {
+
+	private LancamentoSeriviceImpl lancamentoService;
+	private Lancamento valido;
+	private Lancamento semValor;
+
+	@Setup
+	public void iniciar() {
+		// validar não usa as dependências do serviço.
+		lancamentoService = new LancamentoSeriviceImpl(null, null, null, null, null, null, 500);
+		valido = Amostras.lancamento();
+		semValor = Amostras.lancamento();
+		semValor.setValor(null);
+	}
+
+	@Benchmark
+	public Lancamento validarLancamentoValido() {
+		lancamentoService.validar(valido);
+		return valido;
+	}
+
+	@Benchmark
+	public String validarLancamentoInvalido() {
+		try {
+			lancamentoService.validar(semValor);
+			return null;
+		} catch (RegraNegocioException e) {
+			return e.getMessage();
+		}
+	}
+
+}
@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+# Roda a mesma carga de escrita com as configurações padrão e com o perfil
+# performance, salvando em loadtest/resultados o resumo do k6 e as métricas do
+# Hikari: por quanto tempo cada conexão ficou emprestada (usage) e quanto as
+# requisições esperaram por uma (acquire).
+# Requer k6, jq e o PostgreSQL do docker-compose em execução.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=target/minhasfinancas-0.0.1-SNAPSHOT-exec.jar
+PORTA=${PORTA:-8080}
+PORTA_GERENCIA=${PORTA_GERENCIA:-8081}
+mkdir -p loadtest/resultados
+
+[ -f "$JAR" ] || ./mvnw -q package -DskipTests
+
+# Chave descartável: os tokens só precisam valer durante a carga.
+export MINHASFINANCAS_TOKEN_CHAVES="carga:$(openssl rand -hex 32)" MINHASFINANCAS_TOKEN_CHAVE_ATUAL=carga
+
+# Soma as séries de um timer do Hikari (uma por pool) no formato do Prometheus.
+metrica() {
+	awk -v nome="$1" '$1 ~ "^"nome"[{ ]" || $1 == nome { soma += $NF } END { printf "%.6f", soma }' "$2"
+}
+
+for perfil in default performance; do
+	java -jar "$JAR" --server.port="$PORTA" --management.server.port="$PORTA_GERENCIA" \
+		--spring.profiles.active="$perfil" \
+		--minhasfinancas.limite.habilitado=false \
+		> "loadtest/resultados/escritas-$perfil.log" 2>&1 &
+	pid=$!
+	trap 'kill $pid 2>/dev/null || true' EXIT
+
+	until curl -sf "http://localhost:$PORTA/actuator/health" > /dev/null; do sleep 1; done
+
+	k6 run -e BASE_URL="http://localhost:$PORTA" -e VUS="${VUS:-200}" -e DURACAO="${DURACAO:-2m}" \
+		--summary-export "loadtest/resultados/escritas-$perfil.json" loadtest/escritas.js
+	curl -sf "http://localhost:$PORTA_GERENCIA/actuator/prometheus" | grep '^hikaricp_' \
+		> "loadtest/resultados/escritas-$perfil-pool.txt"
+
+	kill "$pid"
+	wait "$pid" 2>/dev/null || true
+done
+
+for perfil in default performance; do
+	pool="loadtest/resultados/escritas-$perfil-pool.txt"
+	usos=$(metrica hikaricp_connections_usage_seconds_count "$pool")
+	espera=$(metrica hikaricp_connections_acquire_seconds_count "$pool")
+	echo "== $perfil"
+	jq '{requisicoes_por_segundo: .metrics.http_reqs.rate, p50: .metrics.http_req_duration["p(50)"],
+		p99: .metrics.http_req_duration["p(99)"], falhas: .metrics.http_req_failed.value}' \
+		"loadtest/resultados/escritas-$perfil.json"
+	awk -v usos="$usos" -v tempo="$(metrica hikaricp_connections_usage_seconds_sum "$pool")" \
+		-v esperas="$espera" -v espera="$(metrica hikaricp_connections_acquire_seconds_sum "$pool")" \
+		'BEGIN { printf "conexao emprestada em media: %.2f ms em %d usos\n", 1000 * tempo / usos, usos;
+			printf "espera media por conexao: %.2f ms\n", 1000 * espera / esperas }'
+done
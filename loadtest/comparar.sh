@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Roda a mesma carga contra a API com o pool bloqueante do Tomcat e com threads
+# virtuais, salvando o resumo do k6 de cada modo em loadtest/resultados.
+# Requer Java 21, k6 e o PostgreSQL do docker-compose em execução.
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+JAR=target/minhasfinancas-0.0.1-SNAPSHOT-exec.jar
+PORTA=${PORTA:-8080}
+mkdir -p loadtest/resultados
+
+[ -f "$JAR" ] || ./mvnw -q package -DskipTests
+
+# Chave descartável: os tokens só precisam valer durante a carga.
+export MINHASFINANCAS_TOKEN_CHAVES="carga:$(openssl rand -hex 32)" MINHASFINANCAS_TOKEN_CHAVE_ATUAL=carga
+
+for modo in bloqueante virtual; do
+	habilitado=false
+	[ "$modo" = virtual ] && habilitado=true
+
+	java -jar "$JAR" --server.port="$PORTA" --minhasfinancas.threads-virtuais.habilitado="$habilitado" \
+		--minhasfinancas.limite.habilitado=false \
+		> "loadtest/resultados/$modo.log" 2>&1 &
+	pid=$!
+	trap 'kill $pid 2>/dev/null || true' EXIT
+
+	until curl -sf "http://localhost:$PORTA/actuator/health" > /dev/null; do sleep 1; done
+
+	k6 run -e BASE_URL="http://localhost:$PORTA" -e VUS="${VUS:-1000}" -e DURACAO="${DURACAO:-2m}" \
+		--summary-export "loadtest/resultados/$modo.json" loadtest/lancamentos.js
+
+	kill "$pid"
+	wait "$pid" 2>/dev/null || true
+done
+
+for modo in bloqueante virtual; do
+	echo "== $modo"
+	jq '{requisicoes_por_segundo: .metrics.http_reqs.rate, p50: .metrics.http_req_duration["p(50)"],
+		p99: .metrics.http_req_duration["p(99)"], falhas: .metrics.http_req_failed.value}' "loadtest/resultados/$modo.json"
+done
@@ -0,0 +1,62 @@
+// Carga de escrita: cria, altera, efetiva e busca lançamentos do usuário do token.
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e VUS=200 escritas.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '200');
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+	scenarios: {
+		escrita: {
+			executor: 'constant-vus',
+			vus: VUS,
+			duration: __ENV.DURACAO || '2m',
+		},
+	},
+	summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+	thresholds: {
+		http_req_failed: ['rate<0.01'],
+	},
+};
+
+// Um usuário por VU, para as escritas não disputarem a mesma linha de saldo.
+export function setup() {
+	const tokens = [];
+	for (let i = 0; i < VUS; i++) {
+		const email = `escrita-${Date.now()}-${i}@email.com`;
+		http.post(`${BASE_URL}/api/usuarios`, JSON.stringify({ nome: 'Escrita', email: email, senha: 'carga' }),
+			{ headers: JSON_HEADERS });
+		tokens.push(http.post(`${BASE_URL}/api/usuarios/autenticar`, JSON.stringify({ email: email, senha: 'carga' }),
+			{ headers: JSON_HEADERS }).json().token);
+	}
+	return { tokens: tokens };
+}
+
+export default function (dados) {
+	const headers = Object.assign({ Authorization: `Bearer ${dados.tokens[(__VU - 1) % dados.tokens.length]}` },
+		JSON_HEADERS);
+	const mes = Math.floor(Math.random() * 12) + 1;
+	const corpo = { descricao: 'Mercado', mes: mes, ano: 2020, valor: 10, tipo: 'DESPESA' };
+
+	const criado = http.post(`${BASE_URL}/api/lancamentos`, JSON.stringify(corpo), { headers: headers, tags: { endpoint: 'salvar' } });
+	check(criado, { 'salvo': (r) => r.status === 201 });
+	if (criado.status !== 201) {
+		return;
+	}
+	const lancamento = criado.json();
+
+	corpo.valor = 12;
+	corpo.status = 'PENDENTE';
+	const atualizado = http.put(`${BASE_URL}/api/lancamentos/${lancamento.id}`, JSON.stringify(corpo),
+		{ headers: Object.assign({ 'If-Match': '"0"' }, headers), tags: { endpoint: 'atualizar' } });
+	check(atualizado, { 'atualizado': (r) => r.status === 200 });
+
+	const efetivado = http.put(`${BASE_URL}/api/lancamentos/${lancamento.id}/atualizar-status`,
+		JSON.stringify({ status: 'EFETIVADO' }), { headers: headers, tags: { endpoint: 'status' } });
+	check(efetivado, { 'efetivado': (r) => r.status === 204 });
+
+	const busca = http.get(`${BASE_URL}/api/lancamentos?ano=2020&mes=${mes}`, { headers: headers, tags: { endpoint: 'buscar' } });
+	check(busca, { 'buscado': (r) => r.status === 200 });
+}
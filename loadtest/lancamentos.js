@@ -0,0 +1,62 @@
+// Carga de leitura sobre os endpoints de lançamentos e usuários.
+// Uso: k6 run -e BASE_URL=http://localhost:8080 -e VUS=1000 lancamentos.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '1000');
+const LANCAMENTOS = parseInt(__ENV.LANCAMENTOS || '12000');
+
+export const options = {
+	scenarios: {
+		leitura: {
+			executor: 'constant-vus',
+			vus: VUS,
+			duration: __ENV.DURACAO || '2m',
+		},
+	},
+	summaryTrendStats: ['avg', 'p(50)', 'p(90)', 'p(99)', 'max'],
+	thresholds: {
+		http_req_failed: ['rate<0.01'],
+	},
+};
+
+// Cria um usuário e carrega os lançamentos pelo endpoint de lote.
+export function setup() {
+	const email = `carga-${Date.now()}@email.com`;
+	const usuario = http.post(`${BASE_URL}/api/usuarios`, JSON.stringify({ nome: 'Carga', email: email, senha: 'carga' }),
+		{ headers: { 'Content-Type': 'application/json' } }).json();
+
+	const linhas = [];
+	for (let i = 0; i < LANCAMENTOS; i++) {
+		linhas.push(JSON.stringify({
+			descricao: `Lancamento ${i}`, mes: (i % 12) + 1, ano: 2020, valor: (i % 500) + 1,
+			tipo: i % 3 === 0 ? 'RECEITA' : 'DESPESA',
+		}));
+	}
+
+	const autenticacao = http.post(`${BASE_URL}/api/usuarios/autenticar`, JSON.stringify({ email: email, senha: 'carga' }),
+		{ headers: { 'Content-Type': 'application/json' } }).json();
+
+	const lote = http.post(`${BASE_URL}/api/lancamentos/lote`, linhas.join('\n'), {
+		headers: { 'Content-Type': 'application/x-ndjson', Authorization: `Bearer ${autenticacao.token}` },
+		timeout: '300s',
+	});
+	check(lote, { 'lote importado': (r) => r.status === 200 });
+
+	return { usuario: usuario.id, token: autenticacao.token };
+}
+
+export default function (dados) {
+	const mes = Math.floor(Math.random() * 12) + 1;
+	const headers = { Authorization: `Bearer ${dados.token}` };
+	const respostas = http.batch([
+		['GET', `${BASE_URL}/api/lancamentos?ano=2020&mes=${mes}`, null, { headers: headers, tags: { endpoint: 'buscar' } }],
+		['GET', `${BASE_URL}/api/lancamentos/pagina?tamanho=50`, null, { headers: headers, tags: { endpoint: 'pagina' } }],
+		['GET', `${BASE_URL}/api/usuarios/${dados.usuario}/saldo`, null, { headers: headers, tags: { endpoint: 'saldo' } }],
+		['GET', `${BASE_URL}/api/usuarios/${dados.usuario}/resumo/mensal?ano=2020`, null,
+			{ headers: headers, tags: { endpoint: 'resumo' } }],
+	]);
+
+	respostas.forEach((r) => check(r, { 'status 200': (res) => res.status === 200 }));
+}
@@ -0,0 +1,17 @@
+package com.leonardo.minhasfinancas.api.autenticacao;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marca o parâmetro {@code Long} que recebe o id do usuário do token enviado
+ * em {@code Authorization: Bearer}. Sem token válido a requisição recebe 401.
+ */
+@Documented
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface UsuarioAutenticado {
+}
@@ -0,0 +1,39 @@
+package com.leonardo.minhasfinancas.api.autenticacao;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+import com.leonardo.minhasfinancas.exceptions.TokenInvalidoException;
+import com.leonardo.minhasfinancas.services.TokenService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class UsuarioAutenticadoResolver implements HandlerMethodArgumentResolver {
+
+	private static final String PREFIXO = "Bearer ";
+
+	private final TokenService tokenService;
+
+	@Override
+	public boolean supportsParameter(MethodParameter parameter) {
+		return parameter.hasParameterAnnotation(UsuarioAutenticado.class)
+				&& Long.class.equals(parameter.getParameterType());
+	}
+
+	@Override
+	public Long resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+			NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+		String autorizacao = webRequest.getHeader(HttpHeaders.AUTHORIZATION);
+		if (autorizacao == null || !autorizacao.regionMatches(true, 0, PREFIXO, 0, PREFIXO.length())) {
+			throw new TokenInvalidoException("Informe o token recebido na autenticação.");
+		}
+		return tokenService.validar(autorizacao.substring(PREFIXO.length()).trim());
+	}
+}
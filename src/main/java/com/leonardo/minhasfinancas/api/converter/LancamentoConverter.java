@@ -0,0 +1,74 @@
+package com.leonardo.minhasfinancas.api.converter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.services.UsuarioService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class LancamentoConverter {
+
+	private final UsuarioService usuarioService;
+
+	public LancamentoDto converter(Lancamento lancamento) {
+		return LancamentoDto.builder().id(lancamento.getId()).descricao(lancamento.getDescricao())
+				.valor(lancamento.getValor()).mes(lancamento.getMes()).ano(lancamento.getAno())
+				.status(lancamento.getStatus().name()).tipo(lancamento.getTipo().name())
+				.usuario(lancamento.getUsuario().getId()).versao(lancamento.getVersao())
+				.recorrencia(lancamento.getIdRecorrencia()).parcela(lancamento.getParcela()).build();
+	}
+
+	public Lancamento converter(LancamentoDto dto) {
+		return converter(dto, usuarioService.obterPorId(dto.getUsuario())
+				.orElseThrow(() -> new RegraNegocioException("Não foi encontrado o usuario (id) informado.")));
+	}
+
+	public Lancamento converter(LancamentoDto dto, Usuario usuario) {
+		Lancamento lancamento = new Lancamento();
+		lancamento.setId(dto.getId());
+		lancamento.setDescricao(dto.getDescricao());
+		lancamento.setAno(dto.getAno());
+		lancamento.setMes(dto.getMes());
+		lancamento.setValor(dto.getValor());
+		if (Optional.ofNullable(dto.getTipo()).isPresent()) {
+			lancamento.setTipo(TipoLancamento.valueOf(dto.getTipo()));
+		}
+		if (Optional.ofNullable(dto.getStatus()).isPresent()) {
+			lancamento.setStatus(StatusLancamento.valueOf(dto.getStatus()));
+		}
+		lancamento.setUsuario(usuario);
+
+		return lancamento;
+
+	}
+
+	/**
+	 * Conversão tolerante usada no lote: valores desconhecidos ficam nulos para
+	 * que a validação do serviço rejeite apenas a linha. O usuário é o do lote,
+	 * não o da linha.
+	 */
+	public Lancamento converterLinha(LancamentoDto dto, Usuario usuario) {
+		Lancamento lancamento = new Lancamento();
+		lancamento.setDescricao(dto.getDescricao());
+		lancamento.setAno(dto.getAno());
+		lancamento.setMes(dto.getMes());
+		lancamento.setValor(dto.getValor());
+		lancamento.setTipo(Arrays.stream(TipoLancamento.values()).filter(t -> t.name().equals(dto.getTipo()))
+				.findFirst().orElse(null));
+		lancamento.setUsuario(usuario);
+
+		return lancamento;
+	}
+
+}
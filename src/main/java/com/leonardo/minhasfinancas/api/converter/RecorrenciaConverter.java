@@ -0,0 +1,43 @@
+package com.leonardo.minhasfinancas.api.converter;
+
+import java.util.Arrays;
+
+import org.springframework.stereotype.Component;
+
+import com.leonardo.minhasfinancas.api.dto.RecorrenciaDto;
+import com.leonardo.minhasfinancas.enums.FrequenciaRecorrencia;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.Recorrencia;
+import com.leonardo.minhasfinancas.model.Usuario;
+
+@Component
+public class RecorrenciaConverter {
+
+	public RecorrenciaDto converter(Recorrencia recorrencia) {
+		return RecorrenciaDto.builder().id(recorrencia.getId()).descricao(recorrencia.getDescricao())
+				.valor(recorrencia.getValor()).usuario(recorrencia.getUsuario().getId())
+				.tipo(recorrencia.getTipo().name()).frequencia(recorrencia.getFrequencia().name())
+				.ano(recorrencia.getAnoInicio()).mes(recorrencia.getMesInicio()).quantidade(recorrencia.getQuantidade())
+				.anoFim(recorrencia.getAnoFim()).mesFim(recorrencia.getMesFim())
+				.ocorrenciasGeradas(recorrencia.getOcorrenciasGeradas()).encerrada(recorrencia.isEncerrada()).build();
+	}
+
+	public Recorrencia converter(RecorrenciaDto dto, Usuario usuario) {
+		Recorrencia recorrencia = new Recorrencia();
+		recorrencia.setDescricao(dto.getDescricao());
+		recorrencia.setValor(dto.getValor());
+		recorrencia.setAnoInicio(dto.getAno());
+		recorrencia.setMesInicio(dto.getMes());
+		recorrencia.setQuantidade(dto.getQuantidade());
+		recorrencia.setAnoFim(dto.getAnoFim());
+		recorrencia.setMesFim(dto.getMesFim());
+		recorrencia.setTipo(Arrays.stream(TipoLancamento.values()).filter(t -> t.name().equals(dto.getTipo()))
+				.findFirst().orElse(null));
+		recorrencia.setFrequencia(Arrays.stream(FrequenciaRecorrencia.values())
+				.filter(f -> f.name().equals(dto.getFrequencia())).findFirst().orElse(null));
+		recorrencia.setUsuario(usuario);
+
+		return recorrencia;
+	}
+
+}
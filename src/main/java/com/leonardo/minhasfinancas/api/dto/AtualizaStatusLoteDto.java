@@ -0,0 +1,22 @@
+package com.leonardo.minhasfinancas.api.dto;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Novo status para uma lista de ids ou para os lançamentos do usuário do token
+ * em um ano/mês, opcionalmente só os que estão em statusAtual.
+ */
+@Getter
+@Setter
+public class AtualizaStatusLoteDto {
+
+	private String status;
+	private List<Long> ids;
+	private Integer ano;
+	private Integer mes;
+	private String statusAtual;
+
+}
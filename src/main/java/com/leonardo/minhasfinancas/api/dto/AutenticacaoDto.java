@@ -0,0 +1,22 @@
+package com.leonardo.minhasfinancas.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutenticacaoDto {
+
+	private Long id;
+	private String nome;
+	private String email;
+	private String token;
+	private String tipo;
+	private Long expiraEmSegundos;
+}
@@ -2,6 +2,9 @@ package com.leonardo.minhasfinancas.api.dto;
 
 import java.math.BigDecimal;
 
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -23,5 +26,17 @@ public class LancamentoDto {
 	private Long usuario;
 	private String tipo;
 	private String status;
+	private Long versao;
+	private Long recorrencia;
+	private Integer parcela;
+
+	/**
+	 * Usado pelas consultas que projetam o lançamento direto no DTO, sem carregar
+	 * a entidade nem o usuário.
+	 */
+	public LancamentoDto(Long id, String descricao, Integer mes, Integer ano, BigDecimal valor, Long usuario,
+			TipoLancamento tipo, StatusLancamento status, Long versao, Long recorrencia, Integer parcela) {
+		this(id, descricao, mes, ano, valor, usuario, tipo.name(), status.name(), versao, recorrencia, parcela);
+	}
 
 }
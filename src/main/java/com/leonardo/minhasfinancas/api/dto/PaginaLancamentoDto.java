@@ -0,0 +1,21 @@
+package com.leonardo.minhasfinancas.api.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaLancamentoDto {
+
+	private List<LancamentoDto> itens;
+	private String proximoCursor;
+
+}
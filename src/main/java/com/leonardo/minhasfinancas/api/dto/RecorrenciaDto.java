@@ -0,0 +1,32 @@
+package com.leonardo.minhasfinancas.api.dto;
+
+import java.math.BigDecimal;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecorrenciaDto {
+
+	private Long id;
+	private String descricao;
+	private BigDecimal valor;
+	private Long usuario;
+	private String tipo;
+	private String frequencia;
+	private Integer ano;
+	private Integer mes;
+	private Integer quantidade;
+	private Integer anoFim;
+	private Integer mesFim;
+	private Integer ocorrenciasGeradas;
+	private boolean encerrada;
+
+}
@@ -0,0 +1,26 @@
+package com.leonardo.minhasfinancas.api.resource;
+
+import java.time.YearMonth;
+
+import org.springframework.http.CacheControl;
+
+/**
+ * ETags e política de cache das leituras por usuário. O cliente pode guardar a
+ * resposta, mas deve revalidá-la a cada uso com {@code If-None-Match}.
+ */
+final class CacheLeitura {
+
+	static final CacheControl POLITICA = CacheControl.noCache().cachePrivate();
+
+	private CacheLeitura() {
+	}
+
+	/**
+	 * Muda a cada escrita nos dados do usuário. Com projeção de recorrências muda
+	 * também com o mês corrente, que define o que já deveria ter sido gerado.
+	 */
+	static String etag(Long idUsuario, long versaoDados, boolean projetar) {
+		String etag = idUsuario + "-" + versaoDados;
+		return projetar ? etag + "-" + YearMonth.now() : etag;
+	}
+}
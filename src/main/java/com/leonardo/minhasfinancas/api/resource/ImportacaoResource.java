@@ -0,0 +1,89 @@
+package com.leonardo.minhasfinancas.api.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.leonardo.minhasfinancas.api.autenticacao.UsuarioAutenticado;
+import com.leonardo.minhasfinancas.enums.FormatoExtrato;
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.ImportacaoExtrato;
+import com.leonardo.minhasfinancas.services.ImportacaoExtratoService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/importacoes")
+@RequiredArgsConstructor
+public class ImportacaoResource {
+
+	private final ImportacaoExtratoService importacaoExtratoService;
+
+	/**
+	 * Recebe um extrato CSV ou OFX do usuário do token e responde assim que ele é
+	 * aceito. O andamento é consultado em {@code GET /api/importacoes/{id}}. Com
+	 * o pool de importações cheio, responde 503 e o cliente deve tentar de novo
+	 * depois.
+	 */
+	@PostMapping
+	public ResponseEntity importar(@RequestParam("arquivo") MultipartFile arquivo, @UsuarioAutenticado Long idUsuario,
+			@RequestParam(value = "formato", required = false) String formato,
+			@RequestParam(value = "charset", defaultValue = "UTF-8") String charset) {
+
+		Optional<FormatoExtrato> formatoExtrato = formato != null ? converterFormato(formato)
+				: Optional.ofNullable(arquivo.getOriginalFilename()).map(nome -> nome.substring(nome.lastIndexOf('.') + 1))
+						.flatMap(this::converterFormato);
+		if (formatoExtrato.isEmpty()) {
+			return ResponseEntity.badRequest().body("Informe o formato do extrato: CSV ou OFX.");
+		}
+
+		Charset codificacao;
+		try {
+			codificacao = Charset.forName(charset);
+		} catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+			return ResponseEntity.badRequest().body("Codificação de caracteres inválida: " + charset);
+		}
+
+		try (InputStream conteudo = arquivo.getInputStream()) {
+			ImportacaoExtrato importacao = importacaoExtratoService.iniciar(idUsuario, formatoExtrato.get(),
+					codificacao, conteudo);
+			return ResponseEntity.accepted().location(URI.create("/api/importacoes/" + importacao.getId()))
+					.body(importacao);
+		} catch (RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		} catch (TaskRejectedException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5")
+					.body(e.getMessage());
+		} catch (IOException e) {
+			return ResponseEntity.badRequest().body("Não foi possível ler o arquivo enviado.");
+		}
+	}
+
+	@GetMapping("/{id}")
+	public ResponseEntity obterImportacao(@PathVariable("id") UUID id, @UsuarioAutenticado Long idUsuario) {
+		return importacaoExtratoService.obter(id).filter(i -> i.getIdUsuario().equals(idUsuario))
+				.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
+	}
+
+	private Optional<FormatoExtrato> converterFormato(String formato) {
+		return Arrays.stream(FormatoExtrato.values()).filter(f -> f.name().equalsIgnoreCase(formato)).findFirst();
+	}
+}
@@ -1,9 +1,26 @@
 package com.leonardo.minhasfinancas.api.resource;
 
-import java.time.ZonedDateTime;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,18 +28,36 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.RuntimeJsonMappingException;
+import com.leonardo.minhasfinancas.api.autenticacao.UsuarioAutenticado;
+import com.leonardo.minhasfinancas.api.converter.LancamentoConverter;
 import com.leonardo.minhasfinancas.api.dto.AtualizaStatusDto;
+import com.leonardo.minhasfinancas.api.dto.AtualizaStatusLoteDto;
 import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.api.dto.PaginaLancamentoDto;
+import com.leonardo.minhasfinancas.enums.FormatoExportacao;
 import com.leonardo.minhasfinancas.enums.StatusLancamento;
 import com.leonardo.minhasfinancas.enums.TipoLancamento;
 import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.CursorLancamento;
 import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.ResultadoImportacao;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.services.BuscaDescricaoService;
+import com.leonardo.minhasfinancas.services.ExportacaoService;
 import com.leonardo.minhasfinancas.services.LancamentoService;
-import com.leonardo.minhasfinancas.services.UsuarioService;
+import com.leonardo.minhasfinancas.services.RecorrenciaService;
+import com.leonardo.minhasfinancas.services.VersaoDadosService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,13 +66,26 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class LancamentoResource {
 
+	private static final int TAMANHO_MAXIMO_PAGINA = 500;
+	private static final int LIMITE_MAXIMO_BUSCA = 100;
+	private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
 	private final LancamentoService lancamentoService;
-	private final UsuarioService usuarioService;
+	private final BuscaDescricaoService buscaDescricaoService;
+	private final ObjectMapper objectMapper;
+	private final LancamentoConverter lancamentoConverter;
+	private final RecorrenciaService recorrenciaService;
+	private final ExportacaoService exportacaoService;
+	private final VersaoDadosService versaoDadosService;
 
+	/**
+	 * O lançamento é gravado para o usuário do token; o campo {@code usuario} do
+	 * corpo é ignorado.
+	 */
 	@PostMapping
-	public ResponseEntity salvar(@RequestBody LancamentoDto lancamentoDto) {
+	public ResponseEntity salvar(@RequestBody LancamentoDto lancamentoDto, @UsuarioAutenticado Long idUsuario) {
 		try {
-			Lancamento entidade = converter(lancamentoDto);
+			Lancamento entidade = lancamentoConverter.converter(lancamentoDto, Usuario.builder().id(idUsuario).build());
 			lancamentoService.salvar(entidade);
 
 			return new ResponseEntity<Lancamento>(entidade, HttpStatus.CREATED);
@@ -46,101 +94,336 @@ public class LancamentoResource {
 		}
 	}
 
-	@PutMapping("/{id}")
-	public ResponseEntity atualizar(@PathVariable("id") Long id, @RequestBody LancamentoDto lancamentoDto) {
-		return lancamentoService.buscarPorId(id).map(l -> {
-			try {
-				Lancamento lancamento = converter(lancamentoDto);
-				lancamento.setId(l.getId());
-				lancamento.setDataCadastro(ZonedDateTime.now());
-				lancamentoService.atualizar(lancamento);
-				return ResponseEntity.ok(lancamento);
-			} catch (RegraNegocioException e) {
-				return ResponseEntity.badRequest().body(e.getMessage());
+	/**
+	 * Recebe um array JSON ou um lançamento JSON por linha (NDJSON). O corpo é
+	 * lido à medida que os lotes são gravados, sem carregar todo o arquivo, e
+	 * cada lote é confirmado ao ser gravado. Todas as linhas são do usuário do
+	 * token.
+	 */
+	@PostMapping(value = "/lote", consumes = { MediaType.APPLICATION_JSON_VALUE, APPLICATION_NDJSON_VALUE })
+	public ResponseEntity salvarLote(InputStream corpo, @UsuarioAutenticado Long idUsuario) {
+		Usuario usuario = Usuario.builder().id(idUsuario).build();
+		ResultadoImportacao resultado = new ResultadoImportacao();
+
+		try (MappingIterator<LancamentoDto> dtos = objectMapper.readerFor(LancamentoDto.class).readValues(corpo)) {
+			Iterator<Lancamento> lancamentos = StreamSupport
+					.stream(Spliterators.spliteratorUnknownSize(dtos, Spliterator.ORDERED), false)
+					.map(dto -> lancamentoConverter.converterLinha(dto, usuario)).iterator();
+
+			lancamentoService.importarLote(lancamentos, resultado);
+			return ResponseEntity.ok(resultado);
+		} catch (JsonProcessingException e) {
+			return loteInvalido(e, resultado);
+		} catch (RuntimeException e) {
+			// O MappingIterator embrulha os erros de leitura encontrados no meio do corpo.
+			if (e instanceof RuntimeJsonMappingException || e.getCause() instanceof JsonProcessingException) {
+				return loteInvalido(e, resultado);
 			}
-		}).orElseThrow(() -> new RegraNegocioException("Lançamento não encontrado na base de dados;"));
+			throw e;
+		} catch (IOException e) {
+			return ResponseEntity.badRequest().body("Não foi possível ler o lote: " + e.getMessage());
+		}
+	}
+
+	private ResponseEntity loteInvalido(Exception e, ResultadoImportacao resultado) {
+		return ResponseEntity.badRequest().body("Conteúdo do lote inválido após a linha " + resultado.getRecebidos()
+				+ ", " + resultado.getImportados() + " lançamentos já foram importados: " + e.getMessage());
+	}
+
+	/**
+	 * Com If-Match a atualização só acontece se o lançamento ainda estiver na
+	 * versão informada (ETag devolvido pelo GET); sem ele vale a versão atual.
+	 * Nesta e nas demais operações por id, o lançamento de outro usuário é
+	 * tratado como inexistente.
+	 */
+	@PutMapping("/{id}")
+	public ResponseEntity atualizar(@PathVariable("id") Long id, @RequestBody LancamentoDto lancamentoDto,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+			@UsuarioAutenticado Long idUsuario) {
+		try {
+			Lancamento lancamento = lancamentoConverter.converter(lancamentoDto,
+					Usuario.builder().id(idUsuario).build());
+			return lancamentoService.atualizar(id, idUsuario, versaoEsperada(ifMatch), lancamento)
+					.<ResponseEntity>map(salvo -> ResponseEntity.ok().eTag(String.valueOf(salvo.getVersao()))
+							.body(lancamentoConverter.converter(salvo)))
+					.orElseGet(() -> ResponseEntity.badRequest().body("Lançamento não encontrado na base de dados"));
+		} catch (RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		} catch (OptimisticLockingFailureException e) {
+			return versaoDesatualizada();
+		}
 	}
 
 	@PutMapping("/{id}/atualizar-status")
-	public ResponseEntity atualizarStatus(@PathVariable("id") Long id, @RequestBody AtualizaStatusDto dto) {
-		return lancamentoService.buscarPorId(id).map(lancamento -> {
-			StatusLancamento statusSelecionado = StatusLancamento.valueOf(dto.getStatus());
+	public ResponseEntity atualizarStatus(@PathVariable("id") Long id, @RequestBody AtualizaStatusDto dto,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+			@UsuarioAutenticado Long idUsuario) {
+		Optional<StatusLancamento> statusSelecionado = status(dto.getStatus());
 
-			if (statusSelecionado == null) {
-				return ResponseEntity.badRequest()
-						.body("Não foi possivel atualizar o status do lançamento. Envie o status valido");
-			}
+		if (statusSelecionado.isEmpty()) {
+			return ResponseEntity.badRequest()
+					.body("Não foi possivel atualizar o status do lançamento. Envie o status valido");
+		}
+
+		try {
+			Long versao = lancamentoService.atualizarStatus(id, idUsuario, statusSelecionado.get(),
+					versaoEsperada(ifMatch));
+			return ResponseEntity.noContent().eTag(String.valueOf(versao)).build();
+		} catch (RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		} catch (OptimisticLockingFailureException e) {
+			return versaoDesatualizada();
+		}
+	}
+
+	/**
+	 * Altera o status de vários lançamentos do usuário do token de uma vez, pelos
+	 * ids ou pelo filtro de ano, mês e status atual. Devolve quantos foram
+	 * alterados.
+	 */
+	@PutMapping("/atualizar-status")
+	public ResponseEntity atualizarStatusEmLote(@RequestBody AtualizaStatusLoteDto dto,
+			@UsuarioAutenticado Long idUsuario) {
+		Optional<StatusLancamento> statusSelecionado = status(dto.getStatus());
+		Optional<StatusLancamento> statusAtual = status(dto.getStatusAtual());
 
-			try {
-				lancamento.setStatus(statusSelecionado);
-				lancamentoService.atualizar(lancamento);
-				return ResponseEntity.ok(lancamento);
-			} catch (RegraNegocioException e) {
-				return ResponseEntity.badRequest().body(e.getMessage());
+		if (statusSelecionado.isEmpty() || (dto.getStatusAtual() != null && statusAtual.isEmpty())) {
+			return ResponseEntity.badRequest()
+					.body("Não foi possivel atualizar o status dos lançamentos. Envie o status valido");
+		}
+		if (dto.getIds() != null && (dto.getAno() != null || dto.getMes() != null)) {
+			return ResponseEntity.badRequest().body("Informe os ids ou o filtro dos lançamentos, não ambos.");
+		}
+
+		try {
+			int atualizados;
+			if (dto.getIds() != null) {
+				atualizados = lancamentoService.atualizarStatusEmLote(dto.getIds(), idUsuario, statusSelecionado.get());
+			} else {
+				Lancamento filtro = new Lancamento();
+				filtro.setAno(dto.getAno());
+				filtro.setMes(dto.getMes());
+				filtro.setStatus(statusAtual.orElse(null));
+				filtro.setUsuario(Usuario.builder().id(idUsuario).build());
+				atualizados = lancamentoService.atualizarStatusEmLote(filtro, statusSelecionado.get());
 			}
-		}).orElseGet(() -> new ResponseEntity("Lancamento não encontrado na base de dados", HttpStatus.BAD_REQUEST));
+			return ResponseEntity.ok(Collections.singletonMap("atualizados", atualizados));
+		} catch (RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+
+	private static boolean pertence(Lancamento lancamento, Long idUsuario) {
+		return lancamento.getUsuario().getId().equals(idUsuario);
+	}
+
+	private Optional<StatusLancamento> status(String status) {
+		return Arrays.stream(StatusLancamento.values()).filter(s -> s.name().equals(status)).findFirst();
+	}
+
+	/**
+	 * Lê a versão de um If-Match ("3", W/"3" ou *). Nulo quando qualquer versão
+	 * serve.
+	 */
+	private Long versaoEsperada(String ifMatch) {
+		if (ifMatch == null || ifMatch.trim().equals("*")) {
+			return null;
+		}
+
+		String versao = ifMatch.trim();
+		if (versao.startsWith("W/")) {
+			versao = versao.substring(2);
+		}
+		try {
+			return Long.valueOf(versao.replace("\"", ""));
+		} catch (NumberFormatException e) {
+			throw new RegraNegocioException("Cabeçalho If-Match inválido, envie o ETag recebido do lançamento.");
+		}
+	}
+
+	private ResponseEntity versaoDesatualizada() {
+		return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+				.body("O lançamento foi alterado por outra requisição. Consulte a versão atual e tente novamente.");
 	}
 
 	@DeleteMapping("/{id}")
-	public ResponseEntity deletar(@PathVariable("id") Long id) {
-		return lancamentoService.buscarPorId(id).map(lancamento -> {
-			lancamentoService.deletar(lancamento);
+	public ResponseEntity deletar(@PathVariable("id") Long id, @UsuarioAutenticado Long idUsuario) {
+		if (lancamentoService.deletar(id, idUsuario)) {
 			return new ResponseEntity(HttpStatus.NO_CONTENT);
-		}).orElseGet(() -> new ResponseEntity("Lancamento não encontrado na base de dados", HttpStatus.BAD_REQUEST));
+		}
+		return new ResponseEntity("Lancamento não encontrado na base de dados", HttpStatus.BAD_REQUEST);
 	}
 
+	/**
+	 * O ETag é a versão do lançamento, a mesma aceita no If-Match. Com
+	 * If-None-Match atual a resposta é 304 depois de consultar só a versão.
+	 */
 	@GetMapping("/{id}")
-	public ResponseEntity obterLancamento(@PathVariable("id") Long id) {
-		return lancamentoService.buscarPorId(id)
-				.map(lancamento -> new ResponseEntity(converter(lancamento), HttpStatus.OK))
+	public ResponseEntity obterLancamento(@PathVariable("id") Long id, @UsuarioAutenticado Long idUsuario,
+			WebRequest request) {
+		Optional<Long> versao = lancamentoService.obterVersao(id, idUsuario);
+		if (versao.isEmpty()) {
+			return new ResponseEntity(HttpStatus.NOT_FOUND);
+		}
+		if (request.checkNotModified(String.valueOf(versao.get()))) {
+			return null;
+		}
+
+		return lancamentoService.buscarPorId(id).filter(l -> pertence(l, idUsuario))
+				.map(lancamento -> ResponseEntity.ok().eTag(String.valueOf(lancamento.getVersao()))
+						.cacheControl(CacheLeitura.POLITICA).varyBy(HttpHeaders.AUTHORIZATION)
+						.body(lancamentoConverter.converter(lancamento)))
 				.orElseGet(() -> new ResponseEntity(HttpStatus.NOT_FOUND));
 	}
 
+	/**
+	 * Busca os lançamentos do usuário do token. Com {@code projetar=true} inclui,
+	 * sem id, as ocorrências de recorrências do mês que ainda não foram geradas
+	 * como lançamentos. Com If-None-Match atual responde 304 sem consultar os
+	 * lançamentos.
+	 */
 	@GetMapping
 	public ResponseEntity buscar(@RequestParam(value = "descricao", required = false) String descricao,
 			@RequestParam(value = "mes", required = false) Integer mes,
-			@RequestParam(value = "ano", required = false) Integer ano, @RequestParam("usuario") Long idUsuario) {
+			@RequestParam(value = "ano", required = false) Integer ano, @UsuarioAutenticado Long idUsuario,
+			@RequestParam(value = "projetar", defaultValue = "false") boolean projetar, WebRequest request) {
+
+		var versaoDados = versaoDadosService.obter(idUsuario);
+		if (versaoDados.isEmpty()) {
+			return ResponseEntity.badRequest().body("Nao foi possivel realizar a consulta. Usuario não encontrado.");
+		}
+		String etag = CacheLeitura.etag(idUsuario, versaoDados.get(), projetar);
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
 
 		Lancamento lancamentoFiltro = new Lancamento();
 		lancamentoFiltro.setDescricao(descricao);
 		lancamentoFiltro.setMes(mes);
 		lancamentoFiltro.setAno(ano);
+		// O token já garante o usuário; a busca filtra apenas pelo id.
+		lancamentoFiltro.setUsuario(Usuario.builder().id(idUsuario).build());
 
-		var usuario = usuarioService.obterPorId(idUsuario);
-		if (usuario.isEmpty()) {
-			return ResponseEntity.badRequest().body("Nao foi possivel realizar a consulta. Usuario não encontrado.");
-		} else {
-			lancamentoFiltro.setUsuario(usuario.get());
+		var resposta = ResponseEntity.ok().eTag(etag).cacheControl(CacheLeitura.POLITICA)
+				.varyBy(HttpHeaders.AUTHORIZATION);
+		if (!projetar) {
+			return resposta.body(lancamentoService.buscarDto(lancamentoFiltro));
 		}
 
-		return ResponseEntity.ok(lancamentoService.buscar(lancamentoFiltro));
+		try {
+			List<LancamentoDto> lancamentos = new ArrayList<>(lancamentoService.buscarDto(lancamentoFiltro));
+			lancamentos.addAll(recorrenciaService.projetar(lancamentoFiltro));
+			return resposta.body(lancamentos);
+		} catch (RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+
+	/**
+	 * Exporta os lançamentos do usuário do token no filtro da busca em CSV ou
+	 * XLSX, escrevendo na resposta à medida que as linhas são lidas do banco.
+	 * O tipo de retorno precisa ser declarado para o Spring tratar o corpo como
+	 * resposta assíncrona; por isso os erros também saem como corpo escrito.
+	 */
+	@GetMapping("/exportar")
+	public ResponseEntity<StreamingResponseBody> exportar(@RequestParam(value = "descricao", required = false) String descricao,
+			@RequestParam(value = "mes", required = false) Integer mes,
+			@RequestParam(value = "ano", required = false) Integer ano, @UsuarioAutenticado Long idUsuario,
+			@RequestParam(value = "tipo", required = false) String tipo,
+			@RequestParam(value = "status", required = false) String status,
+			@RequestParam(value = "formato", defaultValue = "CSV") String formato) {
+
+		Optional<FormatoExportacao> formatoSelecionado = Arrays.stream(FormatoExportacao.values())
+				.filter(f -> f.name().equalsIgnoreCase(formato)).findFirst();
+		if (formatoSelecionado.isEmpty()) {
+			return exportacaoInvalida("Informe o formato CSV ou XLSX.");
+		}
+
+		Optional<TipoLancamento> tipoSelecionado = Arrays.stream(TipoLancamento.values())
+				.filter(t -> t.name().equals(tipo)).findFirst();
+		Optional<StatusLancamento> statusSelecionado = status(status);
+		if ((tipo != null && tipoSelecionado.isEmpty()) || (status != null && statusSelecionado.isEmpty())) {
+			return exportacaoInvalida("Informe um tipo e um status de lançamento validos.");
+		}
+
+		Lancamento lancamentoFiltro = new Lancamento();
+		lancamentoFiltro.setDescricao(descricao);
+		lancamentoFiltro.setMes(mes);
+		lancamentoFiltro.setAno(ano);
+		lancamentoFiltro.setTipo(tipoSelecionado.orElse(null));
+		lancamentoFiltro.setStatus(statusSelecionado.orElse(null));
+		lancamentoFiltro.setUsuario(Usuario.builder().id(idUsuario).build());
+
+		StreamingResponseBody corpo = saida -> exportacaoService.exportar(lancamentoFiltro, formatoSelecionado.get(),
+				saida);
+		return ResponseEntity.ok().contentType(MediaType.parseMediaType(formatoSelecionado.get().getTipoConteudo()))
+				.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.builder("attachment")
+						.filename("lancamentos." + formatoSelecionado.get().getExtensao()).build().toString())
+				.body(corpo);
 	}
 
-	private LancamentoDto converter(Lancamento lancamento) {
-		return LancamentoDto.builder().id(lancamento.getId()).descricao(lancamento.getDescricao())
-				.valor(lancamento.getValor()).mes(lancamento.getMes()).ano(lancamento.getAno())
-				.status(lancamento.getStatus().name()).tipo(lancamento.getTipo().name())
-				.usuario(lancamento.getUsuario().getId()).build();
+	private ResponseEntity<StreamingResponseBody> exportacaoInvalida(String mensagem) {
+		return ResponseEntity.badRequest().contentType(MediaType.TEXT_PLAIN)
+				.body(saida -> saida.write(mensagem.getBytes(StandardCharsets.UTF_8)));
 	}
 
-	private Lancamento converter(LancamentoDto dto) {
-		Lancamento lancamento = new Lancamento();
-		lancamento.setId(dto.getId());
-		lancamento.setDescricao(dto.getDescricao());
-		lancamento.setAno(dto.getAno());
-		lancamento.setMes(dto.getMes());
-		lancamento.setValor(dto.getValor());
-		if (Optional.ofNullable(dto.getTipo()).isPresent()) {
-			lancamento.setTipo(TipoLancamento.valueOf(dto.getTipo()));
+	@GetMapping("/pagina")
+	public ResponseEntity buscarPagina(@RequestParam(value = "descricao", required = false) String descricao,
+			@RequestParam(value = "mes", required = false) Integer mes,
+			@RequestParam(value = "ano", required = false) Integer ano, @UsuarioAutenticado Long idUsuario,
+			@RequestParam(value = "cursor", required = false) String cursor,
+			@RequestParam(value = "tamanho", defaultValue = "50") int tamanho,
+			@RequestParam(value = "ordem", defaultValue = "ASC") String ordem) {
+
+		if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+			return ResponseEntity.badRequest()
+					.body("Informe um tamanho de página entre 1 e " + TAMANHO_MAXIMO_PAGINA + ".");
 		}
-		if (Optional.ofNullable(dto.getStatus()).isPresent()) {
-			lancamento.setStatus(StatusLancamento.valueOf(dto.getStatus()));
+
+		Optional<Sort.Direction> direcao = Sort.Direction.fromOptionalString(ordem);
+		if (direcao.isEmpty()) {
+			return ResponseEntity.badRequest().body("Informe a ordem ASC ou DESC.");
 		}
-		lancamento.setUsuario(usuarioService.obterPorId(dto.getUsuario())
-				.orElseThrow(() -> new RegraNegocioException("Não foi encontrado o usuario (id) informado.")));
 
-		return lancamento;
+		Lancamento lancamentoFiltro = new Lancamento();
+		lancamentoFiltro.setDescricao(descricao);
+		lancamentoFiltro.setMes(mes);
+		lancamentoFiltro.setAno(ano);
+		lancamentoFiltro.setUsuario(Usuario.builder().id(idUsuario).build());
+
+		try {
+			CursorLancamento posicao = cursor == null ? null : CursorLancamento.decodificar(cursor);
+			Slice<Lancamento> pagina = lancamentoService.buscar(lancamentoFiltro, posicao, direcao.get(), tamanho);
+
+			String proximoCursor = null;
+			if (pagina.hasNext()) {
+				proximoCursor = CursorLancamento.de(pagina.getContent().get(pagina.getNumberOfElements() - 1))
+						.codificar();
+			}
 
+			return ResponseEntity.ok(PaginaLancamentoDto.builder()
+					.itens(pagina.getContent().stream().map(lancamentoConverter::converter)
+							.collect(Collectors.toList()))
+					.proximoCursor(proximoCursor).build());
+		} catch (RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+
+	@GetMapping("/busca")
+	public ResponseEntity buscarPorDescricao(@RequestParam("texto") String texto,
+			@UsuarioAutenticado Long idUsuario, @RequestParam(value = "limite", defaultValue = "20") int limite) {
+
+		if (limite < 1 || limite > LIMITE_MAXIMO_BUSCA) {
+			return ResponseEntity.badRequest().body("Informe um limite entre 1 e " + LIMITE_MAXIMO_BUSCA + ".");
+		}
+
+		try {
+			return ResponseEntity.ok(buscaDescricaoService.buscar(idUsuario, texto, limite).stream()
+					.map(lancamentoConverter::converter).collect(Collectors.toList()));
+		} catch (RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
 	}
 
 }
@@ -0,0 +1,73 @@
+package com.leonardo.minhasfinancas.api.resource;
+
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.leonardo.minhasfinancas.api.autenticacao.UsuarioAutenticado;
+import com.leonardo.minhasfinancas.api.converter.RecorrenciaConverter;
+import com.leonardo.minhasfinancas.api.dto.RecorrenciaDto;
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.services.RecorrenciaService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/recorrencias")
+@RequiredArgsConstructor
+public class RecorrenciaResource {
+
+	private final RecorrenciaService recorrenciaService;
+	private final RecorrenciaConverter recorrenciaConverter;
+
+	/**
+	 * A recorrência é gravada para o usuário do token; o campo {@code usuario} do
+	 * corpo é ignorado.
+	 */
+	@PostMapping
+	public ResponseEntity salvar(@RequestBody RecorrenciaDto dto, @UsuarioAutenticado Long idUsuario) {
+		try {
+			var recorrencia = recorrenciaService
+					.salvar(recorrenciaConverter.converter(dto, Usuario.builder().id(idUsuario).build()));
+			return new ResponseEntity(recorrenciaConverter.converter(recorrencia), HttpStatus.CREATED);
+		} catch (RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+
+	@GetMapping
+	public ResponseEntity buscar(@UsuarioAutenticado Long idUsuario) {
+		return ResponseEntity.ok(recorrenciaService.buscarPorUsuario(idUsuario).stream()
+				.map(recorrenciaConverter::converter).collect(Collectors.toList()));
+	}
+
+	@GetMapping("/{id}")
+	public ResponseEntity obterRecorrencia(@PathVariable("id") Long id, @UsuarioAutenticado Long idUsuario) {
+		return recorrenciaService.buscarPorId(id).filter(r -> r.getUsuario().getId().equals(idUsuario))
+				.map(r -> ResponseEntity.ok(recorrenciaConverter.converter(r)))
+				.orElseGet(() -> new ResponseEntity(HttpStatus.NOT_FOUND));
+	}
+
+	/**
+	 * Encerra a recorrência: as ocorrências já geradas continuam como
+	 * lançamentos, e nenhuma outra é gerada ou projetada.
+	 */
+	@DeleteMapping("/{id}")
+	public ResponseEntity encerrar(@PathVariable("id") Long id, @UsuarioAutenticado Long idUsuario) {
+		try {
+			recorrenciaService.encerrar(id, idUsuario);
+			return new ResponseEntity(HttpStatus.NO_CONTENT);
+		} catch (RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.leonardo.minhasfinancas.api.resource;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Única verificação exposta na porta pública, para o balanceador. Os endpoints
+ * do actuator ficam em {@code management.server.port}, que escuta só na
+ * interface interna. Responde apenas o status, sem os detalhes.
+ */
+@RestController
+@RequiredArgsConstructor
+public class SaudeResource {
+
+	private final HealthEndpoint healthEndpoint;
+
+	@GetMapping("/actuator/health")
+	public ResponseEntity<Map<String, String>> saude() {
+		Status status = healthEndpoint.health().getStatus();
+		HttpStatus http = Status.UP.equals(status) ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+		return ResponseEntity.status(http).body(Map.of("status", status.getCode()));
+	}
+}
@@ -1,5 +1,10 @@
 package com.leonardo.minhasfinancas.api.resource;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -7,14 +12,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.leonardo.minhasfinancas.api.autenticacao.UsuarioAutenticado;
+import com.leonardo.minhasfinancas.api.dto.AutenticacaoDto;
 import com.leonardo.minhasfinancas.api.dto.UsuarioDto;
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
 import com.leonardo.minhasfinancas.exceptions.ErroAutenticacaoException;
 import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
 import com.leonardo.minhasfinancas.model.Usuario;
 import com.leonardo.minhasfinancas.services.LancamentoService;
+import com.leonardo.minhasfinancas.services.RecorrenciaService;
+import com.leonardo.minhasfinancas.services.SaldoService;
+import com.leonardo.minhasfinancas.services.TokenService;
 import com.leonardo.minhasfinancas.services.UsuarioService;
+import com.leonardo.minhasfinancas.services.VersaoDadosService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -25,18 +39,39 @@ public class UsuarioResource {
 
 	private final UsuarioService usuarioService;
 	private final LancamentoService lancamentoService;
+	private final SaldoService saldoService;
+	private final RecorrenciaService recorrenciaService;
+	private final TokenService tokenService;
+	private final VersaoDadosService versaoDadosService;
 
+	/**
+	 * Devolve o token a ser enviado em {@code Authorization: Bearer} nas
+	 * requisições seguintes.
+	 */
 	@PostMapping("/autenticar")
 	public ResponseEntity autenticar(@RequestBody UsuarioDto dto) {
 		try {
 			var usuario = usuarioService.autenticaUsuario(dto.getEmail(), dto.getSenha());
-			return ResponseEntity.ok(usuario);
+			return ResponseEntity.ok(AutenticacaoDto.builder().id(usuario.getId()).nome(usuario.getNome())
+					.email(usuario.getEmail()).token(tokenService.gerar(usuario)).tipo("Bearer")
+					.expiraEmSegundos(tokenService.getValidadeSegundos()).build());
 		} catch (ErroAutenticacaoException ex) {
 			return ResponseEntity.badRequest().body(ex.getMessage());
+		} catch (TaskRejectedException ex) {
+			return sobrecarregado();
 		}
 
 	}
 
+	/**
+	 * O hash da senha roda em um pool limitado; com ele cheio, o cliente deve
+	 * tentar de novo em instantes.
+	 */
+	private ResponseEntity sobrecarregado() {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+				.body("Muitas autenticações em andamento. Tente novamente em instantes.");
+	}
+
 	@PostMapping
 	public ResponseEntity salvar(@RequestBody UsuarioDto dto) {
 		var usuario = Usuario.builder().nome(dto.getNome()).email(dto.getEmail()).senha(dto.getSenha()).build();
@@ -46,16 +81,69 @@ public class UsuarioResource {
 			return new ResponseEntity(usuarioSalvo, HttpStatus.CREATED);
 		} catch (RegraNegocioException ex) {
 			return ResponseEntity.badRequest().body(ex.getMessage());
+		} catch (TaskRejectedException ex) {
+			return sobrecarregado();
 		}
 	}
 
+	/**
+	 * Com {@code projetar=true} (e o ano) soma também as ocorrências de
+	 * recorrências até o período que ainda não foram geradas. Com If-None-Match
+	 * atual responde 304 sem calcular o saldo. O saldo e os resumos só são
+	 * mostrados ao próprio usuário do token; para os demais, 404.
+	 */
 	@GetMapping("/{id}/saldo")
-	public ResponseEntity obterSaldo(@PathVariable("id") final Long id) {
-		var usuario = usuarioService.obterPorId(id);
+	public ResponseEntity obterSaldo(@PathVariable("id") final Long id,
+			@RequestParam(value = "status", required = false) final List<StatusLancamento> status,
+			@RequestParam(value = "ano", required = false) final Integer ano,
+			@RequestParam(value = "mes", required = false) final Integer mes,
+			@RequestParam(value = "projetar", defaultValue = "false") final boolean projetar,
+			@UsuarioAutenticado final Long idUsuario, final WebRequest request) {
+		var versaoDados = id.equals(idUsuario) ? versaoDadosService.obter(id) : Optional.<Long>empty();
+
+		if (versaoDados.isEmpty()) {
+			return new ResponseEntity(HttpStatus.NOT_FOUND);
+		}
+
+		String etag = CacheLeitura.etag(id, versaoDados.get(), projetar);
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		var resposta = ResponseEntity.ok().eTag(etag).cacheControl(CacheLeitura.POLITICA)
+				.varyBy(HttpHeaders.AUTHORIZATION);
+
+		if (status == null && ano == null && mes == null && !projetar) {
+			return resposta.body(lancamentoService.obterSaldoPorUsuario(id));
+		}
+
+		try {
+			if (projetar) {
+				return resposta.body(saldoService.obterSaldo(id, status, ano, mes)
+						.add(recorrenciaService.projetarSaldo(id, status, ano, mes)));
+			}
+			return resposta.body(saldoService.obterSaldo(id, status, ano, mes));
+		} catch (RegraNegocioException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+
+	@GetMapping("/{id}/resumo/mensal")
+	public ResponseEntity obterResumoMensal(@PathVariable("id") final Long id, @RequestParam("ano") final Integer ano,
+			@RequestParam(value = "status", required = false) final List<StatusLancamento> status,
+			@UsuarioAutenticado final Long idUsuario) {
+		if (!id.equals(idUsuario) || usuarioService.obterPorId(id).isEmpty()) {
+			return new ResponseEntity(HttpStatus.NOT_FOUND);
+		}
+		return ResponseEntity.ok(saldoService.obterResumoMensal(id, ano, status));
+	}
 
-		if (usuario.isEmpty()) {
+	@GetMapping("/{id}/resumo/anual")
+	public ResponseEntity obterResumoAnual(@PathVariable("id") final Long id,
+			@RequestParam(value = "status", required = false) final List<StatusLancamento> status,
+			@UsuarioAutenticado final Long idUsuario) {
+		if (!id.equals(idUsuario) || usuarioService.obterPorId(id).isEmpty()) {
 			return new ResponseEntity(HttpStatus.NOT_FOUND);
 		}
-		return ResponseEntity.ok(lancamentoService.obterSaldoPorUsuario(id));
+		return ResponseEntity.ok(saldoService.obterResumoAnual(id, status));
 	}
 }
@@ -0,0 +1,64 @@
+package com.leonardo.minhasfinancas.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.leonardo.minhasfinancas.replica.DataSourceRoteado;
+import com.leonardo.minhasfinancas.replica.JanelaEscrita;
+import com.leonardo.minhasfinancas.replica.ReplicasLeitura;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Substitui o DataSource do Spring Boot por um que envia as transações somente
+ * leitura para as réplicas em {@code minhasfinancas.replicas.urls}. O Flyway
+ * continua migrando só o primário; as réplicas recebem o esquema pela
+ * replicação.
+ * <p>
+ * Exige {@code spring.jpa.open-in-view=false}: com o open-in-view a conexão
+ * escolhida na primeira transação da requisição fica presa ao EntityManager
+ * até o fim dela, e uma escrita depois de uma leitura iria para a réplica.
+ */
+@Configuration
+@ConditionalOnProperty(name = "minhasfinancas.replicas.habilitado", havingValue = "true")
+public class ReplicaConfig {
+
+	public ReplicaConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+		if (openInView) {
+			throw new IllegalStateException("As réplicas de leitura exigem spring.jpa.open-in-view=false.");
+		}
+	}
+
+	@Bean
+	@FlywayDataSource
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource dataSourcePrimario(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	public ReplicasLeitura replicasLeitura(@Value("${minhasfinancas.replicas.urls}") String[] urls,
+			@Value("${minhasfinancas.replicas.usuario}") String usuario,
+			@Value("${minhasfinancas.replicas.senha}") String senha,
+			@Value("${minhasfinancas.replicas.pool.tamanho}") int tamanhoPool) {
+		return new ReplicasLeitura(urls, usuario, senha, tamanhoPool);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource dataSourcePrimario, ReplicasLeitura replicasLeitura,
+			JanelaEscrita janelaEscrita, MeterRegistry registry) {
+		return new LazyConnectionDataSourceProxy(
+				new DataSourceRoteado(dataSourcePrimario, replicasLeitura, janelaEscrita, registry));
+	}
+}
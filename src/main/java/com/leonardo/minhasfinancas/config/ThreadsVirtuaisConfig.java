@@ -0,0 +1,41 @@
+package com.leonardo.minhasfinancas.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Atende cada requisição do Tomcat em uma thread virtual, de modo que as
+ * chamadas bloqueantes ao JDBC não prendam threads da plataforma. Exige Java
+ * 21; o código segue compilado para Java 11 e acessa a API por reflexão.
+ */
+@Configuration
+@ConditionalOnProperty(name = "minhasfinancas.threads-virtuais.habilitado", havingValue = "true")
+public class ThreadsVirtuaisConfig {
+
+	@Bean(destroyMethod = "shutdown")
+	public ExecutorService executorThreadsVirtuais() {
+		return criarExecutor();
+	}
+
+	@Bean
+	public TomcatProtocolHandlerCustomizer<?> executorTomcatVirtual(ExecutorService executorThreadsVirtuais) {
+		return protocolHandler -> protocolHandler.setExecutor(executorThreadsVirtuais);
+	}
+
+	static ExecutorService criarExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Threads virtuais exigem Java 21 ou superior. Versão atual: "
+					+ Runtime.version() + ".");
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Não foi possível criar o executor de threads virtuais.", e);
+		}
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.leonardo.minhasfinancas.config;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.leonardo.minhasfinancas.api.autenticacao.UsuarioAutenticadoResolver;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@RequiredArgsConstructor
+public class WebConfig implements WebMvcConfigurer {
+
+	private final UsuarioAutenticadoResolver usuarioAutenticadoResolver;
+
+	@Override
+	public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+		resolvers.add(usuarioAutenticadoResolver);
+	}
+}
@@ -0,0 +1,7 @@
+package com.leonardo.minhasfinancas.enums;
+
+public enum ClasseLimite {
+    LEITURA,
+    ESCRITA,
+    LOGIN
+}
@@ -0,0 +1,15 @@
+package com.leonardo.minhasfinancas.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum FormatoExportacao {
+    CSV("text/csv", "csv"),
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String tipoConteudo;
+
+    private final String extensao;
+}
@@ -0,0 +1,12 @@
+package com.leonardo.minhasfinancas.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum FrequenciaRecorrencia {
+    MENSAL(1), ANUAL(12);
+
+    private final int meses;
+}
@@ -0,0 +1,5 @@
+package com.leonardo.minhasfinancas.enums;
+
+public enum StatusImportacao {
+    AGUARDANDO, PROCESSANDO, CONCLUIDA, FALHOU
+}
@@ -0,0 +1,5 @@
+package com.leonardo.minhasfinancas.enums;
+
+public enum TipoEventoLancamento {
+    CRIADO, ATUALIZADO, STATUS_ALTERADO, EXCLUIDO
+}
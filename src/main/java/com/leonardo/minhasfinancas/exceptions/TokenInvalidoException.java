@@ -0,0 +1,14 @@
+package com.leonardo.minhasfinancas.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.UNAUTHORIZED)
+public class TokenInvalidoException extends RuntimeException {
+
+	private static final long serialVersionUID = -3170984216352947127L;
+
+	public TokenInvalidoException(String mensagem) {
+		super(mensagem);
+	}
+}
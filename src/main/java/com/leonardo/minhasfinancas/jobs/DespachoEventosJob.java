@@ -0,0 +1,90 @@
+package com.leonardo.minhasfinancas.jobs;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.leonardo.minhasfinancas.model.AtrasoProjecao;
+import com.leonardo.minhasfinancas.projecao.ProjecaoLancamento;
+import com.leonardo.minhasfinancas.services.EventoLancamentoService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Entrega os eventos de lançamento a cada projeção registrada, em lotes, até
+ * alcançar o último evento. Uma projeção que falha não atrasa as outras: o
+ * lote dela volta a ser entregue na próxima execução.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "minhasfinancas.eventos.despacho.habilitado", havingValue = "true")
+public class DespachoEventosJob {
+
+	public static final String METRICA_ENTREGUES = "minhasfinancas.eventos.entregues";
+	public static final String METRICA_FALHAS = "minhasfinancas.eventos.falhas";
+	public static final String METRICA_ATRASO = "minhasfinancas.eventos.atraso";
+	public static final String METRICA_ATRASO_SEGUNDOS = "minhasfinancas.eventos.atraso.segundos";
+
+	private EventoLancamentoService eventoLancamentoService;
+	private List<ProjecaoLancamento> projecoes;
+	private int tamanhoLote;
+	private final Map<String, Counter> entregues = new ConcurrentHashMap<>();
+	private final Map<String, Counter> falhas = new ConcurrentHashMap<>();
+	private final Map<String, AtomicLong> atrasos = new ConcurrentHashMap<>();
+	private final Map<String, AtomicLong> atrasosSegundos = new ConcurrentHashMap<>();
+
+	public DespachoEventosJob(EventoLancamentoService eventoLancamentoService,
+			ObjectProvider<ProjecaoLancamento> projecoes, MeterRegistry registry,
+			@Value("${minhasfinancas.eventos.despacho.lote}") int tamanhoLote) {
+		this.eventoLancamentoService = eventoLancamentoService;
+		this.projecoes = projecoes.orderedStream().collect(Collectors.toList());
+		this.tamanhoLote = tamanhoLote;
+
+		for (ProjecaoLancamento projecao : this.projecoes) {
+			String nome = projecao.getNome();
+			entregues.put(nome, registry.counter(METRICA_ENTREGUES, "projecao", nome));
+			falhas.put(nome, registry.counter(METRICA_FALHAS, "projecao", nome));
+			atrasos.put(nome, new AtomicLong());
+			atrasosSegundos.put(nome, new AtomicLong());
+			Gauge.builder(METRICA_ATRASO, atrasos.get(nome), AtomicLong::get).tag("projecao", nome).register(registry);
+			Gauge.builder(METRICA_ATRASO_SEGUNDOS, atrasosSegundos.get(nome), AtomicLong::get).tag("projecao", nome)
+					.register(registry);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${minhasfinancas.eventos.despacho.intervalo-ms}")
+	public void agendar() {
+		executar();
+	}
+
+	public void executar() {
+		for (ProjecaoLancamento projecao : projecoes) {
+			String nome = projecao.getNome();
+			try {
+				int quantidade;
+				do {
+					quantidade = eventoLancamentoService.despachar(projecao, tamanhoLote);
+					entregues.get(nome).increment(quantidade);
+				} while (quantidade == tamanhoLote);
+			} catch (RuntimeException e) {
+				falhas.get(nome).increment();
+				log.error("Falha ao entregar eventos para a projecao {}", nome, e);
+			}
+
+			AtrasoProjecao atraso = eventoLancamentoService.obterAtraso(nome);
+			atrasos.get(nome).set(atraso.getEventos());
+			atrasosSegundos.get(nome).set(atraso.getSegundos());
+		}
+	}
+}
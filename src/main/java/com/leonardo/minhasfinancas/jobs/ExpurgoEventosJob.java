@@ -0,0 +1,32 @@
+package com.leonardo.minhasfinancas.jobs;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.leonardo.minhasfinancas.services.EventoLancamentoService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Apaga de financas.evento_lancamento os eventos já entregues a todas as
+ * projeções e mais antigos que {@code minhasfinancas.eventos.retencao}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpurgoEventosJob {
+
+	private final EventoLancamentoService eventoLancamentoService;
+
+	@Scheduled(cron = "${minhasfinancas.eventos.expurgo.cron}")
+	public void agendar() {
+		executar();
+	}
+
+	public int executar() {
+		int apagados = eventoLancamentoService.expurgar();
+		log.info("Expurgo de eventos concluido: {} eventos apagados", apagados);
+		return apagados;
+	}
+}
@@ -0,0 +1,69 @@
+package com.leonardo.minhasfinancas.jobs;
+
+import java.time.Duration;
+import java.time.YearMonth;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.leonardo.minhasfinancas.model.LoteMaterializacao;
+import com.leonardo.minhasfinancas.services.RecorrenciaService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gera os lançamentos das recorrências até o horizonte de materialização, em
+ * páginas com transação própria. Para ao atingir o tempo máximo; o que faltar
+ * fica para a próxima execução, e até lá aparece nas projeções.
+ */
+@Slf4j
+@Component
+public class MaterializacaoRecorrenciaJob {
+
+	private RecorrenciaService recorrenciaService;
+	private int horizonteMeses;
+	private int tamanhoPagina;
+	private Duration tempoMaximo;
+
+	public MaterializacaoRecorrenciaJob(RecorrenciaService recorrenciaService,
+			@Value("${minhasfinancas.recorrencia.horizonte-meses}") int horizonteMeses,
+			@Value("${minhasfinancas.recorrencia.materializacao.pagina}") int tamanhoPagina,
+			@Value("${minhasfinancas.recorrencia.materializacao.tempo-maximo}") Duration tempoMaximo) {
+		this.recorrenciaService = recorrenciaService;
+		this.horizonteMeses = horizonteMeses;
+		this.tamanhoPagina = tamanhoPagina;
+		this.tempoMaximo = tempoMaximo;
+	}
+
+	@Scheduled(cron = "${minhasfinancas.recorrencia.materializacao.cron}")
+	public void agendar() {
+		executar();
+	}
+
+	/**
+	 * Devolve quantos lançamentos foram gerados.
+	 */
+	public int executar() {
+		YearMonth ate = YearMonth.now().plusMonths(horizonteMeses);
+		long limite = System.nanoTime() + tempoMaximo.toNanos();
+		int recorrencias = 0;
+		int lancamentos = 0;
+		LoteMaterializacao lote;
+		Long aposId = 0L;
+
+		do {
+			lote = recorrenciaService.materializar(ate, aposId, tamanhoPagina);
+			recorrencias += lote.getRecorrencias();
+			lancamentos += lote.getLancamentos();
+			aposId = lote.getUltimoId();
+		} while (lote.getRecorrencias() == tamanhoPagina && System.nanoTime() < limite);
+
+		if (lote.getRecorrencias() == tamanhoPagina) {
+			log.warn("Materializacao de recorrencias interrompida pelo tempo maximo apos o id {}", aposId);
+		}
+		log.info("Materializacao de recorrencias ate {}: {} recorrencias, {} lancamentos gerados", ate, recorrencias,
+				lancamentos);
+		return lancamentos;
+	}
+}
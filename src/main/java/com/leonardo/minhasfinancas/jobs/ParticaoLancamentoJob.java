@@ -0,0 +1,71 @@
+package com.leonardo.minhasfinancas.jobs;
+
+import java.time.Year;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Com financas.lancamento particionada por ano, garante as partições do ano
+ * corrente e do próximo e, se configurado, arquiva os anos mais antigos que
+ * {@code minhasfinancas.lancamentos.arquivar-apos-anos}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "minhasfinancas.lancamentos.particionado", havingValue = "true")
+public class ParticaoLancamentoJob implements ApplicationRunner {
+
+	private JdbcTemplate jdbcTemplate;
+	private int arquivarAposAnos;
+	private String tablespaceArquivo;
+
+	public ParticaoLancamentoJob(JdbcTemplate jdbcTemplate,
+			@Value("${minhasfinancas.lancamentos.arquivar-apos-anos}") int arquivarAposAnos,
+			@Value("${minhasfinancas.lancamentos.arquivo.tablespace:}") String tablespaceArquivo) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.arquivarAposAnos = arquivarAposAnos;
+		this.tablespaceArquivo = StringUtils.hasText(tablespaceArquivo) ? tablespaceArquivo : null;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		executar();
+	}
+
+	@Scheduled(cron = "${minhasfinancas.lancamentos.particao.cron}")
+	public void agendar() {
+		executar();
+	}
+
+	public void executar() {
+		int anoAtual = Year.now().getValue();
+		for (int ano = anoAtual; ano <= anoAtual + 1; ano++) {
+			jdbcTemplate.queryForList("select financas.criar_particao_lancamento(?)", ano);
+		}
+
+		if (arquivarAposAnos > 0) {
+			for (Integer ano : anosParticionados()) {
+				if (ano < anoAtual - arquivarAposAnos) {
+					Long linhas = jdbcTemplate.queryForObject("select financas.arquivar_lancamentos(?, ?)", Long.class,
+							ano, tablespaceArquivo);
+					log.info("Arquivados {} lancamentos de {}", linhas, ano);
+				}
+			}
+		}
+	}
+
+	private List<Integer> anosParticionados() {
+		return jdbcTemplate.queryForList("select cast(substring(c.relname from 12) as integer) from pg_inherits i "
+				+ "join pg_class c on c.oid = i.inhrelid where i.inhparent = 'financas.lancamento'::regclass "
+				+ "and c.relname ~ '^lancamento_[0-9]+$' order by 1", Integer.class);
+	}
+}
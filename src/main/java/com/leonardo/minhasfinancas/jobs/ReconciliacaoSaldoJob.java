@@ -0,0 +1,57 @@
+package com.leonardo.minhasfinancas.jobs;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.leonardo.minhasfinancas.model.DivergenciaSaldo;
+import com.leonardo.minhasfinancas.model.RelatorioReconciliacao;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+import com.leonardo.minhasfinancas.services.SaldoService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Recalcula os saldos materializados a partir de financas.lancamento, usuário a
+ * usuário, corrigindo e registrando qualquer divergência encontrada.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReconciliacaoSaldoJob {
+
+	private static final int TAMANHO_PAGINA = 500;
+
+	private final UsuarioRepository usuarioRepository;
+	private final SaldoService saldoService;
+
+	@Scheduled(cron = "${minhasfinancas.saldo.reconciliacao.cron}")
+	public void agendar() {
+		executar();
+	}
+
+	public RelatorioReconciliacao executar() {
+		RelatorioReconciliacao relatorio = new RelatorioReconciliacao();
+		Pageable pagina = PageRequest.of(0, TAMANHO_PAGINA);
+		Slice<Long> ids;
+
+		do {
+			ids = usuarioRepository.obterIds(pagina);
+			for (Long idUsuario : ids) {
+				List<DivergenciaSaldo> divergencias = saldoService.reconciliar(idUsuario);
+				divergencias.forEach(d -> log.warn("Divergencia de saldo corrigida: {}", d));
+				relatorio.registrar(divergencias);
+			}
+			pagina = ids.nextPageable();
+		} while (ids.hasNext());
+
+		log.info("Reconciliacao de saldos concluida: {} usuarios verificados, {} corrigidos",
+				relatorio.getUsuariosVerificados(), relatorio.getUsuariosCorrigidos());
+		return relatorio;
+	}
+}
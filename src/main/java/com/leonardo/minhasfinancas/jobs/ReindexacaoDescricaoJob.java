@@ -0,0 +1,49 @@
+package com.leonardo.minhasfinancas.jobs;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+import com.leonardo.minhasfinancas.services.BuscaDescricaoService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reconstrói o índice de termos das descrições na inicialização, para bases
+ * que já tinham lançamentos antes da busca por descrição existir.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "minhasfinancas.busca.reindexar-na-inicializacao", havingValue = "true")
+public class ReindexacaoDescricaoJob implements ApplicationRunner {
+
+	private static final int TAMANHO_PAGINA = 500;
+
+	private final UsuarioRepository usuarioRepository;
+	private final BuscaDescricaoService buscaDescricaoService;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		Pageable pagina = PageRequest.of(0, TAMANHO_PAGINA);
+		Slice<Long> ids;
+		int usuarios = 0;
+
+		do {
+			ids = usuarioRepository.obterIds(pagina);
+			for (Long idUsuario : ids) {
+				buscaDescricaoService.reindexarUsuario(idUsuario);
+				usuarios++;
+			}
+			pagina = ids.nextPageable();
+		} while (ids.hasNext());
+
+		log.info("Indice de descricoes reconstruido para {} usuarios", usuarios);
+	}
+}
@@ -0,0 +1,25 @@
+package com.leonardo.minhasfinancas.limite;
+
+/**
+ * Onde ficam os baldes e os contadores de requisições simultâneas. A
+ * implementação padrão é local à instância; uma compartilhada (Redis, banco)
+ * pode substituí-la declarando um bean {@code @Primary}.
+ */
+public interface ArmazenamentoLimite {
+
+	/**
+	 * Consome uma ficha do balde da chave. Devolve zero se a requisição pode
+	 * seguir ou, se o balde estiver vazio, em quantos nanossegundos haverá ficha.
+	 */
+	long consumir(String chave, RegraLimite regra);
+
+	/**
+	 * Registra mais uma requisição em andamento para a chave, se ainda houver
+	 * vaga dentro de {@code maximo}.
+	 */
+	boolean entrar(String chave, int maximo);
+
+	void sair(String chave);
+
+	int quantidadeChaves();
+}
@@ -0,0 +1,85 @@
+package com.leonardo.minhasfinancas.limite;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Baldes em memória no formato GCRA: cada chave guarda apenas o instante
+ * teórico em que o balde volta a ficar cheio, atualizado com compare-and-set,
+ * sem locks no caminho da requisição.
+ */
+@Component
+@ConditionalOnProperty(name = "minhasfinancas.limite.habilitado", havingValue = "true")
+public class ArmazenamentoLimiteMemoria implements ArmazenamentoLimite {
+
+	private final Map<String, AtomicLong> baldes = new ConcurrentHashMap<>();
+	private final Map<String, Integer> emAndamento = new ConcurrentHashMap<>();
+	private final LongSupplier relogio;
+
+	public ArmazenamentoLimiteMemoria() {
+		this(System::nanoTime);
+	}
+
+	public ArmazenamentoLimiteMemoria(LongSupplier relogio) {
+		this.relogio = relogio;
+	}
+
+	@Override
+	public long consumir(final String chave, final RegraLimite regra) {
+		AtomicLong balde = baldes.get(chave);
+		if (balde == null) {
+			balde = baldes.computeIfAbsent(chave, c -> new AtomicLong(relogio.getAsLong()));
+		}
+
+		while (true) {
+			long agora = relogio.getAsLong();
+			long atual = balde.get();
+			long proximo = Math.max(atual, agora) + regra.getIntervaloNanos();
+			long excedente = proximo - agora - regra.getToleranciaNanos();
+
+			if (excedente > 0) {
+				return excedente;
+			}
+			if (balde.compareAndSet(atual, proximo)) {
+				return 0;
+			}
+		}
+	}
+
+	@Override
+	public boolean entrar(final String chave, final int maximo) {
+		boolean[] entrou = new boolean[1];
+		emAndamento.compute(chave, (c, quantidade) -> {
+			int atual = quantidade == null ? 0 : quantidade;
+			entrou[0] = atual < maximo;
+			return entrou[0] ? atual + 1 : quantidade;
+		});
+		return entrou[0];
+	}
+
+	@Override
+	public void sair(final String chave) {
+		emAndamento.computeIfPresent(chave, (c, quantidade) -> quantidade > 1 ? quantidade - 1 : null);
+	}
+
+	@Override
+	public int quantidadeChaves() {
+		return baldes.size();
+	}
+
+	/**
+	 * Descarta os baldes que já voltaram a ficar cheios: recriá-los dá o mesmo
+	 * resultado, e assim o mapa só guarda clientes ativos.
+	 */
+	@Scheduled(fixedDelayString = "${minhasfinancas.limite.limpeza-ms}")
+	public void limpar() {
+		long agora = relogio.getAsLong();
+		baldes.values().removeIf(balde -> balde.get() <= agora);
+	}
+}
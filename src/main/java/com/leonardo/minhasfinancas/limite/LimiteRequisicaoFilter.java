@@ -0,0 +1,204 @@
+package com.leonardo.minhasfinancas.limite;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.leonardo.minhasfinancas.enums.ClasseLimite;
+import com.leonardo.minhasfinancas.exceptions.TokenInvalidoException;
+import com.leonardo.minhasfinancas.services.TokenService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Limita as requisições da API por cliente e por classe de endpoint (leitura,
+ * escrita e login), além de quantas o mesmo cliente pode ter em andamento.
+ * O cliente é o usuário do token quando ele é válido e, sem token, o IP de
+ * origem. Acima do limite a resposta é 429 com {@code Retry-After}. Uma
+ * resposta assíncrona (a exportação) ocupa a vaga de requisição simultânea
+ * até terminar de ser escrita, e não só até o controller devolver.
+ */
+@Component
+@ConditionalOnProperty(name = "minhasfinancas.limite.habilitado", havingValue = "true")
+public class LimiteRequisicaoFilter extends OncePerRequestFilter {
+
+	public static final String METRICA_REQUISICOES = "minhasfinancas.limite.requisicoes";
+	public static final String METRICA_CHAVES = "minhasfinancas.limite.chaves";
+
+	private static final String PREFIXO_API = "/api/";
+	private static final String PREFIXO_TOKEN = "Bearer ";
+
+	private final ArmazenamentoLimite armazenamento;
+	private final TokenService tokenService;
+	private final Map<ClasseLimite, RegraLimite> regras = new EnumMap<>(ClasseLimite.class);
+	private final Map<ClasseLimite, Counter> permitidas = new EnumMap<>(ClasseLimite.class);
+	private final Map<ClasseLimite, Counter> bloqueadasPorTaxa = new EnumMap<>(ClasseLimite.class);
+	private final Map<ClasseLimite, Counter> bloqueadasPorSimultaneas = new EnumMap<>(ClasseLimite.class);
+	private final int simultaneas;
+
+	public LimiteRequisicaoFilter(ArmazenamentoLimite armazenamento, TokenService tokenService,
+			MeterRegistry registry,
+			@Value("${minhasfinancas.limite.leitura.capacidade}") int capacidadeLeitura,
+			@Value("${minhasfinancas.limite.leitura.por-segundo}") double taxaLeitura,
+			@Value("${minhasfinancas.limite.escrita.capacidade}") int capacidadeEscrita,
+			@Value("${minhasfinancas.limite.escrita.por-segundo}") double taxaEscrita,
+			@Value("${minhasfinancas.limite.login.capacidade}") int capacidadeLogin,
+			@Value("${minhasfinancas.limite.login.por-segundo}") double taxaLogin,
+			@Value("${minhasfinancas.limite.simultaneas}") int simultaneas) {
+		this.armazenamento = armazenamento;
+		this.tokenService = tokenService;
+		this.simultaneas = simultaneas;
+		regras.put(ClasseLimite.LEITURA, new RegraLimite(capacidadeLeitura, taxaLeitura));
+		regras.put(ClasseLimite.ESCRITA, new RegraLimite(capacidadeEscrita, taxaEscrita));
+		regras.put(ClasseLimite.LOGIN, new RegraLimite(capacidadeLogin, taxaLogin));
+
+		for (ClasseLimite classe : ClasseLimite.values()) {
+			permitidas.put(classe, contador(registry, classe, "permitida"));
+			bloqueadasPorTaxa.put(classe, contador(registry, classe, "taxa"));
+			bloqueadasPorSimultaneas.put(classe, contador(registry, classe, "simultaneas"));
+		}
+		Gauge.builder(METRICA_CHAVES, armazenamento, ArmazenamentoLimite::quantidadeChaves).register(registry);
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !request.getRequestURI().startsWith(PREFIXO_API);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		ClasseLimite classe = classificar(request);
+		String cliente = cliente(request);
+
+		long espera = armazenamento.consumir(classe.name() + ":" + cliente, regras.get(classe));
+		if (espera > 0) {
+			bloqueadasPorTaxa.get(classe).increment();
+			recusar(response, espera, "Limite de requisições atingido. Tente novamente em instantes.");
+			return;
+		}
+
+		if (!armazenamento.entrar(cliente, simultaneas)) {
+			bloqueadasPorSimultaneas.get(classe).increment();
+			recusar(response, 0, "Muitas requisições simultâneas. Aguarde as anteriores terminarem.");
+			return;
+		}
+
+		permitidas.get(classe).increment();
+		boolean assincrona = false;
+		try {
+			chain.doFilter(request, response);
+			assincrona = request.isAsyncStarted();
+		} finally {
+			if (assincrona) {
+				request.getAsyncContext().addListener(new SaidaAssincrona(cliente));
+			} else {
+				armazenamento.sair(cliente);
+			}
+		}
+	}
+
+	/**
+	 * Autenticação e cadastro de usuário rodam o hash da senha e contam como
+	 * login.
+	 */
+	private ClasseLimite classificar(HttpServletRequest request) {
+		String uri = request.getRequestURI();
+		String metodo = request.getMethod();
+
+		if (uri.equals("/api/usuarios/autenticar") || (uri.equals("/api/usuarios") && metodo.equals("POST"))) {
+			return ClasseLimite.LOGIN;
+		}
+		if (metodo.equals("GET") || metodo.equals("HEAD")) {
+			return ClasseLimite.LEITURA;
+		}
+		return ClasseLimite.ESCRITA;
+	}
+
+	private String cliente(HttpServletRequest request) {
+		String autorizacao = request.getHeader(HttpHeaders.AUTHORIZATION);
+		if (autorizacao != null && autorizacao.regionMatches(true, 0, PREFIXO_TOKEN, 0, PREFIXO_TOKEN.length())) {
+			try {
+				return "usuario:" + tokenService.validar(autorizacao.substring(PREFIXO_TOKEN.length()).trim());
+			} catch (TokenInvalidoException e) {
+				// Token inválido conta para o IP; o endpoint responde 401 em seguida.
+			}
+		}
+		return "ip:" + request.getRemoteAddr();
+	}
+
+	private void recusar(HttpServletResponse response, long esperaNanos, String mensagem) throws IOException {
+		long segundos = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(esperaNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(segundos));
+		response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.getWriter().write(mensagem);
+	}
+
+	/**
+	 * Devolve a vaga quando a resposta assíncrona termina. Erro e timeout são
+	 * seguidos de onComplete; a vaga é devolvida uma só vez.
+	 */
+	private class SaidaAssincrona implements AsyncListener {
+
+		private final String cliente;
+		private final AtomicBoolean liberada = new AtomicBoolean();
+
+		SaidaAssincrona(String cliente) {
+			this.cliente = cliente;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			sair();
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			sair();
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			sair();
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			// Um novo ciclo assíncrono descarta os listeners: continua registrado nele.
+			event.getAsyncContext().addListener(this);
+		}
+
+		private void sair() {
+			if (liberada.compareAndSet(false, true)) {
+				armazenamento.sair(cliente);
+			}
+		}
+	}
+
+	private static Counter contador(MeterRegistry registry, ClasseLimite classe, String resultado) {
+		return Counter.builder(METRICA_REQUISICOES).tag("classe", classe.name().toLowerCase())
+				.tag("resultado", resultado).register(registry);
+	}
+}
@@ -0,0 +1,29 @@
+package com.leonardo.minhasfinancas.limite;
+
+import lombok.Getter;
+
+/**
+ * Balde de {@code capacidade} fichas, repostas à taxa de {@code porSegundo}.
+ */
+@Getter
+public class RegraLimite {
+
+	private final int capacidade;
+	private final long intervaloNanos;
+
+	public RegraLimite(int capacidade, double porSegundo) {
+		if (capacidade < 1 || porSegundo <= 0) {
+			throw new IllegalStateException("Informe capacidade e taxa positivas para o limite de requisições.");
+		}
+		this.capacidade = capacidade;
+		this.intervaloNanos = (long) (1_000_000_000L / porSegundo);
+	}
+
+	/**
+	 * Quanto o instante teórico do balde pode estar à frente do relógio, ou seja,
+	 * a rajada máxima aceita.
+	 */
+	public long getToleranciaNanos() {
+		return capacidade * intervaloNanos;
+	}
+}
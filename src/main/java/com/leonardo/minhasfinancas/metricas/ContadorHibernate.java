@@ -0,0 +1,73 @@
+package com.leonardo.minhasfinancas.metricas;
+
+import java.io.Serializable;
+import java.util.Map;
+
+import org.hibernate.EmptyInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Conta os comandos SQL e as entidades carregadas pela thread atual entre
+ * {@link #iniciar()} e {@link #encerrar()}. Fora desse intervalo (jobs,
+ * importações) nada é contado.
+ */
+@Component
+public class ContadorHibernate extends EmptyInterceptor implements StatementInspector, HibernatePropertiesCustomizer {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient ThreadLocal<Contagem> contagem = new ThreadLocal<>();
+
+	@Override
+	public void customize(Map<String, Object> hibernateProperties) {
+		hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+		hibernateProperties.put(AvailableSettings.INTERCEPTOR, this);
+	}
+
+	public void iniciar() {
+		contagem.set(new Contagem());
+	}
+
+	public Contagem encerrar() {
+		Contagem atual = contagem.get();
+		contagem.remove();
+		return atual;
+	}
+
+	@Override
+	public String inspect(String sql) {
+		Contagem atual = contagem.get();
+		if (atual != null) {
+			atual.comandos++;
+		}
+		return sql;
+	}
+
+	@Override
+	public boolean onLoad(Object entity, Serializable id, Object[] state, String[] propertyNames, Type[] types) {
+		Contagem atual = contagem.get();
+		if (atual != null) {
+			atual.entidades++;
+		}
+		return false;
+	}
+
+	public static class Contagem {
+
+		private int comandos;
+		private int entidades;
+
+		public int getComandos() {
+			return comandos;
+		}
+
+		public int getEntidades() {
+			return entidades;
+		}
+	}
+
+}
@@ -0,0 +1,77 @@
+package com.leonardo.minhasfinancas.metricas;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Mede o tempo de cada método público dos serviços e de cada consulta dos
+ * repositórios. São muitas séries (componente, método e exceção), então não há
+ * histograma nem percentil calculado na aplicação, só as poucas faixas de SLA de
+ * management.metrics.distribution.sla.minhasfinancas.*.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class MetricasAspect {
+
+	public static final String METRICA_SERVICO = "minhasfinancas.servico";
+	public static final String METRICA_REPOSITORIO = "minhasfinancas.repositorio";
+
+	private final MeterRegistry registry;
+	private final Map<Class<?>, String> nomesRepositorios = new ConcurrentHashMap<>();
+
+	@Around("within(com.leonardo.minhasfinancas.services.impl..*) && execution(public * *(..))")
+	public Object medirServico(ProceedingJoinPoint joinPoint) throws Throwable {
+		String servico = AopUtils.getTargetClass(joinPoint.getTarget()).getSimpleName();
+		return medir(METRICA_SERVICO, "servico", servico, joinPoint);
+	}
+
+	@Around("this(org.springframework.data.repository.Repository)")
+	public Object medirRepositorio(ProceedingJoinPoint joinPoint) throws Throwable {
+		String repositorio = nomesRepositorios.computeIfAbsent(joinPoint.getThis().getClass(),
+				c -> nomeRepositorio(joinPoint.getThis()));
+		return medir(METRICA_REPOSITORIO, "repositorio", repositorio, joinPoint);
+	}
+
+	private Object medir(String metrica, String tag, String componente, ProceedingJoinPoint joinPoint)
+			throws Throwable {
+		Timer.Sample amostra = Timer.start(registry);
+		String excecao = "none";
+
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable e) {
+			excecao = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			amostra.stop(Timer.builder(metrica).tag(tag, componente)
+					.tag("metodo", joinPoint.getSignature().getName()).tag("exception", excecao).register(registry));
+		}
+	}
+
+	/**
+	 * O proxy do Spring Data implementa a interface declarada no projeto, que é
+	 * usada como nome no lugar da implementação genérica.
+	 */
+	private static String nomeRepositorio(Object proxy) {
+		for (Class<?> interfaceProxy : AopProxyUtils.proxiedUserInterfaces(proxy)) {
+			if (Repository.class.isAssignableFrom(interfaceProxy)) {
+				return interfaceProxy.getSimpleName();
+			}
+		}
+		return AopUtils.getTargetClass(proxy).getSimpleName();
+	}
+
+}
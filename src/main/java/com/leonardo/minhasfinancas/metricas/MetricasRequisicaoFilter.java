@@ -0,0 +1,55 @@
+package com.leonardo.minhasfinancas.metricas;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Registra, por endpoint, quantos comandos SQL e quantas entidades cada
+ * requisição gerou, incluindo carregamentos tardios feitos na serialização.
+ */
+@Component
+@RequiredArgsConstructor
+public class MetricasRequisicaoFilter extends OncePerRequestFilter {
+
+	public static final String METRICA_COMANDOS = "minhasfinancas.requisicao.comandos";
+	public static final String METRICA_ENTIDADES = "minhasfinancas.requisicao.entidades";
+
+	private final ContadorHibernate contador;
+	private final MeterRegistry registry;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		contador.iniciar();
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			ContadorHibernate.Contagem contagem = contador.encerrar();
+			Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+
+			if (padrao != null) {
+				String uri = padrao.toString();
+				registrar(METRICA_COMANDOS, uri, request, contagem.getComandos());
+				registrar(METRICA_ENTIDADES, uri, request, contagem.getEntidades());
+			}
+		}
+	}
+
+	private void registrar(String metrica, String uri, HttpServletRequest request, int valor) {
+		DistributionSummary.builder(metrica).tag("uri", uri).tag("method", request.getMethod())
+				.register(registry).record(valor);
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.leonardo.minhasfinancas.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resultado da troca condicional de status de um lançamento: o estado
+ * anterior, que move o saldo, e a nova versão, nula quando nada mudou.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AlteracaoStatus {
+
+    private EstadoLancamento anterior;
+
+    private Long versao;
+
+    public boolean isAlterado() {
+        return versao != null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.leonardo.minhasfinancas.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Quanto uma projeção está atrás do último evento gravado: em eventos e em
+ * segundos desde a criação do primeiro evento ainda não entregue.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AtrasoProjecao {
+
+    private String projecao;
+
+    private long posicao;
+
+    private long eventos;
+
+    private long segundos;
+}
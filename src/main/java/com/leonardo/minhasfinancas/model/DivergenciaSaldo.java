@@ -0,0 +1,35 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.math.BigDecimal;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Diferença encontrada entre o saldo materializado e o recalculado a partir de
+ * financas.lancamento. Divergências do saldo total do usuário não possuem
+ * ano, mês e status.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class DivergenciaSaldo {
+
+    private Long idUsuario;
+
+    private Integer ano;
+
+    private Integer mes;
+
+    private TipoLancamento tipo;
+
+    private StatusLancamento status;
+
+    private BigDecimal valorEsperado;
+
+    private BigDecimal valorEncontrado;
+}
@@ -0,0 +1,15 @@
+package com.leonardo.minhasfinancas.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@AllArgsConstructor
+public class ErroImportacao {
+
+    private final int linha;
+
+    private final String mensagem;
+}
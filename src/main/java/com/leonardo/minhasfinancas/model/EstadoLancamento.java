@@ -0,0 +1,38 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.math.BigDecimal;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Estado gravado de um lançamento: o que ele soma ao saldo e a versão em que
+ * foi lido, para alterações condicionais sem carregar a entidade.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class EstadoLancamento {
+
+    private Long idUsuario;
+
+    private Integer ano;
+
+    private Integer mes;
+
+    private TipoLancamento tipo;
+
+    private StatusLancamento status;
+
+    private BigDecimal valor;
+
+    private Long versao;
+
+    public MovimentoSaldo getMovimento() {
+        return new MovimentoSaldo(idUsuario, ano, mes, tipo, status, valor, 1L);
+    }
+}
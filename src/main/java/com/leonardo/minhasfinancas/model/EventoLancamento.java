@@ -0,0 +1,78 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoEventoLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Alteração em um lançamento, com o estado dele logo depois (ou, na exclusão,
+ * logo antes). O id é a posição do evento: as projeções leem em ordem de id.
+ */
+@Entity
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "evento_lancamento", schema = "financas")
+public class EventoLancamento {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tipo_evento")
+    @Enumerated(value = EnumType.STRING)
+    private TipoEventoLancamento tipoEvento;
+
+    @Column(name = "id_lancamento")
+    private Long idLancamento;
+
+    @Column(name = "id_usuario")
+    private Long idUsuario;
+
+    private String descricao;
+
+    private Integer mes;
+
+    private Integer ano;
+
+    private BigDecimal valor;
+
+    @Enumerated(value = EnumType.STRING)
+    private TipoLancamento tipo;
+
+    @Enumerated(value = EnumType.STRING)
+    private StatusLancamento status;
+
+    private Long versao;
+
+    @Column(name = "data_criacao")
+    private LocalDateTime dataCriacao;
+
+    public static EventoLancamento de(final TipoEventoLancamento tipoEvento, final Lancamento lancamento) {
+        return EventoLancamento.builder().tipoEvento(tipoEvento).idLancamento(lancamento.getId())
+                .idUsuario(lancamento.getUsuario().getId()).descricao(lancamento.getDescricao())
+                .mes(lancamento.getMes()).ano(lancamento.getAno()).valor(lancamento.getValor())
+                .tipo(lancamento.getTipo()).status(lancamento.getStatus()).versao(lancamento.getVersao())
+                .dataCriacao(LocalDateTime.now()).build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import com.leonardo.minhasfinancas.enums.FormatoExtrato;
+import com.leonardo.minhasfinancas.enums.StatusImportacao;
+
+import lombok.Getter;
+
+/**
+ * Andamento de uma importação de extrato. É atualizada pela thread que
+ * processa o arquivo e lida pelas consultas de progresso, por isso os
+ * contadores são voláteis e apenas os primeiros erros são guardados.
+ */
+@Getter
+public class ImportacaoExtrato {
+
+    public static final int MAXIMO_ERROS_GUARDADOS = 100;
+
+    private final UUID id = UUID.randomUUID();
+
+    private final Long idUsuario;
+
+    private final FormatoExtrato formato;
+
+    private final ZonedDateTime inicio = ZonedDateTime.now();
+
+    private volatile ZonedDateTime fim;
+
+    private volatile StatusImportacao status = StatusImportacao.AGUARDANDO;
+
+    private volatile long linhasLidas;
+
+    private volatile long importados;
+
+    private volatile long rejeitados;
+
+    private volatile String mensagem;
+
+    private final List<ErroImportacao> erros = Collections.synchronizedList(new ArrayList<>());
+
+    public ImportacaoExtrato(Long idUsuario, FormatoExtrato formato) {
+        this.idUsuario = idUsuario;
+        this.formato = formato;
+    }
+
+    public void iniciar() {
+        status = StatusImportacao.PROCESSANDO;
+    }
+
+    public void lerLinha() {
+        linhasLidas++;
+    }
+
+    public void importar(int quantidade) {
+        importados += quantidade;
+    }
+
+    public void rejeitar(long linha, String motivo) {
+        rejeitados++;
+        if (erros.size() < MAXIMO_ERROS_GUARDADOS) {
+            erros.add(new ErroImportacao(Math.toIntExact(linha), motivo));
+        }
+    }
+
+    public void concluir() {
+        finalizar(StatusImportacao.CONCLUIDA, null);
+    }
+
+    public void falhar(String motivo) {
+        finalizar(StatusImportacao.FALHOU, motivo);
+    }
+
+    public boolean isFinalizada() {
+        return fim != null;
+    }
+
+    private void finalizar(StatusImportacao statusFinal, String motivo) {
+        mensagem = motivo;
+        status = statusFinal;
+        fim = ZonedDateTime.now();
+    }
+}
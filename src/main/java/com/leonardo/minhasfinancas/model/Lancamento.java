@@ -7,13 +7,16 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.PrePersist;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import javax.persistence.Version;
 
 import com.leonardo.minhasfinancas.enums.StatusLancamento;
 import com.leonardo.minhasfinancas.enums.TipoLancamento;
@@ -36,7 +39,8 @@ import lombok.Setter;
 public class Lancamento {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lancamento_seq")
+    @SequenceGenerator(name = "lancamento_seq", schema = "financas", sequenceName = "lancamento_seq", allocationSize = 50)
     private Long id;
     
     private Integer mes;
@@ -45,13 +49,13 @@ public class Lancamento {
 
     private String descricao;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "id_usuario")
     private Usuario usuario;
 
     private BigDecimal valor;
 
-    @Column(name = "data_cadastro")
+    @Column(name = "data_cadastro", updatable = false)
     private ZonedDateTime dataCadastro;
 
     @Enumerated(value = EnumType.STRING)
@@ -59,6 +63,15 @@ public class Lancamento {
 
     @Enumerated(value = EnumType.STRING)
     private StatusLancamento status;
+
+    @Version
+    private Long versao;
+
+    @Column(name = "id_recorrencia", updatable = false)
+    private Long idRecorrencia;
+
+    @Column(updatable = false)
+    private Integer parcela;
     
     @PrePersist
     protected void prePersist() {
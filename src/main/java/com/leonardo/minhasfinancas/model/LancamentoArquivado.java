@@ -0,0 +1,36 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ano cujos lançamentos foram movidos para o arquivo. Gravado pela função
+ * financas.arquivar_lancamentos.
+ */
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "lancamento_arquivado", schema = "financas")
+public class LancamentoArquivado {
+
+    @Id
+    private Integer ano;
+
+    private String tabela;
+
+    private Long linhas;
+
+    @Column(name = "data_arquivamento")
+    private LocalDateTime dataArquivamento;
+}
@@ -0,0 +1,31 @@
+package com.leonardo.minhasfinancas.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Uma movimentação lida do arquivo de extrato: o lançamento convertido ou o
+ * motivo pelo qual a linha não pôde ser interpretada.
+ */
+@Getter
+@AllArgsConstructor
+public class LinhaExtrato {
+
+    private final long numero;
+
+    private final Lancamento lancamento;
+
+    private final String erro;
+
+    public static LinhaExtrato valida(long numero, Lancamento lancamento) {
+        return new LinhaExtrato(numero, lancamento, null);
+    }
+
+    public static LinhaExtrato invalida(long numero, String erro) {
+        return new LinhaExtrato(numero, null, erro);
+    }
+
+    public boolean isValida() {
+        return erro == null;
+    }
+}
@@ -0,0 +1,22 @@
+package com.leonardo.minhasfinancas.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Resultado de uma página da materialização: quantas recorrências foram lidas,
+ * quantos lançamentos foram gerados e o último id, de onde a próxima página
+ * continua.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class LoteMaterializacao {
+
+    private int recorrencias;
+
+    private int lancamentos;
+
+    private Long ultimoId;
+}
@@ -0,0 +1,53 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.math.BigDecimal;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Valor (e quantidade de lançamentos) que entra ou sai do saldo de um usuário
+ * em um ano/mês, para um tipo e status de lançamento.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class MovimentoSaldo {
+
+    private Long idUsuario;
+
+    private Integer ano;
+
+    private Integer mes;
+
+    private TipoLancamento tipo;
+
+    private StatusLancamento status;
+
+    private BigDecimal valor;
+
+    private Long quantidade;
+
+    public static MovimentoSaldo de(Lancamento lancamento) {
+        return new MovimentoSaldo(lancamento.getUsuario().getId(), lancamento.getAno(), lancamento.getMes(),
+                lancamento.getTipo(), lancamento.getStatus(), lancamento.getValor(), 1L);
+    }
+
+    public MovimentoSaldo estorno() {
+        return new MovimentoSaldo(idUsuario, ano, mes, tipo, status, valor.negate(), -quantidade);
+    }
+
+    public MovimentoSaldo comStatus(StatusLancamento novoStatus) {
+        return new MovimentoSaldo(idUsuario, ano, mes, tipo, novoStatus, valor, quantidade);
+    }
+
+    public SaldoMensalId getChave() {
+        return new SaldoMensalId(idUsuario, ano, mes, tipo, status);
+    }
+}
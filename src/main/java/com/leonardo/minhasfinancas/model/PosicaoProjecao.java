@@ -0,0 +1,33 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.time.LocalDateTime;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Id do último evento entregue a uma projeção.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "posicao_projecao", schema = "financas")
+public class PosicaoProjecao {
+
+    @Id
+    private String projecao;
+
+    private Long posicao;
+
+    @Column(name = "data_atualizacao")
+    private LocalDateTime dataAtualizacao;
+}
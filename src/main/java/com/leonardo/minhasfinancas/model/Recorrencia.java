@@ -0,0 +1,190 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.PrePersist;
+import javax.persistence.Table;
+
+import com.leonardo.minhasfinancas.enums.FrequenciaRecorrencia;
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Lançamento que se repete todo mês ou todo ano, por uma quantidade de
+ * ocorrências, até um mês final ou indefinidamente. Só as ocorrências até o
+ * horizonte de materialização viram lançamentos; as demais são projetadas.
+ */
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Table(name = "recorrencia", schema = "financas")
+public class Recorrencia {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String descricao;
+
+    private BigDecimal valor;
+
+    @Enumerated(value = EnumType.STRING)
+    private TipoLancamento tipo;
+
+    @Enumerated(value = EnumType.STRING)
+    private FrequenciaRecorrencia frequencia;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id_usuario")
+    private Usuario usuario;
+
+    @Column(name = "ano_inicio")
+    private Integer anoInicio;
+
+    @Column(name = "mes_inicio")
+    private Integer mesInicio;
+
+    private Integer quantidade;
+
+    @Column(name = "ano_fim")
+    private Integer anoFim;
+
+    @Column(name = "mes_fim")
+    private Integer mesFim;
+
+    @Column(name = "ocorrencias_geradas")
+    private int ocorrenciasGeradas;
+
+    @Column(name = "ano_proxima")
+    private Integer anoProxima;
+
+    @Column(name = "mes_proxima")
+    private Integer mesProxima;
+
+    @Column(name = "data_cadastro", updatable = false)
+    private LocalDate dataCadastro;
+
+    @PrePersist
+    protected void prePersist() {
+        dataCadastro = LocalDate.now();
+        if (ocorrenciasGeradas == 0 && anoProxima == null) {
+            anoProxima = anoInicio;
+            mesProxima = mesInicio;
+        }
+    }
+
+    public YearMonth getInicio() {
+        return YearMonth.of(anoInicio, mesInicio);
+    }
+
+    public YearMonth getFim() {
+        return anoFim == null ? null : YearMonth.of(anoFim, mesFim);
+    }
+
+    public boolean isEncerrada() {
+        return anoProxima == null;
+    }
+
+    public YearMonth competencia(int indice) {
+        return getInicio().plusMonths((long) indice * frequencia.getMeses());
+    }
+
+    /**
+     * Quantas ocorrências caem até a competência informada, inclusive,
+     * respeitando a quantidade e o mês final.
+     */
+    public int ocorrenciasAte(YearMonth competencia) {
+        YearMonth limite = getFim() != null && getFim().isBefore(competencia) ? getFim() : competencia;
+        if (limite.isBefore(getInicio())) {
+            return 0;
+        }
+
+        long ocorrencias = getInicio().until(limite, ChronoUnit.MONTHS) / frequencia.getMeses() + 1;
+        return (int) (quantidade == null ? ocorrencias : Math.min(ocorrencias, quantidade));
+    }
+
+    /**
+     * Ocorrências que cairiam até a competência mas ainda não são lançamentos.
+     */
+    public int ocorrenciasProjetadasAte(YearMonth competencia) {
+        return isEncerrada() ? 0 : Math.max(ocorrenciasAte(competencia) - ocorrenciasGeradas, 0);
+    }
+
+    /**
+     * Índice da ocorrência ainda não materializada que cai exatamente na
+     * competência, ou -1 se não houver.
+     */
+    public int ocorrenciaProjetadaEm(YearMonth competencia) {
+        int ocorrencias = ocorrenciasAte(competencia);
+        if (isEncerrada() || ocorrencias <= ocorrenciasGeradas || !competencia(ocorrencias - 1).equals(competencia)) {
+            return -1;
+        }
+        return ocorrencias - 1;
+    }
+
+    public Lancamento ocorrencia(int indice) {
+        YearMonth competencia = competencia(indice);
+        return Lancamento.builder().descricao(descricao).valor(valor).tipo(tipo).usuario(usuario)
+                .ano(competencia.getYear()).mes(competencia.getMonthValue()).status(StatusLancamento.PENDENTE)
+                .idRecorrencia(id).parcela(indice + 1).build();
+    }
+
+    /**
+     * Cria os lançamentos das ocorrências até a competência que ainda não foram
+     * gerados e avança a próxima competência, encerrando a recorrência quando a
+     * última ocorrência é gerada.
+     */
+    public List<Lancamento> materializarAte(YearMonth competencia) {
+        int ocorrencias = isEncerrada() ? ocorrenciasGeradas : ocorrenciasAte(competencia);
+        List<Lancamento> lancamentos = new ArrayList<>(Math.max(ocorrencias - ocorrenciasGeradas, 0));
+        for (int indice = ocorrenciasGeradas; indice < ocorrencias; indice++) {
+            lancamentos.add(ocorrencia(indice));
+        }
+
+        if (!isEncerrada()) {
+            ocorrenciasGeradas = Math.max(ocorrencias, ocorrenciasGeradas);
+            YearMonth proxima = competencia(ocorrenciasGeradas);
+            if (ocorrenciasAte(proxima) > ocorrenciasGeradas) {
+                anoProxima = proxima.getYear();
+                mesProxima = proxima.getMonthValue();
+            } else {
+                encerrar();
+            }
+        }
+        return lancamentos;
+    }
+
+    /**
+     * Interrompe a recorrência: nada mais é gerado nem projetado, e os
+     * lançamentos já gerados continuam valendo.
+     */
+    public void encerrar() {
+        quantidade = ocorrenciasGeradas;
+        anoProxima = null;
+        mesProxima = null;
+    }
+}
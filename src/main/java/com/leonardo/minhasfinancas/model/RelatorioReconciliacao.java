@@ -0,0 +1,26 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+public class RelatorioReconciliacao {
+
+    private int usuariosVerificados;
+
+    private int usuariosCorrigidos;
+
+    private final List<DivergenciaSaldo> divergencias = new ArrayList<>();
+
+    public void registrar(List<DivergenciaSaldo> divergenciasUsuario) {
+        usuariosVerificados++;
+        if (!divergenciasUsuario.isEmpty()) {
+            usuariosCorrigidos++;
+            divergencias.addAll(divergenciasUsuario);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+public class ResultadoImportacao {
+
+    private int recebidos;
+
+    private int importados;
+
+    private final List<ErroImportacao> erros = new ArrayList<>();
+
+    public void receber() {
+        recebidos++;
+    }
+
+    public void importar(int quantidade) {
+        importados += quantidade;
+    }
+
+    public void rejeitar(int linha, String mensagem) {
+        erros.add(new ErroImportacao(linha, mensagem));
+    }
+}
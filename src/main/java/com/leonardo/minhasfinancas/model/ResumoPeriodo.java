@@ -0,0 +1,43 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@ToString
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ResumoPeriodo {
+
+    private final Integer ano;
+
+    private final Integer mes;
+
+    private BigDecimal receitas = BigDecimal.ZERO;
+
+    private BigDecimal despesas = BigDecimal.ZERO;
+
+    private long quantidade;
+
+    public ResumoPeriodo(Integer ano, Integer mes) {
+        this.ano = ano;
+        this.mes = mes;
+    }
+
+    public BigDecimal getSaldo() {
+        return receitas.subtract(despesas);
+    }
+
+    public void somar(TotalSaldo total) {
+        if (total.getTipo() == TipoLancamento.RECEITA) {
+            receitas = receitas.add(total.getValor());
+        } else {
+            despesas = despesas.add(total.getValor());
+        }
+        quantidade += total.getQuantidade();
+    }
+}
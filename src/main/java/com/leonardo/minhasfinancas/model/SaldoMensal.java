@@ -0,0 +1,57 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.math.BigDecimal;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@IdClass(SaldoMensalId.class)
+@Table(name = "saldo_mensal", schema = "financas")
+public class SaldoMensal {
+
+    @Id
+    @Column(name = "id_usuario")
+    private Long idUsuario;
+
+    @Id
+    private Integer ano;
+
+    @Id
+    private Integer mes;
+
+    @Id
+    @Enumerated(value = EnumType.STRING)
+    private TipoLancamento tipo;
+
+    @Id
+    @Enumerated(value = EnumType.STRING)
+    private StatusLancamento status;
+
+    private BigDecimal valor;
+
+    private Long quantidade;
+
+    public SaldoMensalId getId() {
+        return new SaldoMensalId(idUsuario, ano, mes, tipo, status);
+    }
+}
@@ -0,0 +1,30 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.io.Serializable;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+public class SaldoMensalId implements Serializable {
+
+    private static final long serialVersionUID = -2934781762104859193L;
+
+    private Long idUsuario;
+
+    private Integer ano;
+
+    private Integer mes;
+
+    private TipoLancamento tipo;
+
+    private StatusLancamento status;
+}
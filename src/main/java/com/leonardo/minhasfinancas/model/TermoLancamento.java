@@ -0,0 +1,49 @@
+package com.leonardo.minhasfinancas.model;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.IdClass;
+import javax.persistence.Table;
+
+import org.springframework.data.domain.Persistable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Termo normalizado da descrição de um lançamento. Os termos nunca são
+ * alterados, apenas incluídos ou excluídos, por isso são sempre novos para o
+ * Spring Data e gravados sem consulta prévia.
+ */
+@Entity
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+@IdClass(TermoLancamentoId.class)
+@Table(name = "lancamento_termo", schema = "financas")
+public class TermoLancamento implements Persistable<TermoLancamentoId> {
+
+    @Id
+    @Column(name = "id_lancamento")
+    private Long idLancamento;
+
+    @Id
+    private String termo;
+
+    @Column(name = "id_usuario")
+    private Long idUsuario;
+
+    @Override
+    public TermoLancamentoId getId() {
+        return new TermoLancamentoId(idLancamento, termo);
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
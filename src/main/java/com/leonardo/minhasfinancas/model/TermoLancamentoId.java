@@ -0,0 +1,21 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.io.Serializable;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@NoArgsConstructor
+public class TermoLancamentoId implements Serializable {
+
+    private static final long serialVersionUID = 7741382004592163513L;
+
+    private Long idLancamento;
+
+    private String termo;
+}
@@ -0,0 +1,22 @@
+package com.leonardo.minhasfinancas.model;
+
+import java.math.BigDecimal;
+
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+
+/**
+ * Soma das linhas de {@link SaldoMensal} de um período e tipo. O mês fica
+ * nulo nos totais anuais.
+ */
+public interface TotalSaldo {
+
+    Integer getAno();
+
+    Integer getMes();
+
+    TipoLancamento getTipo();
+
+    BigDecimal getValor();
+
+    Long getQuantidade();
+}
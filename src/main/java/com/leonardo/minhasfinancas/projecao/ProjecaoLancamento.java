@@ -0,0 +1,30 @@
+package com.leonardo.minhasfinancas.projecao;
+
+import java.util.List;
+
+import com.leonardo.minhasfinancas.model.EventoLancamento;
+
+/**
+ * Visão derivada dos lançamentos, alimentada por financas.evento_lancamento.
+ * Basta registrar um bean: os eventos chegam em lotes, em ordem de id (e
+ * portanto em ordem para cada usuário), dentro da transação que avança a
+ * posição da projeção. O que a projeção gravar no banco é confirmado junto com
+ * a posição; efeitos fora do banco podem se repetir após uma falha.
+ * <p>
+ * Nenhuma projeção vem registrada: o despacho, as posições e a retenção dos
+ * eventos são a infraestrutura para as que forem criadas. Os eventos só
+ * existem a partir da criação da tabela e são apagados depois de entregues e
+ * de {@code minhasfinancas.eventos.retencao}; uma projeção que precise do
+ * histórico carrega primeiro o estado atual de financas.lancamento.
+ */
+public interface ProjecaoLancamento {
+
+	/**
+	 * Chave da posição da projeção. Um nome novo começa do evento mais antigo
+	 * ainda retido; a posição de uma projeção removida deve ser apagada, senão
+	 * ela segura a retenção.
+	 */
+	String getNome();
+
+	void processar(List<EventoLancamento> eventos);
+}
@@ -0,0 +1,47 @@
+package com.leonardo.minhasfinancas.projecao;
+
+import java.util.List;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.stereotype.Component;
+
+import com.leonardo.minhasfinancas.model.AtrasoProjecao;
+import com.leonardo.minhasfinancas.services.EventoLancamentoService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code GET /actuator/projecoes} mostra a posição e o atraso de cada projeção;
+ * {@code POST /actuator/projecoes/{projecao}} com {@code {"posicao": N}} volta
+ * a projeção para depois do evento N (0 reprocessa desde o evento mais antigo
+ * ainda retido). Fica só na porta de gerência, sem autenticação. Um nome que
+ * não é de uma projeção registrada responde 404: uma posição sem projeção
+ * seguraria o expurgo dos eventos para sempre.
+ */
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "projecoes")
+public class ProjecoesEndpoint {
+
+	private final EventoLancamentoService eventoLancamentoService;
+	private final ObjectProvider<ProjecaoLancamento> projecoes;
+
+	@ReadOperation
+	public List<AtrasoProjecao> projecoes() {
+		return eventoLancamentoService.obterAtrasos();
+	}
+
+	@WriteOperation
+	public WebEndpointResponse<AtrasoProjecao> reprocessar(@Selector String projecao, long posicao) {
+		if (projecoes.stream().noneMatch(p -> p.getNome().equals(projecao))) {
+			return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+		}
+		eventoLancamentoService.reprocessar(projecao, posicao);
+		return new WebEndpointResponse<>(eventoLancamentoService.obterAtraso(projecao));
+	}
+}
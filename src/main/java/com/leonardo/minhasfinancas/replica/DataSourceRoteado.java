@@ -0,0 +1,82 @@
+package com.leonardo.minhasfinancas.replica;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Envia as transações {@code readOnly} para as réplicas e o resto para o
+ * primário. Depois de uma escrita confirmada, as leituras do mesmo usuário
+ * ficam no primário durante a {@link JanelaEscrita}. Precisa ficar atrás de um
+ * {@code LazyConnectionDataSourceProxy}: a conexão só é pedida no primeiro
+ * comando, quando a transação já está marcada como somente leitura.
+ */
+public class DataSourceRoteado extends AbstractDataSource {
+
+	public static final String METRICA_CONEXOES = "minhasfinancas.replicas.conexoes";
+
+	private final DataSource primario;
+	private final ReplicasLeitura replicas;
+	private final JanelaEscrita janela;
+	private final Counter escritas;
+	private final Counter leiturasNaReplica;
+	private final Counter leiturasNoPrimario;
+
+	public DataSourceRoteado(DataSource primario, ReplicasLeitura replicas, JanelaEscrita janela,
+			MeterRegistry registry) {
+		this.primario = primario;
+		this.replicas = replicas;
+		this.janela = janela;
+		this.escritas = contador(registry, "primario", "escrita");
+		this.leiturasNaReplica = contador(registry, "replica", "leitura");
+		this.leiturasNoPrimario = contador(registry, "primario", "leitura");
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return escolher().getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return escolher().getConnection(username, password);
+	}
+
+	DataSource escolher() {
+		Long idUsuario = UsuarioRequisicao.obter();
+
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (idUsuario != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+					@Override
+					public void afterCommit() {
+						janela.registrar(idUsuario);
+					}
+				});
+			}
+			escritas.increment();
+			return primario;
+		}
+
+		if (idUsuario != null && janela.contem(idUsuario)) {
+			leiturasNoPrimario.increment();
+			return primario;
+		}
+		leiturasNaReplica.increment();
+		return replicas.proxima();
+	}
+
+	private static Counter contador(MeterRegistry registry, String destino, String transacao) {
+		return Counter.builder(METRICA_CONEXOES).tag("destino", destino).tag("transacao", transacao)
+				.register(registry);
+	}
+}
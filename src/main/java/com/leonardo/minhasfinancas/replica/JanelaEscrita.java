@@ -0,0 +1,40 @@
+package com.leonardo.minhasfinancas.replica;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Usuários que gravaram há menos de {@code minhasfinancas.replicas.janela-leitura}.
+ * As leituras deles vão para o primário até a réplica alcançar a escrita. A
+ * janela é local ao nó: com vários nós, use afinidade de sessão no balanceador
+ * ou uma janela maior que o atraso de replicação somado ao da troca de nó.
+ */
+@Component
+@ConditionalOnProperty(name = "minhasfinancas.replicas.habilitado", havingValue = "true")
+public class JanelaEscrita {
+
+	private final Cache<Long, Boolean> escritas;
+
+	public JanelaEscrita(@Value("${minhasfinancas.replicas.janela-leitura}") Duration janela) {
+		this.escritas = Caffeine.newBuilder().expireAfterWrite(janela.toNanos(), TimeUnit.NANOSECONDS).build();
+	}
+
+	public void registrar(final Long idUsuario) {
+		escritas.put(idUsuario, Boolean.TRUE);
+	}
+
+	public boolean contem(final Long idUsuario) {
+		return escritas.getIfPresent(idUsuario) != null;
+	}
+
+	public long quantidade() {
+		return escritas.estimatedSize();
+	}
+}
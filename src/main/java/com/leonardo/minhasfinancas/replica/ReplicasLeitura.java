@@ -0,0 +1,55 @@
+package com.leonardo.minhasfinancas.replica;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Um pool por réplica, usados em rodízio.
+ */
+public class ReplicasLeitura implements Closeable {
+
+	private final List<HikariDataSource> pools;
+	private final AtomicInteger proxima = new AtomicInteger();
+
+	public ReplicasLeitura(final String[] urls, final String usuario, final String senha, final int tamanhoPool) {
+		List<HikariDataSource> pools = new ArrayList<>(urls.length);
+		for (String url : urls) {
+			if (url.isBlank()) {
+				continue;
+			}
+			HikariConfig config = new HikariConfig();
+			config.setPoolName("replica-" + pools.size());
+			config.setJdbcUrl(url.trim());
+			config.setUsername(usuario);
+			config.setPassword(senha);
+			config.setMaximumPoolSize(tamanhoPool);
+			config.setReadOnly(true);
+			pools.add(new HikariDataSource(config));
+		}
+		if (pools.isEmpty()) {
+			throw new IllegalStateException("Informe ao menos uma réplica em minhasfinancas.replicas.urls.");
+		}
+		this.pools = Collections.unmodifiableList(pools);
+	}
+
+	public DataSource proxima() {
+		return pools.get(Math.floorMod(proxima.getAndIncrement(), pools.size()));
+	}
+
+	public List<? extends DataSource> getPools() {
+		return pools;
+	}
+
+	@Override
+	public void close() {
+		pools.forEach(HikariDataSource::close);
+	}
+}
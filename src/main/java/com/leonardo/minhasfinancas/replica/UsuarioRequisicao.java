@@ -0,0 +1,26 @@
+package com.leonardo.minhasfinancas.replica;
+
+/**
+ * Usuário do token da requisição em andamento, para o roteamento de leituras
+ * saber de quem é a transação. Fica vazio fora de requisições (jobs,
+ * importações em segundo plano).
+ */
+public final class UsuarioRequisicao {
+
+	private static final ThreadLocal<Long> ATUAL = new ThreadLocal<>();
+
+	private UsuarioRequisicao() {
+	}
+
+	public static Long obter() {
+		return ATUAL.get();
+	}
+
+	public static void definir(final Long idUsuario) {
+		ATUAL.set(idUsuario);
+	}
+
+	public static void limpar() {
+		ATUAL.remove();
+	}
+}
@@ -0,0 +1,57 @@
+package com.leonardo.minhasfinancas.replica;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.leonardo.minhasfinancas.exceptions.TokenInvalidoException;
+import com.leonardo.minhasfinancas.services.TokenService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "minhasfinancas.replicas.habilitado", havingValue = "true")
+public class UsuarioRequisicaoFilter extends OncePerRequestFilter {
+
+	private static final String PREFIXO_API = "/api/";
+	private static final String PREFIXO_TOKEN = "Bearer ";
+
+	private final TokenService tokenService;
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !request.getRequestURI().startsWith(PREFIXO_API);
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		UsuarioRequisicao.definir(usuario(request));
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			UsuarioRequisicao.limpar();
+		}
+	}
+
+	private Long usuario(HttpServletRequest request) {
+		String autorizacao = request.getHeader(HttpHeaders.AUTHORIZATION);
+		if (autorizacao != null && autorizacao.regionMatches(true, 0, PREFIXO_TOKEN, 0, PREFIXO_TOKEN.length())) {
+			try {
+				return tokenService.validar(autorizacao.substring(PREFIXO_TOKEN.length()).trim());
+			} catch (TokenInvalidoException e) {
+				// O endpoint responde 401; aqui só não há usuário para rotear.
+			}
+		}
+		return null;
+	}
+}
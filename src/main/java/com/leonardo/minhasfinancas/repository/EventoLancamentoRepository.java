@@ -0,0 +1,56 @@
+package com.leonardo.minhasfinancas.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.leonardo.minhasfinancas.model.EventoLancamento;
+
+public interface EventoLancamentoRepository extends JpaRepository<EventoLancamento, Long> {
+
+	/**
+	 * Grava um evento por lançamento com o estado atual de cada um, em um só
+	 * comando.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "insert into financas.evento_lancamento (tipo_evento, id_lancamento, id_usuario, descricao, mes, "
+			+ "ano, valor, tipo, status, versao) select :tipoEvento, id, id_usuario, descricao, mes, ano, valor, tipo, "
+			+ "status, versao from financas.lancamento where id in (:ids) order by id", nativeQuery = true)
+	int registrar(@Param("tipoEvento") String tipoEvento, @Param("ids") Collection<Long> ids);
+
+	List<EventoLancamento> findByIdGreaterThanOrderById(Long id, Pageable pageable);
+
+	Optional<EventoLancamento> findFirstByIdGreaterThanOrderById(Long id);
+
+	@Query("select coalesce(max(e.id), 0) from EventoLancamento e")
+	Long obterUltimaPosicao();
+
+	/**
+	 * Apaga os eventos criados antes do limite que todas as projeções em
+	 * financas.posicao_projecao já receberam. Sem projeções, só a idade conta.
+	 */
+	@Modifying
+	@Query("delete from EventoLancamento e where e.dataCriacao < :limite and (e.id <= (select min(p.posicao) "
+			+ "from PosicaoProjecao p) or not exists (select p from PosicaoProjecao p))")
+	int expurgar(@Param("limite") LocalDateTime limite);
+
+	/**
+	 * PostgreSQL: a transação mais antiga ainda aberta. Todas as anteriores já
+	 * confirmaram ou foram desfeitas.
+	 */
+	@Query(value = "select txid_snapshot_xmin(txid_current_snapshot())", nativeQuery = true)
+	Long obterTransacaoMaisAntigaAberta();
+
+	/**
+	 * PostgreSQL: a primeira transação que ainda não tinha começado.
+	 */
+	@Query(value = "select txid_snapshot_xmax(txid_current_snapshot())", nativeQuery = true)
+	Long obterProximaTransacao();
+}
@@ -0,0 +1,14 @@
+package com.leonardo.minhasfinancas.repository;
+
+import java.util.Set;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.leonardo.minhasfinancas.model.LancamentoArquivado;
+
+public interface LancamentoArquivadoRepository extends JpaRepository<LancamentoArquivado, Integer> {
+
+	@Query("select a.ano from LancamentoArquivado a")
+	Set<Integer> obterAnos();
+}
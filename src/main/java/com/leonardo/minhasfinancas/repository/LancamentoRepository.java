@@ -1,17 +1,60 @@
 package com.leonardo.minhasfinancas.repository;
 
-import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import static org.hibernate.jpa.QueryHints.HINT_FLUSH_MODE;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
 import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.MovimentoSaldo;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
-import java.math.BigDecimal;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
-public interface LancamentoRepository extends JpaRepository<Lancamento, Long> {
+public interface LancamentoRepository extends JpaRepository<Lancamento, Long>, LancamentoRepositoryCustom {
+
+	/**
+	 * Lê o estado gravado no banco, ignorando alterações ainda não sincronizadas
+	 * da entidade gerenciada com o mesmo id.
+	 */
+	@QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "COMMIT"))
+	@Query("select new com.leonardo.minhasfinancas.model.MovimentoSaldo(l.usuario.id, l.ano, l.mes, l.tipo, l.status, l.valor, 1L) "
+			+ "from Lancamento l where l.id = :id")
+	Optional<MovimentoSaldo> obterMovimentoPersistido(@Param("id") Long id);
+
+	@Query("select l.versao from Lancamento l where l.id = :id and l.usuario.id = :idUsuario")
+	Optional<Long> obterVersao(@Param("id") Long id, @Param("idUsuario") Long idUsuario);
+
+	/**
+	 * Trava (select ... for update) os lançamentos do usuário que ainda não estão
+	 * no status informado, para que não mudem entre o cálculo do saldo e o update.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select l.id from Lancamento l where l.id in :ids and l.usuario.id = :idUsuario and l.status <> :status "
+			+ "order by l.id")
+	List<Long> bloquearParaAlterarStatus(@Param("ids") Collection<Long> ids, @Param("idUsuario") Long idUsuario,
+			@Param("status") StatusLancamento status);
+
+	@Query("select new com.leonardo.minhasfinancas.model.MovimentoSaldo(l.usuario.id, l.ano, l.mes, l.tipo, l.status, sum(l.valor), count(l)) "
+			+ "from Lancamento l where l.id in :ids group by l.usuario.id, l.ano, l.mes, l.tipo, l.status")
+	List<MovimentoSaldo> obterMovimentos(@Param("ids") Collection<Long> ids);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Lancamento l set l.status = :status, l.versao = l.versao + 1 where l.id in :ids")
+	int atualizarStatus(@Param("ids") Collection<Long> ids, @Param("status") StatusLancamento status);
+
+	List<Lancamento> findByUsuarioId(Long idUsuario);
 
-	@Query(value = "select sum(l.valor) from Lancamento l join l.usuario u "
-			+ "where u.id = :idUsuario and l.tipo = :tipo group by u")
-	BigDecimal obterSaldoPorTipoLancamentoEUsuario(@Param("idUsuario") Long idUsuario, @Param("tipo") TipoLancamento tipo);
+	@Query("select new com.leonardo.minhasfinancas.model.MovimentoSaldo(l.usuario.id, l.ano, l.mes, l.tipo, l.status, sum(l.valor), count(l)) "
+			+ "from Lancamento l where l.usuario.id = :idUsuario group by l.usuario.id, l.ano, l.mes, l.tipo, l.status")
+	List<MovimentoSaldo> obterMovimentosPorUsuario(@Param("idUsuario") Long idUsuario);
 }
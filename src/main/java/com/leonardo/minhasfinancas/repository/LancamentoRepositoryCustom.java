@@ -0,0 +1,51 @@
+package com.leonardo.minhasfinancas.repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.model.AlteracaoStatus;
+import com.leonardo.minhasfinancas.model.CursorLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+
+public interface LancamentoRepositoryCustom {
+
+	/**
+	 * Mesmo filtro de {@link #buscar(Lancamento, Pageable)}, projetado direto no
+	 * DTO com apenas o id do usuário: uma única consulta, sem junção.
+	 */
+	List<LancamentoDto> buscarDto(Lancamento filtro);
+
+	/**
+	 * Mesma consulta de {@link #buscarDto(Lancamento)}, lida do cursor do banco
+	 * {@code tamanhoFetch} linhas por vez. Precisa de transação aberta e deve ser
+	 * fechada ao final.
+	 */
+	Stream<LancamentoDto> percorrerDto(Lancamento filtro, int tamanhoFetch);
+
+	Slice<Lancamento> buscar(Lancamento filtro, Pageable pageable);
+
+	/**
+	 * Trava os lançamentos do filtro que ainda não estão no status informado e
+	 * devolve seus ids, em ordem.
+	 */
+	List<Long> bloquearParaAlterarStatus(Lancamento filtro, StatusLancamento status);
+
+	/**
+	 * Troca o status do lançamento do usuário se ele estiver em outro status e
+	 * na versão informada (nula aceita a atual). Vazio quando o lançamento não
+	 * existe ou é de outro usuário. No PostgreSQL é um único comando: o CTE trava
+	 * e lê a linha, o update é condicional à versão e o estado anterior volta
+	 * junto com a nova versão. Nos demais bancos, leitura seguida do update
+	 * condicional.
+	 */
+	Optional<AlteracaoStatus> alterarStatus(Long id, Long idUsuario, StatusLancamento status, Long versao);
+
+	Slice<Lancamento> buscar(Lancamento filtro, CursorLancamento cursor, Sort.Direction direcao, int tamanho);
+}
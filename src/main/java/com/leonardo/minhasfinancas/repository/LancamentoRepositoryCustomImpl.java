@@ -0,0 +1,255 @@
+package com.leonardo.minhasfinancas.repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.hibernate.dialect.PostgreSQL81Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.AlteracaoStatus;
+import com.leonardo.minhasfinancas.model.CursorLancamento;
+import com.leonardo.minhasfinancas.model.EstadoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+
+public class LancamentoRepositoryCustomImpl implements LancamentoRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private Boolean postgres;
+
+	@Override
+	public List<LancamentoDto> buscarDto(final Lancamento filtro) {
+		return consultarDto(filtro).getResultList();
+	}
+
+	@Override
+	public Stream<LancamentoDto> percorrerDto(final Lancamento filtro, final int tamanhoFetch) {
+		return consultarDto(filtro).setHint(QueryHints.HINT_FETCH_SIZE, tamanhoFetch).getResultStream();
+	}
+
+	private TypedQuery<LancamentoDto> consultarDto(final Lancamento filtro) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<LancamentoDto> query = cb.createQuery(LancamentoDto.class);
+		Root<Lancamento> root = query.from(Lancamento.class);
+
+		query.select(cb.construct(LancamentoDto.class, root.get("id"), root.get("descricao"), root.get("mes"),
+				root.get("ano"), root.get("valor"), root.get("usuario").get("id"), root.get("tipo"),
+				root.get("status"), root.get("versao"), root.get("idRecorrencia"), root.get("parcela")));
+		query.where(filtrar(filtro, cb, root).toArray(new Predicate[0]));
+		query.orderBy(cb.asc(root.get("ano")), cb.asc(root.get("mes")), cb.asc(root.get("id")));
+
+		return entityManager.createQuery(query);
+	}
+
+	@Override
+	public Slice<Lancamento> buscar(final Lancamento filtro, final Pageable pageable) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Lancamento> query = cb.createQuery(Lancamento.class);
+		Root<Lancamento> root = query.from(Lancamento.class);
+
+		query.where(filtrar(filtro, cb, root).toArray(new Predicate[0]));
+		query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+		TypedQuery<Lancamento> typedQuery = entityManager.createQuery(query);
+		typedQuery.setFirstResult((int) pageable.getOffset());
+		typedQuery.setMaxResults(pageable.getPageSize() + 1);
+
+		return fatiar(typedQuery.getResultList(), pageable);
+	}
+
+	@Override
+	public Slice<Lancamento> buscar(final Lancamento filtro, final CursorLancamento cursor,
+			final Sort.Direction direcao, final int tamanho) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Lancamento> query = cb.createQuery(Lancamento.class);
+		Root<Lancamento> root = query.from(Lancamento.class);
+
+		List<Predicate> predicates = filtrar(filtro, cb, root);
+		if (cursor != null) {
+			predicates.add(aposCursor(cursor, direcao, cb, root));
+		}
+		query.where(predicates.toArray(new Predicate[0]));
+
+		List<Order> ordem = new ArrayList<>();
+		for (String atributo : new String[] { "ano", "mes", "id" }) {
+			ordem.add(direcao.isAscending() ? cb.asc(root.get(atributo)) : cb.desc(root.get(atributo)));
+		}
+		query.orderBy(ordem);
+
+		TypedQuery<Lancamento> typedQuery = entityManager.createQuery(query);
+		typedQuery.setMaxResults(tamanho + 1);
+
+		return fatiar(typedQuery.getResultList(), PageRequest.of(0, tamanho));
+	}
+
+	@Override
+	public List<Long> bloquearParaAlterarStatus(final Lancamento filtro, final StatusLancamento status) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<Lancamento> root = query.from(Lancamento.class);
+
+		List<Predicate> predicates = filtrar(filtro, cb, root);
+		predicates.add(cb.notEqual(root.get("status"), status));
+		query.select(root.get("id")).where(predicates.toArray(new Predicate[0])).orderBy(cb.asc(root.get("id")));
+
+		return entityManager.createQuery(query).setLockMode(LockModeType.PESSIMISTIC_WRITE).getResultList();
+	}
+
+	@Override
+	public Optional<AlteracaoStatus> alterarStatus(final Long id, final Long idUsuario,
+			final StatusLancamento status, final Long versao) {
+		entityManager.flush();
+		Optional<AlteracaoStatus> alteracao = isPostgres() ? alterarStatusNoPostgres(id, idUsuario, status, versao)
+				: alterarStatusLendoAntes(id, idUsuario, status, versao);
+		entityManager.clear();
+		return alteracao;
+	}
+
+	/**
+	 * O update só acontece se o status for outro e a versão bater; a coluna
+	 * "alterado" traz a nova versão, ou nulo quando o update não pegou a linha.
+	 */
+	private Optional<AlteracaoStatus> alterarStatusNoPostgres(final Long id, final Long idUsuario,
+			final StatusLancamento status, final Long versao) {
+		String sql = "with anterior as (select id, ano, mes, tipo, status, valor, versao, id_usuario "
+				+ "from financas.lancamento where id = :id and id_usuario = :idUsuario for update), "
+				+ "alterado as (update financas.lancamento l set status = :status, versao = l.versao + 1 "
+				+ "from anterior a where l.id = a.id and l.ano = a.ano and a.status <> :status"
+				+ (versao != null ? " and a.versao = :versao" : "") + " returning l.versao) "
+				+ "select a.id_usuario, a.ano, a.mes, a.tipo, a.status, a.valor, a.versao, "
+				+ "(select versao from alterado) from anterior a";
+
+		Query query = entityManager.createNativeQuery(sql).setParameter("id", id)
+				.setParameter("idUsuario", idUsuario).setParameter("status", status.name());
+		if (versao != null) {
+			query.setParameter("versao", versao);
+		}
+
+		List<?> linhas = query.getResultList();
+		if (linhas.isEmpty()) {
+			return Optional.empty();
+		}
+		Object[] linha = (Object[]) linhas.get(0);
+		EstadoLancamento anterior = new EstadoLancamento(((Number) linha[0]).longValue(),
+				((Number) linha[1]).intValue(), ((Number) linha[2]).intValue(),
+				TipoLancamento.valueOf((String) linha[3]), StatusLancamento.valueOf((String) linha[4]),
+				(BigDecimal) linha[5], ((Number) linha[6]).longValue());
+		Long novaVersao = linha[7] != null ? ((Number) linha[7]).longValue() : null;
+		return Optional.of(new AlteracaoStatus(anterior, novaVersao));
+	}
+
+	/**
+	 * Sem update ... returning: lê o estado e troca o status com update
+	 * condicional à versão lida. Se outra transação alterar a linha no meio, o
+	 * update não pega nada e a alteração volta como não feita.
+	 */
+	private Optional<AlteracaoStatus> alterarStatusLendoAntes(final Long id, final Long idUsuario,
+			final StatusLancamento status, final Long versao) {
+		Optional<EstadoLancamento> estado = entityManager.createQuery("select new "
+				+ "com.leonardo.minhasfinancas.model.EstadoLancamento(l.usuario.id, l.ano, l.mes, l.tipo, l.status, "
+				+ "l.valor, l.versao) from Lancamento l where l.id = :id and l.usuario.id = :idUsuario",
+				EstadoLancamento.class).setParameter("id", id).setParameter("idUsuario", idUsuario)
+				.getResultStream().findFirst();
+		if (!estado.isPresent()) {
+			return Optional.empty();
+		}
+
+		EstadoLancamento anterior = estado.get();
+		if (anterior.getStatus() == status || (versao != null && !versao.equals(anterior.getVersao()))) {
+			return Optional.of(new AlteracaoStatus(anterior, null));
+		}
+		int alterados = entityManager.createQuery("update Lancamento l set l.status = :status, "
+				+ "l.versao = l.versao + 1 where l.id = :id and l.ano = :ano and l.versao = :versao")
+				.setParameter("status", status).setParameter("id", id).setParameter("ano", anterior.getAno())
+				.setParameter("versao", anterior.getVersao()).executeUpdate();
+		return Optional.of(new AlteracaoStatus(anterior, alterados == 1 ? anterior.getVersao() + 1 : null));
+	}
+
+	private boolean isPostgres() {
+		if (postgres == null) {
+			postgres = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+					.getJdbcServices().getDialect() instanceof PostgreSQL81Dialect;
+		}
+		return postgres;
+	}
+
+	private List<Predicate> filtrar(final Lancamento filtro, final CriteriaBuilder cb, final Root<Lancamento> root) {
+		List<Predicate> predicates = new ArrayList<>();
+
+		if (filtro.getUsuario() != null) {
+			predicates.add(cb.equal(root.get("usuario").get("id"), filtro.getUsuario().getId()));
+		}
+		if (filtro.getDescricao() != null) {
+			predicates.add(cb.like(cb.lower(root.get("descricao")), "%" + filtro.getDescricao().toLowerCase() + "%"));
+		}
+		if (filtro.getMes() != null) {
+			predicates.add(cb.equal(root.get("mes"), filtro.getMes()));
+		}
+		if (filtro.getAno() != null) {
+			predicates.add(cb.equal(root.get("ano"), filtro.getAno()));
+		}
+		if (filtro.getTipo() != null) {
+			predicates.add(cb.equal(root.get("tipo"), filtro.getTipo()));
+		}
+		if (filtro.getStatus() != null) {
+			predicates.add(cb.equal(root.get("status"), filtro.getStatus()));
+		}
+
+		return predicates;
+	}
+
+	/**
+	 * Equivale a (ano, mes, id) > (cursor.ano, cursor.mes, cursor.id), ou < na
+	 * ordem decrescente. A faixa explícita de ano, redundante com o or, deixa o
+	 * PostgreSQL descartar as partições anteriores (ou posteriores) ao cursor.
+	 */
+	private Predicate aposCursor(final CursorLancamento cursor, final Sort.Direction direcao,
+			final CriteriaBuilder cb, final Root<Lancamento> root) {
+		Expression<Integer> ano = root.get("ano");
+		Expression<Integer> mes = root.get("mes");
+		Expression<Long> id = root.get("id");
+
+		if (direcao.isAscending()) {
+			return cb.and(cb.greaterThanOrEqualTo(ano, cursor.getAno()), cb.or(cb.greaterThan(ano, cursor.getAno()),
+					cb.and(cb.equal(ano, cursor.getAno()), cb.greaterThan(mes, cursor.getMes())),
+					cb.and(cb.equal(ano, cursor.getAno()), cb.equal(mes, cursor.getMes()),
+							cb.greaterThan(id, cursor.getId()))));
+		}
+		return cb.and(cb.lessThanOrEqualTo(ano, cursor.getAno()), cb.or(cb.lessThan(ano, cursor.getAno()),
+				cb.and(cb.equal(ano, cursor.getAno()), cb.lessThan(mes, cursor.getMes())),
+				cb.and(cb.equal(ano, cursor.getAno()), cb.equal(mes, cursor.getMes()),
+						cb.lessThan(id, cursor.getId()))));
+	}
+
+	private Slice<Lancamento> fatiar(final List<Lancamento> resultado, final Pageable pageable) {
+		boolean temProxima = resultado.size() > pageable.getPageSize();
+		List<Lancamento> conteudo = temProxima ? resultado.subList(0, pageable.getPageSize()) : resultado;
+		return new SliceImpl<>(conteudo, pageable, temProxima);
+	}
+}
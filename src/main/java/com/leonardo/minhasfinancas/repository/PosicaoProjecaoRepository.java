@@ -0,0 +1,23 @@
+package com.leonardo.minhasfinancas.repository;
+
+import java.util.Optional;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.leonardo.minhasfinancas.model.PosicaoProjecao;
+
+public interface PosicaoProjecaoRepository extends JpaRepository<PosicaoProjecao, String> {
+
+	/**
+	 * Trava a posição até o fim da transação: com várias instâncias, só uma
+	 * entrega eventos a cada projeção por vez.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select p from PosicaoProjecao p where p.projecao = :projecao")
+	Optional<PosicaoProjecao> bloquear(@Param("projecao") String projecao);
+}
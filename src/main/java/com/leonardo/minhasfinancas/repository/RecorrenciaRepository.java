@@ -0,0 +1,37 @@
+package com.leonardo.minhasfinancas.repository;
+
+import java.util.List;
+
+import javax.persistence.LockModeType;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.leonardo.minhasfinancas.model.Recorrencia;
+
+public interface RecorrenciaRepository extends JpaRepository<Recorrencia, Long> {
+
+	List<Recorrencia> findByUsuarioIdOrderById(Long idUsuario);
+
+	/**
+	 * Recorrências ativas do usuário que ainda têm ocorrência não gerada até a
+	 * competência informada.
+	 */
+	@Query("select r from Recorrencia r where r.usuario.id = :idUsuario and r.anoProxima is not null "
+			+ "and (r.anoProxima < :ano or (r.anoProxima = :ano and r.mesProxima <= :mes)) order by r.id")
+	List<Recorrencia> obterProjetaveis(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano,
+			@Param("mes") Integer mes);
+
+	/**
+	 * Próxima página, por id, das recorrências com ocorrência a gerar até a
+	 * competência. O lock impede que duas execuções gerem a mesma ocorrência.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select r from Recorrencia r where r.id > :aposId and r.anoProxima is not null "
+			+ "and (r.anoProxima < :ano or (r.anoProxima = :ano and r.mesProxima <= :mes)) order by r.id")
+	List<Recorrencia> obterPendentes(@Param("aposId") Long aposId, @Param("ano") Integer ano,
+			@Param("mes") Integer mes, Pageable pageable);
+}
@@ -0,0 +1,56 @@
+package com.leonardo.minhasfinancas.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.SaldoMensal;
+import com.leonardo.minhasfinancas.model.SaldoMensalId;
+import com.leonardo.minhasfinancas.model.TotalSaldo;
+
+public interface SaldoMensalRepository extends JpaRepository<SaldoMensal, SaldoMensalId> {
+
+	@Modifying
+	@Query("update SaldoMensal s set s.valor = s.valor + :valor, s.quantidade = s.quantidade + :quantidade "
+			+ "where s.idUsuario = :idUsuario and s.ano = :ano and s.mes = :mes and s.tipo = :tipo and s.status = :status")
+	int somar(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano, @Param("mes") Integer mes,
+			@Param("tipo") TipoLancamento tipo, @Param("status") StatusLancamento status,
+			@Param("valor") BigDecimal valor, @Param("quantidade") Long quantidade);
+
+	@Modifying
+	@Query(nativeQuery = true, value = "insert into financas.saldo_mensal (id_usuario, ano, mes, tipo, status, valor, quantidade) "
+			+ "values (:idUsuario, :ano, :mes, :tipo, :status, :valor, :quantidade)")
+	int inserir(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano, @Param("mes") Integer mes,
+			@Param("tipo") String tipo, @Param("status") String status, @Param("valor") BigDecimal valor,
+			@Param("quantidade") Long quantidade);
+
+	List<SaldoMensal> findByIdUsuario(Long idUsuario);
+
+	@Query("select s.ano as ano, s.mes as mes, s.tipo as tipo, sum(s.valor) as valor, sum(s.quantidade) as quantidade "
+			+ "from SaldoMensal s where s.idUsuario = :idUsuario and s.ano = :ano and s.status in :status "
+			+ "group by s.ano, s.mes, s.tipo")
+	List<TotalSaldo> somarPorMes(@Param("idUsuario") Long idUsuario, @Param("ano") Integer ano,
+			@Param("status") Collection<StatusLancamento> status);
+
+	@Query("select s.ano as ano, s.tipo as tipo, sum(s.valor) as valor, sum(s.quantidade) as quantidade "
+			+ "from SaldoMensal s where s.idUsuario = :idUsuario and s.status in :status group by s.ano, s.tipo")
+	List<TotalSaldo> somarPorAno(@Param("idUsuario") Long idUsuario,
+			@Param("status") Collection<StatusLancamento> status);
+
+	@Query("select s.tipo as tipo, sum(s.valor) as valor, sum(s.quantidade) as quantidade "
+			+ "from SaldoMensal s where s.idUsuario = :idUsuario and s.status in :status "
+			+ "and (s.ano < :ano or (s.ano = :ano and s.mes <= :mes)) group by s.tipo")
+	List<TotalSaldo> somarAte(@Param("idUsuario") Long idUsuario, @Param("status") Collection<StatusLancamento> status,
+			@Param("ano") Integer ano, @Param("mes") Integer mes);
+
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("delete from SaldoMensal s where s.idUsuario = :idUsuario")
+	int excluirPorUsuario(@Param("idUsuario") Long idUsuario);
+}
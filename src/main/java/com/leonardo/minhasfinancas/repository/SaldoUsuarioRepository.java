@@ -0,0 +1,29 @@
+package com.leonardo.minhasfinancas.repository;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.leonardo.minhasfinancas.model.SaldoUsuario;
+
+public interface SaldoUsuarioRepository extends JpaRepository<SaldoUsuario, Long> {
+
+	@Modifying
+	@Query("update SaldoUsuario s set s.receitas = s.receitas + :receitas, s.despesas = s.despesas + :despesas "
+			+ "where s.idUsuario = :idUsuario")
+	int somar(@Param("idUsuario") Long idUsuario, @Param("receitas") BigDecimal receitas,
+			@Param("despesas") BigDecimal despesas);
+
+	@Modifying
+	@Query(nativeQuery = true, value = "insert into financas.saldo_usuario (id_usuario, receitas, despesas) "
+			+ "values (:idUsuario, :receitas, :despesas)")
+	int inserir(@Param("idUsuario") Long idUsuario, @Param("receitas") BigDecimal receitas,
+			@Param("despesas") BigDecimal despesas);
+
+	@Query("select s.receitas - s.despesas from SaldoUsuario s where s.idUsuario = :idUsuario")
+	Optional<BigDecimal> obterSaldo(@Param("idUsuario") Long idUsuario);
+}
@@ -0,0 +1,30 @@
+package com.leonardo.minhasfinancas.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.leonardo.minhasfinancas.model.TermoLancamento;
+import com.leonardo.minhasfinancas.model.TermoLancamentoId;
+
+public interface TermoLancamentoRepository
+		extends JpaRepository<TermoLancamento, TermoLancamentoId>, TermoLancamentoRepositoryCustom {
+
+	List<TermoLancamento> findByIdLancamento(Long idLancamento);
+
+	@Modifying
+	@Query("delete from TermoLancamento t where t.idLancamento = :idLancamento")
+	int excluirPorLancamento(@Param("idLancamento") Long idLancamento);
+
+	@Modifying
+	@Query("delete from TermoLancamento t where t.idLancamento = :idLancamento and t.termo in :termos")
+	int excluirTermos(@Param("idLancamento") Long idLancamento, @Param("termos") Collection<String> termos);
+
+	@Modifying
+	@Query("delete from TermoLancamento t where t.idUsuario = :idUsuario")
+	int excluirPorUsuario(@Param("idUsuario") Long idUsuario);
+}
@@ -0,0 +1,14 @@
+package com.leonardo.minhasfinancas.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TermoLancamentoRepositoryCustom {
+
+	/**
+	 * Ids dos lançamentos do usuário que têm, para cada prefixo informado, algum
+	 * termo começando por ele, do mais para o menos relevante. Um termo idêntico
+	 * ao prefixo vale mais que um termo que apenas começa com ele.
+	 */
+	List<Long> buscarIdsPorRelevancia(Long idUsuario, Collection<String> prefixos, int limite);
+}
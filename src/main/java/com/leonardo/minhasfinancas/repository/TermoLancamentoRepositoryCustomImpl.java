@@ -0,0 +1,54 @@
+package com.leonardo.minhasfinancas.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Tuple;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import com.leonardo.minhasfinancas.model.TermoLancamento;
+
+public class TermoLancamentoRepositoryCustomImpl implements TermoLancamentoRepositoryCustom {
+
+	private static final long PESO_TERMO_EXATO = 2L;
+	private static final long PESO_PREFIXO = 1L;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<Long> buscarIdsPorRelevancia(final Long idUsuario, final Collection<String> prefixos,
+			final int limite) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<TermoLancamento> root = query.from(TermoLancamento.class);
+
+		Expression<String> termo = root.get("termo");
+		Expression<Long> idLancamento = root.get("idLancamento");
+		Expression<Long> relevancia = cb.sum(cb.<Long>selectCase()
+				.when(termo.in(prefixos), PESO_TERMO_EXATO).otherwise(PESO_PREFIXO));
+
+		Predicate[] algumPrefixo = prefixos.stream().map(p -> cb.like(termo, p + "%")).toArray(Predicate[]::new);
+		// O where traz os termos de qualquer prefixo; o having exige que cada
+		// prefixo tenha encontrado ao menos um termo do lançamento.
+		Predicate[] todosOsPrefixos = prefixos.stream()
+				.map(p -> cb.gt(cb.sum(cb.<Integer>selectCase().when(cb.like(termo, p + "%"), 1).otherwise(0)), 0))
+				.toArray(Predicate[]::new);
+
+		query.multiselect(idLancamento, relevancia);
+		query.where(cb.equal(root.get("idUsuario"), idUsuario), cb.or(algumPrefixo));
+		query.groupBy(idLancamento);
+		query.having(todosOsPrefixos);
+		query.orderBy(cb.desc(relevancia), cb.desc(idLancamento));
+
+		return entityManager.createQuery(query).setMaxResults(limite).getResultList().stream()
+				.map(tupla -> tupla.get(0, Long.class)).collect(Collectors.toList());
+	}
+}
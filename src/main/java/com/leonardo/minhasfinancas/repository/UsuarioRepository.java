@@ -1,8 +1,15 @@
 package com.leonardo.minhasfinancas.repository;
 
+import java.util.Collection;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.leonardo.minhasfinancas.model.Usuario;
 
@@ -12,4 +19,28 @@ public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
     
     Optional<Usuario> findByEmail(String email);
 
+    @Query("select u.id from Usuario u order by u.id")
+    Slice<Long> obterIds(Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("update Usuario u set u.senha = :senha where u.id = :id")
+    int atualizarSenha(@Param("id") Long id, @Param("senha") String senha);
+
+    @Query(value = "select versao_dados from financas.usuario where id = :id", nativeQuery = true)
+    Optional<Long> obterVersaoDados(@Param("id") Long id);
+
+    @Modifying
+    @Query(value = "update financas.usuario set versao_dados = versao_dados + 1 where id in (:ids)", nativeQuery = true)
+    int incrementarVersaoDados(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Trava a linha do usuário sem mudar a versão. É um update, e não um select
+     * for update, para não esperar pelas chaves estrangeiras dos lançamentos
+     * sendo inseridos para o usuário.
+     */
+    @Modifying
+    @Query(value = "update financas.usuario set versao_dados = versao_dados where id = :id", nativeQuery = true)
+    int travar(@Param("id") Long id);
+
 }
@@ -0,0 +1,18 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.util.List;
+
+import com.leonardo.minhasfinancas.model.Lancamento;
+
+public interface BuscaDescricaoService {
+
+	void indexar(Lancamento lancamento);
+
+	void reindexar(Lancamento lancamento);
+
+	void remover(Long idLancamento);
+
+	void reindexarUsuario(Long idUsuario);
+
+	List<Lancamento> buscar(Long idUsuario, String texto, int limite);
+}
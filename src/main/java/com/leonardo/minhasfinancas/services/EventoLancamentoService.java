@@ -0,0 +1,47 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.leonardo.minhasfinancas.enums.TipoEventoLancamento;
+import com.leonardo.minhasfinancas.model.AtrasoProjecao;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.projecao.ProjecaoLancamento;
+
+/**
+ * Outbox dos lançamentos. Os eventos são gravados na transação da alteração,
+ * depois da trava no usuário (ver {@link VersaoDadosService}), e entregues às
+ * projeções em ordem de id.
+ */
+public interface EventoLancamentoService {
+
+	void registrar(TipoEventoLancamento tipo, Lancamento lancamento);
+
+	/**
+	 * Lê o estado dos lançamentos do banco: as alterações já precisam ter sido
+	 * enviadas.
+	 */
+	void registrar(TipoEventoLancamento tipo, Collection<Long> idsLancamentos);
+
+	/**
+	 * Entrega à projeção o próximo lote de eventos e avança a posição dela.
+	 * Devolve quantos eventos foram entregues.
+	 */
+	int despachar(ProjecaoLancamento projecao, int tamanhoLote);
+
+	/**
+	 * Volta (ou avança) a projeção para depois do evento {@code posicao}; 0
+	 * reprocessa desde o evento mais antigo ainda retido.
+	 */
+	void reprocessar(String projecao, long posicao);
+
+	/**
+	 * Apaga os eventos que todas as projeções já receberam e que passaram de
+	 * {@code minhasfinancas.eventos.retencao}. Devolve quantos foram apagados.
+	 */
+	int expurgar();
+
+	AtrasoProjecao obterAtraso(String projecao);
+
+	List<AtrasoProjecao> obterAtrasos();
+}
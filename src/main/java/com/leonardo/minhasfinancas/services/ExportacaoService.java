@@ -0,0 +1,17 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.leonardo.minhasfinancas.enums.FormatoExportacao;
+import com.leonardo.minhasfinancas.model.Lancamento;
+
+public interface ExportacaoService {
+
+	/**
+	 * Escreve na saída os lançamentos do filtro (o mesmo da busca), lidos do
+	 * banco por cursor. A memória usada não depende da quantidade de linhas. A
+	 * saída não é fechada.
+	 */
+	void exportar(Lancamento filtro, FormatoExportacao formato, OutputStream saida) throws IOException;
+}
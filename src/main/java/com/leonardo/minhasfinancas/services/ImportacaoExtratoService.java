@@ -0,0 +1,21 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.Optional;
+import java.util.UUID;
+
+import com.leonardo.minhasfinancas.enums.FormatoExtrato;
+import com.leonardo.minhasfinancas.model.ImportacaoExtrato;
+
+public interface ImportacaoExtratoService {
+
+	/**
+	 * Copia o extrato para um arquivo temporário e agenda o processamento,
+	 * devolvendo a importação para que o andamento seja consultado depois. Com
+	 * o pool de importações cheio lança {@code TaskRejectedException}.
+	 */
+	ImportacaoExtrato iniciar(Long idUsuario, FormatoExtrato formato, Charset charset, InputStream conteudo);
+
+	Optional<ImportacaoExtrato> obter(UUID id);
+}
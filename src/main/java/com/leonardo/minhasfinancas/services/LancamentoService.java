@@ -1,27 +1,100 @@
 package com.leonardo.minhasfinancas.services;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
 import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.model.CursorLancamento;
 import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.ResultadoImportacao;
 
 public interface LancamentoService {
 
 	Lancamento salvar(Lancamento lancamento);
 
+	/**
+	 * Grava os lançamentos em lotes, na ordem recebida. Linhas inválidas são
+	 * rejeitadas individualmente, sem impedir a gravação das demais.
+	 */
+	ResultadoImportacao salvarLote(Iterator<Lancamento> lancamentos);
+
+	/**
+	 * Como {@link #salvarLote(Iterator)}, mas cada lote é confirmado na sua
+	 * própria transação. Se o banco recusar um lançamento que passou na
+	 * validação, o lote é regravado um a um e só essa linha é rejeitada. O
+	 * resultado é preenchido à medida que os lotes são confirmados: se a leitura
+	 * falhar no meio, ele mostra o que já foi gravado.
+	 */
+	void importarLote(Iterator<Lancamento> lancamentos, ResultadoImportacao resultado);
+
 	Lancamento atualizar(Lancamento lancamento);
 
 	void deletar(Lancamento lancamento);
 
+	/**
+	 * Grava os dados informados no lançamento do usuário, se ele estiver na
+	 * versão esperada (nula aceita a atual). O lançamento é lido dentro da
+	 * transação de escrita, e não antes dela. Vazio quando ele não existe ou é
+	 * de outro usuário.
+	 */
+	Optional<Lancamento> atualizar(Long id, Long idUsuario, Long versao, Lancamento dados);
+
+	/**
+	 * Exclui o lançamento do usuário, lido dentro da transação de escrita.
+	 * Devolve falso quando ele não existe ou é de outro usuário.
+	 */
+	boolean deletar(Long id, Long idUsuario);
+
 	List<Lancamento> buscar(Lancamento lancamento);
 
+	/**
+	 * Caminho de leitura da busca: devolve os lançamentos já projetados no DTO,
+	 * sem carregar entidades.
+	 */
+	List<LancamentoDto> buscarDto(Lancamento filtro);
+
+	Slice<Lancamento> buscar(Lancamento lancamento, Pageable pageable);
+
+	Slice<Lancamento> buscar(Lancamento lancamento, CursorLancamento cursor, Sort.Direction direcao, int tamanho);
+
 	void atualizarStatus(Lancamento lancamento, StatusLancamento status);
+
+	/**
+	 * Altera apenas o status, com um update condicional à versão, sem carregar o
+	 * lançamento. Versão nula aceita a versão atual. Devolve a nova versão. O
+	 * lançamento de outro usuário é tratado como inexistente.
+	 */
+	Long atualizarStatus(Long id, Long idUsuario, StatusLancamento status, Long versao);
+
+	/**
+	 * Altera o status dos lançamentos informados com updates em bloco, movendo os
+	 * saldos por grupo. Ids de outros usuários são ignorados. Devolve quantos
+	 * lançamentos mudaram de status.
+	 */
+	int atualizarStatusEmLote(Collection<Long> ids, Long idUsuario, StatusLancamento status);
+
+	/**
+	 * Mesmo que {@link #atualizarStatusEmLote(Collection, Long, StatusLancamento)} para os
+	 * lançamentos do usuário, ano e mês do filtro (e do status atual, se houver).
+	 */
+	int atualizarStatusEmLote(Lancamento filtro, StatusLancamento status);
 	
 	void validar(Lancamento lancamento);
 	
 	Optional<Lancamento> buscarPorId(Long id);
+
+	/**
+	 * Apenas a versão do lançamento do usuário, sem carregá-lo.
+	 */
+	Optional<Long> obterVersao(Long id, Long idUsuario);
 	
 	BigDecimal obterSaldoPorUsuario(Long id);
 }
@@ -0,0 +1,50 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.LoteMaterializacao;
+import com.leonardo.minhasfinancas.model.Recorrencia;
+
+public interface RecorrenciaService {
+
+	/**
+	 * Grava a recorrência e já gera os lançamentos até o horizonte de
+	 * materialização.
+	 */
+	Recorrencia salvar(Recorrencia recorrencia);
+
+	/**
+	 * Encerra a recorrência do usuário; a de outro usuário é tratada como
+	 * inexistente.
+	 */
+	void encerrar(Long id, Long idUsuario);
+
+	Optional<Recorrencia> buscarPorId(Long id);
+
+	List<Recorrencia> buscarPorUsuario(Long idUsuario);
+
+	/**
+	 * Gera, em uma transação, os lançamentos até a competência de até
+	 * {@code quantidade} recorrências com id maior que {@code aposId}.
+	 */
+	LoteMaterializacao materializar(YearMonth ate, Long aposId, int quantidade);
+
+	/**
+	 * Ocorrências ainda não geradas que caem no ano e mês do filtro (obrigatórios
+	 * com o usuário), sem id e pendentes.
+	 */
+	List<LancamentoDto> projetar(Lancamento filtro);
+
+	/**
+	 * Soma das ocorrências ainda não geradas até o mês {@code mes} de {@code ano},
+	 * inclusive. Todas são pendentes: com status informado sem PENDENTE, é zero.
+	 */
+	BigDecimal projetarSaldo(Long idUsuario, Collection<StatusLancamento> status, Integer ano, Integer mes);
+}
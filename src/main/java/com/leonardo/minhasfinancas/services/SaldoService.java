@@ -0,0 +1,56 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.model.DivergenciaSaldo;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.MovimentoSaldo;
+import com.leonardo.minhasfinancas.model.ResumoPeriodo;
+
+/**
+ * As escritas no saldo supõem o usuário já travado na transação, pelo
+ * incremento da versão dos dados ({@link VersaoDadosService#incrementar}).
+ */
+public interface SaldoService {
+
+	void registrar(Lancamento lancamento);
+
+	void registrar(Collection<Lancamento> lancamentos);
+
+	void estornar(MovimentoSaldo movimento);
+
+	/**
+	 * Move o movimento do status em que está para o novo status.
+	 */
+	void alterarStatus(MovimentoSaldo movimento, StatusLancamento status);
+
+	BigDecimal obterSaldo(Long idUsuario);
+
+	/**
+	 * Saldo considerando apenas os status informados (todos, se vazio) e os
+	 * lançamentos até o mês {@code mes} de {@code ano}, inclusive. Sem ano, não
+	 * há limite de período; sem mês, vai até dezembro.
+	 */
+	BigDecimal obterSaldo(Long idUsuario, Collection<StatusLancamento> status, Integer ano, Integer mes);
+
+	/**
+	 * Receitas, despesas e saldo de cada mês do ano, inclusive os meses sem
+	 * lançamentos. Sem status informado, considera todos.
+	 */
+	List<ResumoPeriodo> obterResumoMensal(Long idUsuario, Integer ano, Collection<StatusLancamento> status);
+
+	/**
+	 * Receitas, despesas e saldo de cada ano com lançamentos, em ordem
+	 * crescente. Sem status informado, considera todos.
+	 */
+	List<ResumoPeriodo> obterResumoAnual(Long idUsuario, Collection<StatusLancamento> status);
+
+	/**
+	 * Trava o usuário antes de ler os lançamentos: uma escrita concorrente ou já
+	 * entrou na leitura, ou só altera o saldo depois da reconstrução.
+	 */
+	List<DivergenciaSaldo> reconciliar(Long idUsuario);
+}
@@ -0,0 +1,21 @@
+package com.leonardo.minhasfinancas.services;
+
+public interface SenhaService {
+
+	/**
+	 * Hash BCrypt da senha, com o custo configurado.
+	 */
+	String codificar(String senha);
+
+	/**
+	 * Compara a senha com o hash gravado. Senhas antigas, ainda em texto puro,
+	 * também são aceitas e devem ser recodificadas.
+	 */
+	boolean confere(String senha, String senhaGravada);
+
+	/**
+	 * Indica se a senha gravada está em texto puro ou com custo menor que o
+	 * configurado.
+	 */
+	boolean precisaRecodificar(String senhaGravada);
+}
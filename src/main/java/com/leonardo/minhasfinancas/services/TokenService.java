@@ -0,0 +1,20 @@
+package com.leonardo.minhasfinancas.services;
+
+import com.leonardo.minhasfinancas.model.Usuario;
+
+public interface TokenService {
+
+	/**
+	 * Token assinado com a chave atual, identificando o usuário até expirar.
+	 */
+	String gerar(Usuario usuario);
+
+	/**
+	 * Confere assinatura e validade apenas em memória, sem consultar o banco, e
+	 * devolve o id do usuário. Lança {@code TokenInvalidoException} se não
+	 * conferir.
+	 */
+	Long validar(String token);
+
+	long getValidadeSegundos();
+}
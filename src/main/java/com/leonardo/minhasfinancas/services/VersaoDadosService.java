@@ -0,0 +1,30 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Versão dos dados de cada usuário, incrementada na mesma transação de toda
+ * escrita em seus lançamentos. Enquanto ela não muda, as leituras do usuário
+ * devolvem o mesmo conteúdo.
+ * <p>
+ * O incremento também trava o usuário até o fim da transação: as escritas no
+ * saldo vêm sempre depois dele, então duas transações do mesmo usuário nunca
+ * alteram o saldo ao mesmo tempo.
+ */
+public interface VersaoDadosService {
+
+	/**
+	 * Vazio quando o usuário não existe.
+	 */
+	Optional<Long> obter(Long idUsuario);
+
+	void incrementar(Long idUsuario);
+
+	void incrementar(Collection<Long> idsUsuarios);
+
+	/**
+	 * Trava o usuário como o incremento, sem mudar a versão.
+	 */
+	void travar(Long idUsuario);
+}
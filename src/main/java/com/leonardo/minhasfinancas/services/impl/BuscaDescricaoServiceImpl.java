@@ -0,0 +1,87 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.TermoLancamento;
+import com.leonardo.minhasfinancas.repository.LancamentoRepository;
+import com.leonardo.minhasfinancas.repository.TermoLancamentoRepository;
+import com.leonardo.minhasfinancas.services.BuscaDescricaoService;
+
+@Service
+public class BuscaDescricaoServiceImpl implements BuscaDescricaoService {
+
+	private TermoLancamentoRepository termoLancamentoRepository;
+	private LancamentoRepository lancamentoRepository;
+
+	public BuscaDescricaoServiceImpl(TermoLancamentoRepository termoLancamentoRepository,
+			LancamentoRepository lancamentoRepository) {
+		this.termoLancamentoRepository = termoLancamentoRepository;
+		this.lancamentoRepository = lancamentoRepository;
+	}
+
+	@Override
+	@Transactional
+	public void indexar(final Lancamento lancamento) {
+		termoLancamentoRepository.saveAll(criarTermos(lancamento, ExtratorTermos.extrair(lancamento.getDescricao())));
+	}
+
+	@Override
+	@Transactional
+	public void reindexar(final Lancamento lancamento) {
+		Long idUsuario = lancamento.getUsuario().getId();
+		Set<String> termos = ExtratorTermos.extrair(lancamento.getDescricao());
+		List<TermoLancamento> existentes = termoLancamentoRepository.findByIdLancamento(lancamento.getId());
+
+		List<TermoLancamento> obsoletos = existentes.stream()
+				.filter(t -> !termos.contains(t.getTermo()) || !t.getIdUsuario().equals(idUsuario))
+				.collect(Collectors.toList());
+		if (!obsoletos.isEmpty()) {
+			termoLancamentoRepository.excluirTermos(lancamento.getId(),
+					obsoletos.stream().map(TermoLancamento::getTermo).collect(Collectors.toList()));
+		}
+
+		existentes.stream().filter(t -> !obsoletos.contains(t)).forEach(t -> termos.remove(t.getTermo()));
+		termoLancamentoRepository.saveAll(criarTermos(lancamento, termos));
+	}
+
+	@Override
+	@Transactional
+	public void remover(final Long idLancamento) {
+		termoLancamentoRepository.excluirPorLancamento(idLancamento);
+	}
+
+	@Override
+	@Transactional
+	public void reindexarUsuario(final Long idUsuario) {
+		termoLancamentoRepository.excluirPorUsuario(idUsuario);
+		lancamentoRepository.findByUsuarioId(idUsuario).forEach(this::indexar);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Lancamento> buscar(final Long idUsuario, final String texto, final int limite) {
+		Set<String> prefixos = ExtratorTermos.extrair(texto);
+		if (prefixos.isEmpty()) {
+			throw new RegraNegocioException(
+					"Informe ao menos um termo com " + ExtratorTermos.TAMANHO_MINIMO + " ou mais caracteres.");
+		}
+
+		List<Long> ids = termoLancamentoRepository.buscarIdsPorRelevancia(idUsuario, prefixos, limite);
+
+		return lancamentoRepository.findAllById(ids).stream()
+				.sorted(Comparator.comparingInt(l -> ids.indexOf(l.getId()))).collect(Collectors.toList());
+	}
+
+	private List<TermoLancamento> criarTermos(final Lancamento lancamento, final Set<String> termos) {
+		return termos.stream().map(t -> new TermoLancamento(lancamento.getId(), t, lancamento.getUsuario().getId()))
+				.collect(Collectors.toList());
+	}
+}
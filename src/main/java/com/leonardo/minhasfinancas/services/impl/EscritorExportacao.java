@@ -0,0 +1,18 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+
+/**
+ * Escreve os lançamentos exportados um por vez, sem guardá-los em memória. Ao
+ * fechar, termina o arquivo mas não fecha a saída recebida.
+ */
+abstract class EscritorExportacao implements Closeable {
+
+	static final String[] COLUNAS = { "id", "descricao", "mes", "ano", "valor", "tipo", "status", "recorrencia",
+			"parcela" };
+
+	abstract void escrever(LancamentoDto lancamento) throws IOException;
+}
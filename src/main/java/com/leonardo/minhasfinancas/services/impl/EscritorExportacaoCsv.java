@@ -0,0 +1,65 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+
+/**
+ * CSV separado por ponto e vírgula, com cabeçalho e valores com ponto decimal.
+ * Descrições com separador, aspas ou quebra de linha vão entre aspas.
+ */
+class EscritorExportacaoCsv extends EscritorExportacao {
+
+	private static final char SEPARADOR = ';';
+
+	private final Writer writer;
+
+	EscritorExportacaoCsv(OutputStream saida) throws IOException {
+		this.writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+		writer.write(String.join(String.valueOf(SEPARADOR), COLUNAS));
+		writer.write('\n');
+	}
+
+	@Override
+	void escrever(final LancamentoDto lancamento) throws IOException {
+		writer.write(String.valueOf(lancamento.getId()));
+		writer.write(SEPARADOR);
+		writer.write(texto(lancamento.getDescricao()));
+		writer.write(SEPARADOR);
+		writer.write(String.valueOf(lancamento.getMes()));
+		writer.write(SEPARADOR);
+		writer.write(String.valueOf(lancamento.getAno()));
+		writer.write(SEPARADOR);
+		writer.write(lancamento.getValor() == null ? "" : lancamento.getValor().toPlainString());
+		writer.write(SEPARADOR);
+		writer.write(lancamento.getTipo());
+		writer.write(SEPARADOR);
+		writer.write(lancamento.getStatus());
+		writer.write(SEPARADOR);
+		writer.write(lancamento.getRecorrencia() == null ? "" : lancamento.getRecorrencia().toString());
+		writer.write(SEPARADOR);
+		writer.write(lancamento.getParcela() == null ? "" : lancamento.getParcela().toString());
+		writer.write('\n');
+	}
+
+	private String texto(final String valor) {
+		if (valor == null) {
+			return "";
+		}
+		if (valor.indexOf(SEPARADOR) < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0
+				&& valor.indexOf('\r') < 0) {
+			return valor;
+		}
+		return '"' + valor.replace("\"", "\"\"") + '"';
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.flush();
+	}
+}
@@ -0,0 +1,78 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+
+/**
+ * Planilha gravada com o SXSSF: só as últimas {@link #LINHAS_EM_MEMORIA} linhas
+ * ficam no heap, as anteriores vão para um arquivo temporário compactado que é
+ * copiado para a saída ao fechar. Ao atingir o limite de linhas do Excel, os
+ * lançamentos continuam em uma nova aba.
+ */
+class EscritorExportacaoXlsx extends EscritorExportacao {
+
+	static final int LINHAS_EM_MEMORIA = 100;
+
+	private final OutputStream saida;
+	private final SXSSFWorkbook workbook;
+	private Sheet planilha;
+	private int linha;
+
+	EscritorExportacaoXlsx(OutputStream saida) {
+		this.saida = saida;
+		this.workbook = new SXSSFWorkbook(LINHAS_EM_MEMORIA);
+		this.workbook.setCompressTempFiles(true);
+		criarPlanilha();
+	}
+
+	private void criarPlanilha() {
+		int numero = workbook.getNumberOfSheets();
+		planilha = workbook.createSheet(numero == 0 ? "lancamentos" : "lancamentos " + (numero + 1));
+		linha = 0;
+
+		Row cabecalho = planilha.createRow(linha++);
+		for (int coluna = 0; coluna < COLUNAS.length; coluna++) {
+			cabecalho.createCell(coluna).setCellValue(COLUNAS[coluna]);
+		}
+	}
+
+	@Override
+	void escrever(final LancamentoDto lancamento) {
+		if (linha == SpreadsheetVersion.EXCEL2007.getMaxRows()) {
+			criarPlanilha();
+		}
+
+		Row row = planilha.createRow(linha++);
+		row.createCell(0).setCellValue(lancamento.getId());
+		row.createCell(1).setCellValue(lancamento.getDescricao());
+		row.createCell(2).setCellValue(lancamento.getMes());
+		row.createCell(3).setCellValue(lancamento.getAno());
+		if (lancamento.getValor() != null) {
+			row.createCell(4).setCellValue(lancamento.getValor().doubleValue());
+		}
+		row.createCell(5).setCellValue(lancamento.getTipo());
+		row.createCell(6).setCellValue(lancamento.getStatus());
+		if (lancamento.getRecorrencia() != null) {
+			row.createCell(7).setCellValue(lancamento.getRecorrencia());
+			row.createCell(8).setCellValue(lancamento.getParcela());
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			workbook.write(saida);
+			saida.flush();
+		} finally {
+			workbook.dispose();
+			workbook.close();
+		}
+	}
+}
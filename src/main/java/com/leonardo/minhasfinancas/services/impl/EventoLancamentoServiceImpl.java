@@ -0,0 +1,200 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.enums.TipoEventoLancamento;
+import com.leonardo.minhasfinancas.model.AtrasoProjecao;
+import com.leonardo.minhasfinancas.model.EventoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.PosicaoProjecao;
+import com.leonardo.minhasfinancas.projecao.ProjecaoLancamento;
+import com.leonardo.minhasfinancas.repository.EventoLancamentoRepository;
+import com.leonardo.minhasfinancas.repository.PosicaoProjecaoRepository;
+import com.leonardo.minhasfinancas.services.EventoLancamentoService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Os ids vêm de uma sequência e uma transação pode confirmar depois de outra
+ * que pegou um id maior. Por isso a entrega para na primeira lacuna. No
+ * PostgreSQL ela é pulada assim que terminam as transações abertas quando ela
+ * foi encontrada (o id era de uma transação desfeita); nos outros bancos,
+ * depois de {@code minhasfinancas.eventos.espera-lacuna}, que também limita a
+ * espera no PostgreSQL.
+ */
+@Slf4j
+@Service
+public class EventoLancamentoServiceImpl implements EventoLancamentoService {
+
+	public static final String METRICA_LACUNAS = "minhasfinancas.eventos.lacunas";
+
+	/**
+	 * Cobre o instante entre a transação pegar o id na sequência e receber o seu
+	 * número de transação, quando ela ainda não aparece como aberta.
+	 */
+	private static final Duration ESPERA_MINIMA_LACUNA = Duration.ofSeconds(1);
+
+	private EventoLancamentoRepository eventoLancamentoRepository;
+	private PosicaoProjecaoRepository posicaoProjecaoRepository;
+	private Duration esperaLacuna;
+	private Duration retencao;
+	private boolean postgres;
+	private Counter lacunasIgnoradas;
+	private final Map<String, Lacuna> lacunas = new ConcurrentHashMap<>();
+
+	public EventoLancamentoServiceImpl(EventoLancamentoRepository eventoLancamentoRepository,
+			PosicaoProjecaoRepository posicaoProjecaoRepository, MeterRegistry registry,
+			@Value("${minhasfinancas.eventos.espera-lacuna}") Duration esperaLacuna,
+			@Value("${minhasfinancas.eventos.retencao}") Duration retencao,
+			@Value("${spring.datasource.url}") String url) {
+		this.eventoLancamentoRepository = eventoLancamentoRepository;
+		this.posicaoProjecaoRepository = posicaoProjecaoRepository;
+		this.esperaLacuna = esperaLacuna;
+		this.retencao = retencao;
+		this.postgres = DatabaseDriver.fromJdbcUrl(url) == DatabaseDriver.POSTGRESQL;
+		this.lacunasIgnoradas = registry.counter(METRICA_LACUNAS);
+	}
+
+	@Override
+	@Transactional
+	public void registrar(final TipoEventoLancamento tipo, final Lancamento lancamento) {
+		eventoLancamentoRepository.save(EventoLancamento.de(tipo, lancamento));
+	}
+
+	@Override
+	@Transactional
+	public void registrar(final TipoEventoLancamento tipo, final Collection<Long> idsLancamentos) {
+		if (!idsLancamentos.isEmpty()) {
+			eventoLancamentoRepository.registrar(tipo.name(), idsLancamentos);
+		}
+	}
+
+	@Override
+	@Transactional
+	public int despachar(final ProjecaoLancamento projecao, final int tamanhoLote) {
+		PosicaoProjecao posicao = posicaoProjecaoRepository.bloquear(projecao.getNome())
+				.orElseGet(() -> posicaoProjecaoRepository
+						.saveAndFlush(new PosicaoProjecao(projecao.getNome(), 0L, LocalDateTime.now())));
+
+		List<EventoLancamento> eventos = entregaveis(projecao.getNome(), posicao.getPosicao(), eventoLancamentoRepository
+				.findByIdGreaterThanOrderById(posicao.getPosicao(), PageRequest.of(0, tamanhoLote)));
+		if (eventos.isEmpty()) {
+			return 0;
+		}
+
+		projecao.processar(eventos);
+		posicao.setPosicao(eventos.get(eventos.size() - 1).getId());
+		posicao.setDataAtualizacao(LocalDateTime.now());
+		return eventos.size();
+	}
+
+	@Override
+	@Transactional
+	public void reprocessar(final String projecao, final long posicao) {
+		PosicaoProjecao atual = posicaoProjecaoRepository.bloquear(projecao)
+				.orElseGet(() -> new PosicaoProjecao(projecao, posicao, null));
+		atual.setPosicao(posicao);
+		atual.setDataAtualizacao(LocalDateTime.now());
+		posicaoProjecaoRepository.save(atual);
+		lacunas.remove(projecao);
+	}
+
+	@Override
+	@Transactional
+	public int expurgar() {
+		return eventoLancamentoRepository.expurgar(LocalDateTime.now().minus(retencao));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public AtrasoProjecao obterAtraso(final String projecao) {
+		long posicao = posicaoProjecaoRepository.findById(projecao).map(PosicaoProjecao::getPosicao).orElse(0L);
+		return atraso(projecao, posicao);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<AtrasoProjecao> obterAtrasos() {
+		return posicaoProjecaoRepository.findAll().stream().map(p -> atraso(p.getProjecao(), p.getPosicao()))
+				.collect(Collectors.toList());
+	}
+
+	private AtrasoProjecao atraso(final String projecao, final long posicao) {
+		long eventos = Math.max(0, eventoLancamentoRepository.obterUltimaPosicao() - posicao);
+		long segundos = eventos == 0 ? 0
+				: eventoLancamentoRepository.findFirstByIdGreaterThanOrderById(posicao)
+						.map(e -> Math.max(0, Duration.between(e.getDataCriacao(), LocalDateTime.now()).getSeconds()))
+						.orElse(0L);
+		return new AtrasoProjecao(projecao, posicao, eventos, segundos);
+	}
+
+	/**
+	 * Os eventos em sequência a partir da posição. Uma lacuna logo depois da
+	 * posição só é pulada depois da espera; no meio do lote, o lote para nela.
+	 */
+	private List<EventoLancamento> entregaveis(final String projecao, final long posicao,
+			final List<EventoLancamento> eventos) {
+		long esperado = posicao + 1;
+		int fim = 0;
+
+		for (EventoLancamento evento : eventos) {
+			if (evento.getId() != esperado) {
+				if (fim > 0 || !lacunaExpirada(projecao, posicao)) {
+					break;
+				}
+				log.warn("Projecao {} ignorou os eventos {} a {}, ausentes ha mais de {}", projecao, esperado,
+						evento.getId() - 1, esperaLacuna);
+				lacunasIgnoradas.increment();
+			}
+			esperado = evento.getId() + 1;
+			fim++;
+		}
+
+		if (fim > 0) {
+			lacunas.remove(projecao);
+		}
+		return eventos.subList(0, fim);
+	}
+
+	/**
+	 * Chamado com a posição da projeção travada: uma instância por vez consulta
+	 * a lacuna de cada projeção.
+	 */
+	private boolean lacunaExpirada(final String projecao, final long posicao) {
+		long agora = System.nanoTime();
+		Lacuna lacuna = lacunas.get(projecao);
+		if (lacuna == null || lacuna.posicao != posicao) {
+			lacuna = new Lacuna(posicao, agora, postgres ? eventoLancamentoRepository.obterProximaTransacao() : null);
+			lacunas.put(projecao, lacuna);
+		}
+
+		long espera = agora - lacuna.desde;
+		if (espera >= esperaLacuna.toNanos()) {
+			return true;
+		}
+		return lacuna.proximaTransacao != null && espera >= ESPERA_MINIMA_LACUNA.toNanos()
+				&& eventoLancamentoRepository.obterTransacaoMaisAntigaAberta() >= lacuna.proximaTransacao;
+	}
+
+	@AllArgsConstructor
+	private static class Lacuna {
+		private final long posicao;
+		private final long desde;
+		private final Long proximaTransacao;
+	}
+}
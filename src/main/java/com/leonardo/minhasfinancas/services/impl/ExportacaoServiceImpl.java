@@ -0,0 +1,52 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.enums.FormatoExportacao;
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.repository.LancamentoRepository;
+import com.leonardo.minhasfinancas.services.ExportacaoService;
+
+@Service
+public class ExportacaoServiceImpl implements ExportacaoService {
+
+	private LancamentoRepository lancamentoRepository;
+	private int tamanhoFetch;
+
+	public ExportacaoServiceImpl(LancamentoRepository lancamentoRepository,
+			@Value("${minhasfinancas.exportacao.tamanho-fetch}") int tamanhoFetch) {
+		this.lancamentoRepository = lancamentoRepository;
+		this.tamanhoFetch = tamanhoFetch;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public void exportar(final Lancamento filtro, final FormatoExportacao formato, final OutputStream saida)
+			throws IOException {
+		if (filtro.getUsuario() == null) {
+			throw new RegraNegocioException("Informe o usuário dos lançamentos a exportar.");
+		}
+
+		try (Stream<LancamentoDto> lancamentos = lancamentoRepository.percorrerDto(filtro, tamanhoFetch);
+				EscritorExportacao escritor = criarEscritor(formato, saida)) {
+			Iterator<LancamentoDto> iterator = lancamentos.iterator();
+			while (iterator.hasNext()) {
+				escritor.escrever(iterator.next());
+			}
+		}
+	}
+
+	private EscritorExportacao criarEscritor(final FormatoExportacao formato, final OutputStream saida)
+			throws IOException {
+		return formato == FormatoExportacao.XLSX ? new EscritorExportacaoXlsx(saida) : new EscritorExportacaoCsv(saida);
+	}
+}
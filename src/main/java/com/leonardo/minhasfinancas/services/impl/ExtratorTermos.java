@@ -0,0 +1,36 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Quebra um texto em termos sem acento, em minúsculas e apenas com letras e
+ * dígitos, descartando termos de uma só letra.
+ */
+public final class ExtratorTermos {
+
+	public static final int TAMANHO_MINIMO = 2;
+	public static final int TAMANHO_MAXIMO = 50;
+
+	private ExtratorTermos() {
+	}
+
+	public static Set<String> extrair(final String texto) {
+		Set<String> termos = new LinkedHashSet<>();
+		if (texto == null) {
+			return termos;
+		}
+
+		String normalizado = Normalizer.normalize(texto, Normalizer.Form.NFD).replaceAll("\\p{M}", "")
+				.toLowerCase(Locale.ROOT);
+
+		for (String termo : normalizado.split("[^a-z0-9]+")) {
+			if (termo.length() >= TAMANHO_MINIMO) {
+				termos.add(termo.length() > TAMANHO_MAXIMO ? termo.substring(0, TAMANHO_MAXIMO) : termo);
+			}
+		}
+		return termos;
+	}
+}
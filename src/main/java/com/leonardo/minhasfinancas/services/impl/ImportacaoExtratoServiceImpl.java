@@ -0,0 +1,186 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.leonardo.minhasfinancas.enums.FormatoExtrato;
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.ErroImportacao;
+import com.leonardo.minhasfinancas.model.ImportacaoExtrato;
+import com.leonardo.minhasfinancas.model.LinhaExtrato;
+import com.leonardo.minhasfinancas.model.ResultadoImportacao;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.services.ImportacaoExtratoService;
+import com.leonardo.minhasfinancas.services.LancamentoService;
+import com.leonardo.minhasfinancas.services.UsuarioService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Processa os extratos em um pool próprio de threads. O arquivo é lido em
+ * fluxo e cada lote é gravado em sua própria transação, então a memória usada
+ * não depende do tamanho do arquivo e o que já foi gravado permanece se a
+ * importação falhar no meio. O andamento fica apenas em memória, por
+ * {@code minhasfinancas.importacao.retencao} após o término.
+ */
+@Slf4j
+@Service
+public class ImportacaoExtratoServiceImpl implements ImportacaoExtratoService {
+
+	private LancamentoService lancamentoService;
+	private UsuarioService usuarioService;
+	private int tamanhoLote;
+	private Duration retencao;
+	private ThreadPoolTaskExecutor executor;
+
+	private final Map<UUID, ImportacaoExtrato> importacoes = new ConcurrentHashMap<>();
+
+	public ImportacaoExtratoServiceImpl(LancamentoService lancamentoService, UsuarioService usuarioService,
+			TaskExecutorBuilder taskExecutorBuilder,
+			@Value("${minhasfinancas.lancamentos.lote.tamanho}") int tamanhoLote,
+			@Value("${minhasfinancas.importacao.threads}") int threads,
+			@Value("${minhasfinancas.importacao.fila}") int fila,
+			@Value("${minhasfinancas.importacao.retencao}") Duration retencao) {
+		this.lancamentoService = lancamentoService;
+		this.usuarioService = usuarioService;
+		this.tamanhoLote = tamanhoLote;
+		this.retencao = retencao;
+		this.executor = taskExecutorBuilder.corePoolSize(threads).maxPoolSize(threads).queueCapacity(fila)
+				.threadNamePrefix("importacao-").build();
+		this.executor.initialize();
+	}
+
+	@PreDestroy
+	public void encerrar() {
+		executor.shutdown();
+	}
+
+	@Override
+	public ImportacaoExtrato iniciar(final Long idUsuario, final FormatoExtrato formato, final Charset charset,
+			final InputStream conteudo) {
+		Usuario usuario = usuarioService.obterPorId(idUsuario)
+				.orElseThrow(() -> new RegraNegocioException("Não foi encontrado o usuario (id) informado."));
+		removerExpiradas();
+
+		Path arquivo = copiar(conteudo);
+		ImportacaoExtrato importacao = new ImportacaoExtrato(idUsuario, formato);
+		importacoes.put(importacao.getId(), importacao);
+
+		try {
+			executor.execute(() -> processar(importacao, usuario, arquivo, charset));
+		} catch (TaskRejectedException e) {
+			importacoes.remove(importacao.getId());
+			excluir(arquivo);
+			throw new TaskRejectedException("Muitas importações em andamento. Tente novamente em instantes.", e);
+		}
+
+		return importacao;
+	}
+
+	@Override
+	public Optional<ImportacaoExtrato> obter(final UUID id) {
+		return Optional.ofNullable(importacoes.get(id));
+	}
+
+	private void processar(ImportacaoExtrato importacao, Usuario usuario, Path arquivo, Charset charset) {
+		importacao.iniciar();
+		List<LinhaExtrato> lote = new ArrayList<>(tamanhoLote);
+
+		try (LeitorExtrato leitor = abrir(importacao.getFormato(), arquivo, charset)) {
+			while (leitor.hasNext()) {
+				LinhaExtrato linha = leitor.next();
+				importacao.lerLinha();
+				if (!linha.isValida()) {
+					importacao.rejeitar(linha.getNumero(), linha.getErro());
+					continue;
+				}
+
+				linha.getLancamento().setUsuario(usuario);
+				lote.add(linha);
+				if (lote.size() == tamanhoLote) {
+					gravar(importacao, lote);
+				}
+			}
+			gravar(importacao, lote);
+			importacao.concluir();
+		} catch (IOException | UncheckedIOException e) {
+			log.warn("Falha ao ler o extrato da importacao {}", importacao.getId(), e);
+			importacao.falhar("Não foi possível ler o arquivo: " + e.getMessage());
+		} catch (RuntimeException e) {
+			log.error("Falha na importacao {}", importacao.getId(), e);
+			importacao.falhar("Importação interrompida após " + importacao.getImportados()
+					+ " lançamentos gravados: " + e.getMessage());
+		} finally {
+			excluir(arquivo);
+		}
+	}
+
+	private void gravar(ImportacaoExtrato importacao, List<LinhaExtrato> lote) {
+		if (lote.isEmpty()) {
+			return;
+		}
+
+		ResultadoImportacao resultado = new ResultadoImportacao();
+		lancamentoService.importarLote(lote.stream().map(LinhaExtrato::getLancamento).iterator(), resultado);
+
+		importacao.importar(resultado.getImportados());
+		for (ErroImportacao erro : resultado.getErros()) {
+			importacao.rejeitar(lote.get(erro.getLinha() - 1).getNumero(), erro.getMensagem());
+		}
+		lote.clear();
+	}
+
+	private LeitorExtrato abrir(FormatoExtrato formato, Path arquivo, Charset charset) throws IOException {
+		BufferedReader reader = Files.newBufferedReader(arquivo, charset);
+		return formato == FormatoExtrato.OFX ? new LeitorExtratoOfx(reader) : new LeitorExtratoCsv(reader);
+	}
+
+	private Path copiar(InputStream conteudo) {
+		Path arquivo = null;
+		try {
+			arquivo = Files.createTempFile("extrato-", ".tmp");
+			Files.copy(conteudo, arquivo, StandardCopyOption.REPLACE_EXISTING);
+			return arquivo;
+		} catch (IOException e) {
+			if (arquivo != null) {
+				excluir(arquivo);
+			}
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void excluir(Path arquivo) {
+		try {
+			Files.deleteIfExists(arquivo);
+		} catch (IOException e) {
+			log.warn("Nao foi possivel excluir o arquivo temporario {}", arquivo, e);
+		}
+	}
+
+	private void removerExpiradas() {
+		ZonedDateTime limite = ZonedDateTime.now().minus(retencao);
+		importacoes.values().removeIf(i -> i.isFinalizada() && i.getFim().isBefore(limite));
+	}
+}
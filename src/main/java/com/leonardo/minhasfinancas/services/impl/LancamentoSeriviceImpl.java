@@ -1,30 +1,87 @@
 package com.leonardo.minhasfinancas.services.impl;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
 
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.ExampleMatcher.StringMatcher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
 import com.leonardo.minhasfinancas.enums.StatusLancamento;
-import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.enums.TipoEventoLancamento;
 import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.AlteracaoStatus;
+import com.leonardo.minhasfinancas.model.CursorLancamento;
+import com.leonardo.minhasfinancas.model.EstadoLancamento;
 import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.MovimentoSaldo;
+import com.leonardo.minhasfinancas.model.ResultadoImportacao;
 import com.leonardo.minhasfinancas.repository.LancamentoRepository;
+import com.leonardo.minhasfinancas.services.BuscaDescricaoService;
 import com.leonardo.minhasfinancas.services.LancamentoService;
+import com.leonardo.minhasfinancas.services.SaldoService;
+import com.leonardo.minhasfinancas.services.EventoLancamentoService;
+import com.leonardo.minhasfinancas.services.VersaoDadosService;
+
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 public class LancamentoSeriviceImpl implements LancamentoService {
 
+	private static final int LIMITE_IDS_ALTERACAO_STATUS = 1000;
+	private static final int TAMANHO_BLOCO_IDS = 1000;
+	// Limites das colunas descricao (varchar 100) e valor (numeric 16,2).
+	private static final int TAMANHO_MAXIMO_DESCRICAO = 100;
+	private static final int DIGITOS_INTEIROS_VALOR = 14;
+	private static final int CASAS_DECIMAIS_VALOR = 2;
+
 	private LancamentoRepository lancamentoRepository;
+	private SaldoService saldoService;
+	private BuscaDescricaoService buscaDescricaoService;
+	private VersaoDadosService versaoDadosService;
+	private EventoLancamentoService eventoLancamentoService;
+	private TransactionTemplate transactionTemplate;
+	private int tamanhoLote;
 
-	public LancamentoSeriviceImpl(LancamentoRepository lancamentoRepository) {
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	public LancamentoSeriviceImpl(LancamentoRepository lancamentoRepository, SaldoService saldoService,
+			BuscaDescricaoService buscaDescricaoService, VersaoDadosService versaoDadosService,
+			EventoLancamentoService eventoLancamentoService, PlatformTransactionManager transactionManager,
+			@Value("${minhasfinancas.lancamentos.lote.tamanho}") int tamanhoLote) {
 		this.lancamentoRepository = lancamentoRepository;
+		this.saldoService = saldoService;
+		this.buscaDescricaoService = buscaDescricaoService;
+		this.versaoDadosService = versaoDadosService;
+		this.eventoLancamentoService = eventoLancamentoService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.tamanhoLote = tamanhoLote;
 	}
 
 	@Override
@@ -32,7 +89,102 @@ public class LancamentoSeriviceImpl implements LancamentoService {
 	public Lancamento salvar(final Lancamento lancamento) {
 		validar(lancamento);
 		lancamento.setStatus(StatusLancamento.PENDENTE);
-		return lancamentoRepository.save(lancamento);
+		Lancamento salvo = lancamentoRepository.save(lancamento);
+		// Com id por sequência o insert ficaria pendente, e uma atualização na
+		// mesma transação não encontraria o estado persistido para estornar.
+		lancamentoRepository.flush();
+		versaoDadosService.incrementar(salvo.getUsuario().getId());
+		saldoService.registrar(salvo);
+		buscaDescricaoService.indexar(salvo);
+		eventoLancamentoService.registrar(TipoEventoLancamento.CRIADO, salvo);
+		return salvo;
+	}
+
+	@Override
+	@Transactional
+	public ResultadoImportacao salvarLote(final Iterator<Lancamento> lancamentos) {
+		ResultadoImportacao resultado = new ResultadoImportacao();
+		lerEmLotes(lancamentos, resultado, (lote, linhas) -> gravarLote(lote, resultado));
+		return resultado;
+	}
+
+	@Override
+	public void importarLote(final Iterator<Lancamento> lancamentos, final ResultadoImportacao resultado) {
+		lerEmLotes(lancamentos, resultado, (lote, linhas) -> confirmarLote(lote, linhas, resultado));
+	}
+
+	private void lerEmLotes(final Iterator<Lancamento> lancamentos, final ResultadoImportacao resultado,
+			final BiConsumer<List<Lancamento>, List<Integer>> gravar) {
+		List<Lancamento> lote = new ArrayList<>(tamanhoLote);
+		List<Integer> linhas = new ArrayList<>(tamanhoLote);
+
+		while (lancamentos.hasNext()) {
+			Lancamento lancamento = lancamentos.next();
+			resultado.receber();
+			try {
+				validar(lancamento);
+			} catch (RegraNegocioException e) {
+				resultado.rejeitar(resultado.getRecebidos(), e.getMessage());
+				continue;
+			}
+
+			lancamento.setStatus(StatusLancamento.PENDENTE);
+			lote.add(lancamento);
+			linhas.add(resultado.getRecebidos());
+			if (lote.size() == tamanhoLote) {
+				gravar.accept(lote, linhas);
+				lote.clear();
+				linhas.clear();
+			}
+		}
+		if (!lote.isEmpty()) {
+			gravar.accept(lote, linhas);
+		}
+	}
+
+	private void confirmarLote(final List<Lancamento> lote, final List<Integer> linhas,
+			final ResultadoImportacao resultado) {
+		// Dentro de uma transação maior o lote não é confirmado sozinho, e uma
+		// falha já condena a transação inteira: não há o que regravar.
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			gravarLote(lote, resultado);
+			return;
+		}
+
+		try {
+			transactionTemplate.executeWithoutResult(s -> gravarLote(lote, resultado));
+		} catch (DataIntegrityViolationException e) {
+			log.warn("Lote recusado pelo banco, regravando um a um: {}", e.getMostSpecificCause().getMessage());
+			for (int i = 0; i < lote.size(); i++) {
+				Lancamento lancamento = lote.get(i);
+				// O id e a versão atribuídos na tentativa desfeita não valem mais.
+				lancamento.setId(null);
+				lancamento.setVersao(null);
+				try {
+					transactionTemplate.executeWithoutResult(s -> gravarLote(List.of(lancamento), resultado));
+				} catch (DataIntegrityViolationException erro) {
+					resultado.rejeitar(linhas.get(i), "Lançamento recusado pelo banco de dados.");
+				}
+			}
+		}
+	}
+
+	private void gravarLote(final List<Lancamento> lote, final ResultadoImportacao resultado) {
+		lancamentoRepository.saveAll(lote);
+		lote.forEach(buscaDescricaoService::indexar);
+		Set<Long> usuarios = lote.stream().map(l -> l.getUsuario().getId()).collect(Collectors.toSet());
+
+		// Envia os inserts do lote e libera a memória antes de ler o próximo. O
+		// saldo vem depois porque cada update dele faria o Hibernate verificar
+		// todas as entidades ainda pendentes na sessão.
+		lancamentoRepository.flush();
+		entityManager.clear();
+		versaoDadosService.incrementar(usuarios);
+		saldoService.registrar(lote);
+		eventoLancamentoService.registrar(TipoEventoLancamento.CRIADO,
+				lote.stream().map(Lancamento::getId).collect(Collectors.toList()));
+
+		resultado.importar(lote.size());
 	}
 
 	@Override
@@ -40,14 +192,60 @@ public class LancamentoSeriviceImpl implements LancamentoService {
 	public Lancamento atualizar(final Lancamento lancamento) {
 		Objects.requireNonNull(lancamento.getId());
 		validar(lancamento);
-		return lancamentoRepository.save(lancamento);
+		Optional<MovimentoSaldo> anterior = lancamentoRepository.obterMovimentoPersistido(lancamento.getId());
+		Lancamento salvo = lancamentoRepository.save(lancamento);
+		// Antecipa a checagem da versão e devolve a entidade já com a versão nova.
+		lancamentoRepository.flush();
+		// O lançamento pode ter mudado de usuário: os dois veem a alteração.
+		Set<Long> usuarios = new HashSet<>();
+		usuarios.add(salvo.getUsuario().getId());
+		anterior.ifPresent(m -> usuarios.add(m.getIdUsuario()));
+		versaoDadosService.incrementar(usuarios);
+		anterior.ifPresent(saldoService::estornar);
+		saldoService.registrar(salvo);
+		buscaDescricaoService.reindexar(salvo);
+		eventoLancamentoService.registrar(TipoEventoLancamento.ATUALIZADO, salvo);
+		return salvo;
 	}
 
 	@Override
 	@Transactional
 	public void deletar(final Lancamento lancamento) {
 		Objects.requireNonNull(lancamento.getId());
+		Optional<MovimentoSaldo> anterior = lancamentoRepository.obterMovimentoPersistido(lancamento.getId());
+		buscaDescricaoService.remover(lancamento.getId());
 		lancamentoRepository.delete(lancamento);
+		anterior.ifPresent(m -> {
+			versaoDadosService.incrementar(m.getIdUsuario());
+			saldoService.estornar(m);
+			eventoLancamentoService.registrar(TipoEventoLancamento.EXCLUIDO, lancamento);
+		});
+	}
+
+	@Override
+	@Transactional
+	public Optional<Lancamento> atualizar(final Long id, final Long idUsuario, final Long versao,
+			final Lancamento dados) {
+		return lancamentoRepository.findById(id).filter(l -> l.getUsuario().getId().equals(idUsuario)).map(l -> {
+			if (versao != null && !versao.equals(l.getVersao())) {
+				throw new ObjectOptimisticLockingFailureException(Lancamento.class, id);
+			}
+			dados.setId(l.getId());
+			dados.setVersao(l.getVersao());
+			dados.setDataCadastro(l.getDataCadastro());
+			dados.setIdRecorrencia(l.getIdRecorrencia());
+			dados.setParcela(l.getParcela());
+			return atualizar(dados);
+		});
+	}
+
+	@Override
+	@Transactional
+	public boolean deletar(final Long id, final Long idUsuario) {
+		Optional<Lancamento> lancamento = lancamentoRepository.findById(id)
+				.filter(l -> l.getUsuario().getId().equals(idUsuario));
+		lancamento.ifPresent(this::deletar);
+		return lancamento.isPresent();
 	}
 
 	@Override
@@ -60,10 +258,101 @@ public class LancamentoSeriviceImpl implements LancamentoService {
 	}
 
 	@Override
+	@Transactional(readOnly = true)
+	public List<LancamentoDto> buscarDto(final Lancamento filtro) {
+		return lancamentoRepository.buscarDto(filtro);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<Lancamento> buscar(final Lancamento lancamento, final Pageable pageable) {
+		return lancamentoRepository.buscar(lancamento, pageable);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Slice<Lancamento> buscar(final Lancamento lancamento, final CursorLancamento cursor,
+			final Sort.Direction direcao, final int tamanho) {
+		return lancamentoRepository.buscar(lancamento, cursor, direcao, tamanho);
+	}
+
+	@Override
+	@Transactional
 	public void atualizarStatus(Lancamento lancamento, final StatusLancamento status) {
+		Long versao = atualizarStatus(lancamento.getId(), lancamento.getUsuario().getId(), status,
+				lancamento.getVersao());
 		lancamento.setStatus(status);
-		atualizar(lancamento);
+		lancamento.setVersao(versao);
+	}
 
+	@Override
+	@Transactional
+	public Long atualizarStatus(final Long id, final Long idUsuario, final StatusLancamento status,
+			final Long versao) {
+		AlteracaoStatus alteracao = lancamentoRepository.alterarStatus(id, idUsuario, status, versao)
+				.orElseThrow(() -> new RegraNegocioException("Lancamento não encontrado na base de dados"));
+		EstadoLancamento anterior = alteracao.getAnterior();
+
+		if (!alteracao.isAlterado()) {
+			if ((versao == null || versao.equals(anterior.getVersao())) && anterior.getStatus() == status) {
+				return anterior.getVersao();
+			}
+			throw new ObjectOptimisticLockingFailureException(Lancamento.class, id);
+		}
+		versaoDadosService.incrementar(idUsuario);
+		saldoService.alterarStatus(anterior.getMovimento(), status);
+		eventoLancamentoService.registrar(TipoEventoLancamento.STATUS_ALTERADO, List.of(id));
+		return alteracao.getVersao();
+	}
+
+	@Override
+	@Transactional
+	public int atualizarStatusEmLote(final Collection<Long> ids, final Long idUsuario,
+			final StatusLancamento status) {
+		if (ids == null || ids.isEmpty()) {
+			throw new RegraNegocioException("Informe os lançamentos que terão o status alterado.");
+		}
+		if (ids.size() > LIMITE_IDS_ALTERACAO_STATUS) {
+			throw new RegraNegocioException(
+					"Informe no máximo " + LIMITE_IDS_ALTERACAO_STATUS + " lançamentos por alteração de status.");
+		}
+
+		return alterarStatus(lancamentoRepository.bloquearParaAlterarStatus(ids, idUsuario, status), status);
+	}
+
+	@Override
+	@Transactional
+	public int atualizarStatusEmLote(final Lancamento filtro, final StatusLancamento status) {
+		if (filtro.getUsuario() == null || filtro.getAno() == null || filtro.getMes() == null) {
+			throw new RegraNegocioException("Informe o usuário, o ano e o mês dos lançamentos.");
+		}
+
+		return alterarStatus(lancamentoRepository.bloquearParaAlterarStatus(filtro, status), status);
+	}
+
+	/**
+	 * Os lançamentos já estão travados: o saldo é movido pelo total de cada grupo
+	 * e o status muda com um update por bloco de ids.
+	 */
+	private int alterarStatus(final List<Long> ids, final StatusLancamento status) {
+		int alterados = 0;
+		Set<Long> usuarios = new HashSet<>();
+
+		for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_BLOCO_IDS) {
+			List<Long> bloco = ids.subList(inicio, Math.min(ids.size(), inicio + TAMANHO_BLOCO_IDS));
+			List<MovimentoSaldo> movimentos = lancamentoRepository.obterMovimentos(bloco);
+			// Trava só os usuários que ainda não apareceram em blocos anteriores.
+			versaoDadosService.incrementar(movimentos.stream().map(MovimentoSaldo::getIdUsuario)
+					.filter(usuarios::add).collect(Collectors.toSet()));
+			movimentos.forEach(m -> saldoService.alterarStatus(m, status));
+			alterados += lancamentoRepository.atualizarStatus(bloco, status);
+		}
+		// Os eventos vão por último, depois da trava nos usuários.
+		for (int inicio = 0; inicio < ids.size(); inicio += TAMANHO_BLOCO_IDS) {
+			eventoLancamentoService.registrar(TipoEventoLancamento.STATUS_ALTERADO,
+					ids.subList(inicio, Math.min(ids.size(), inicio + TAMANHO_BLOCO_IDS)));
+		}
+		return alterados;
 	}
 
 	@Override
@@ -71,6 +360,11 @@ public class LancamentoSeriviceImpl implements LancamentoService {
 		if (lancamento.getDescricao() == null || lancamento.getDescricao().trim().equals("")) {
 			throw new RegraNegocioException("Informe uma descrição valida.");
 		}
+
+		if (lancamento.getDescricao().length() > TAMANHO_MAXIMO_DESCRICAO) {
+			throw new RegraNegocioException(
+					"Informe uma descrição com até " + TAMANHO_MAXIMO_DESCRICAO + " caracteres.");
+		}
 		
 		if (lancamento.getMes() == null || lancamento.getMes() < 1 || lancamento.getMes() > 12) {
 			throw new RegraNegocioException("Informe um mês válido.");
@@ -87,6 +381,12 @@ public class LancamentoSeriviceImpl implements LancamentoService {
 		if (lancamento.getValor() == null || lancamento.getValor().compareTo(BigDecimal.ZERO) < 1 ) {
 			throw new RegraNegocioException("Informe um valor maior ou igual a 1");
 		}
+
+		BigDecimal valor = lancamento.getValor().stripTrailingZeros();
+		if (valor.scale() > CASAS_DECIMAIS_VALOR || valor.precision() - valor.scale() > DIGITOS_INTEIROS_VALOR) {
+			throw new RegraNegocioException("Informe um valor com até " + DIGITOS_INTEIROS_VALOR
+					+ " dígitos inteiros e " + CASAS_DECIMAIS_VALOR + " casas decimais.");
+		}
 		
 		if (lancamento.getTipo() == null) {
 			throw new RegraNegocioException("Informe um tipo de lançamento.");
@@ -98,21 +398,16 @@ public class LancamentoSeriviceImpl implements LancamentoService {
 		return lancamentoRepository.findById(id);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Long> obterVersao(final Long id, final Long idUsuario) {
+		return lancamentoRepository.obterVersao(id, idUsuario);
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public BigDecimal obterSaldoPorUsuario(final Long id) {
-		BigDecimal receitas = lancamentoRepository.obterSaldoPorTipoLancamentoEUsuario(id, TipoLancamento.RECEITA);
-		BigDecimal despesas = lancamentoRepository.obterSaldoPorTipoLancamentoEUsuario(id, TipoLancamento.DESPESA);
-		
-		if (receitas == null) {
-			receitas = BigDecimal.ZERO;
-		}
-		
-		if (despesas == null) {
-			despesas = BigDecimal.ZERO;
-		}
-		
-		return receitas.subtract(despesas);
+		return saldoService.obterSaldo(id);
 	}
 
 }
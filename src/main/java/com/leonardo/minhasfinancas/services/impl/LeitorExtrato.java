@@ -0,0 +1,67 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.LinhaExtrato;
+
+/**
+ * Lê um arquivo de extrato uma movimentação por vez, sem carregar o arquivo em
+ * memória. Valores negativos viram despesas e positivos, receitas.
+ */
+abstract class LeitorExtrato implements Iterator<LinhaExtrato>, Closeable {
+
+	static final int TAMANHO_MAXIMO_DESCRICAO = 100;
+
+	private LinhaExtrato proxima;
+
+	/**
+	 * Próxima movimentação do arquivo ou {@code null} quando ele terminar.
+	 */
+	protected abstract LinhaExtrato ler() throws IOException;
+
+	@Override
+	public boolean hasNext() {
+		if (proxima == null) {
+			try {
+				proxima = ler();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		return proxima != null;
+	}
+
+	@Override
+	public LinhaExtrato next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		LinhaExtrato linha = proxima;
+		proxima = null;
+		return linha;
+	}
+
+	protected LinhaExtrato criarLinha(long numero, LocalDate data, String descricao, BigDecimal valor) {
+		String texto = descricao == null ? null : descricao.trim();
+		if (texto != null && texto.length() > TAMANHO_MAXIMO_DESCRICAO) {
+			texto = texto.substring(0, TAMANHO_MAXIMO_DESCRICAO);
+		}
+
+		Lancamento lancamento = new Lancamento();
+		lancamento.setDescricao(texto);
+		lancamento.setMes(data.getMonthValue());
+		lancamento.setAno(data.getYear());
+		lancamento.setTipo(valor.signum() < 0 ? TipoLancamento.DESPESA : TipoLancamento.RECEITA);
+		lancamento.setValor(valor.abs());
+
+		return LinhaExtrato.valida(numero, lancamento);
+	}
+}
@@ -0,0 +1,122 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.leonardo.minhasfinancas.model.LinhaExtrato;
+
+/**
+ * Extrato em CSV com as colunas data, descrição e valor, separadas por ponto e
+ * vírgula ou vírgula. A data pode vir como dd/MM/yyyy ou yyyy-MM-dd e o valor
+ * no formato brasileiro (1.234,56) ou com ponto decimal. O separador vem da
+ * primeira linha não vazia, e um cabeçalho nela é ignorado.
+ */
+class LeitorExtratoCsv extends LeitorExtrato {
+
+	private static final DateTimeFormatter DATA_BRASILEIRA = DateTimeFormatter.ofPattern("dd/MM/uuuu")
+			.withResolverStyle(ResolverStyle.STRICT);
+
+	private final BufferedReader reader;
+	private char separador;
+	private long numero;
+	private boolean primeiraLinha = true;
+
+	LeitorExtratoCsv(BufferedReader reader) {
+		this.reader = reader;
+	}
+
+	@Override
+	protected LinhaExtrato ler() throws IOException {
+		String linha;
+		do {
+			linha = reader.readLine();
+			if (linha == null) {
+				return null;
+			}
+			numero++;
+		} while (linha.isBlank());
+
+		boolean cabecalho = primeiraLinha;
+		if (primeiraLinha) {
+			separador = linha.indexOf(';') >= 0 ? ';' : ',';
+			primeiraLinha = false;
+		}
+
+		List<String> colunas = separar(linha);
+		if (colunas.size() < 3) {
+			return LinhaExtrato.invalida(numero, "Informe data, descrição e valor.");
+		}
+
+		LocalDate data;
+		try {
+			data = lerData(colunas.get(0));
+		} catch (DateTimeParseException e) {
+			if (cabecalho) {
+				return ler();
+			}
+			return LinhaExtrato.invalida(numero, "Data inválida: " + colunas.get(0));
+		}
+
+		try {
+			return criarLinha(numero, data, colunas.get(1), lerValor(colunas.get(2)));
+		} catch (NumberFormatException e) {
+			return LinhaExtrato.invalida(numero, "Valor inválido: " + colunas.get(2));
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private List<String> separar(String linha) {
+		List<String> colunas = new ArrayList<>(3);
+		StringBuilder atual = new StringBuilder();
+		boolean entreAspas = false;
+
+		for (int i = 0; i < linha.length(); i++) {
+			char c = linha.charAt(i);
+			if (c == '"') {
+				if (entreAspas && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+					atual.append('"');
+					i++;
+				} else {
+					entreAspas = !entreAspas;
+				}
+			} else if (c == separador && !entreAspas) {
+				colunas.add(atual.toString().trim());
+				atual.setLength(0);
+			} else {
+				atual.append(c);
+			}
+		}
+		colunas.add(atual.toString().trim());
+
+		return colunas;
+	}
+
+	private static LocalDate lerData(String texto) {
+		if (texto.indexOf('/') >= 0) {
+			return LocalDate.parse(texto, DATA_BRASILEIRA);
+		}
+		return LocalDate.parse(texto);
+	}
+
+	static BigDecimal lerValor(String texto) {
+		String valor = texto.replace("R$", "").replace(" ", "");
+		int virgula = valor.lastIndexOf(',');
+		if (virgula > valor.lastIndexOf('.')) {
+			valor = valor.replace(".", "").replace(',', '.');
+		} else {
+			valor = valor.replace(",", "");
+		}
+		return new BigDecimal(valor);
+	}
+}
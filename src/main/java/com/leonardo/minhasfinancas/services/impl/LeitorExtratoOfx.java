@@ -0,0 +1,151 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import com.leonardo.minhasfinancas.model.LinhaExtrato;
+
+/**
+ * Extrato OFX, tanto no formato SGML (1.x, tags sem fechamento) quanto XML
+ * (2.x). Cada bloco STMTTRN vira uma movimentação, usando DTPOSTED, TRNAMT e
+ * MEMO (ou NAME, quando não houver MEMO). O número da linha informado nos
+ * erros é o da abertura do bloco.
+ */
+class LeitorExtratoOfx extends LeitorExtrato {
+
+	private static final String TRANSACAO = "STMTTRN";
+
+	private final Reader reader;
+	private long linhaAtual = 1;
+	private int caractere = -2;
+
+	private long inicioTransacao;
+	private String dataPostagem;
+	private String valor;
+	private String memo;
+	private String nome;
+
+	LeitorExtratoOfx(Reader reader) {
+		this.reader = reader;
+	}
+
+	@Override
+	protected LinhaExtrato ler() throws IOException {
+		boolean dentroDeTransacao = false;
+		String tag;
+
+		while ((tag = proximaTag()) != null) {
+			if (tag.equals(TRANSACAO)) {
+				dentroDeTransacao = true;
+				inicioTransacao = linhaAtual;
+				dataPostagem = valor = memo = nome = null;
+			} else if (tag.equals("/" + TRANSACAO) || (dentroDeTransacao && tag.equals("/BANKTRANLIST"))) {
+				if (dentroDeTransacao) {
+					return criarTransacao();
+				}
+			} else if (dentroDeTransacao && !tag.startsWith("/")) {
+				String conteudo = lerConteudo();
+				switch (tag) {
+				case "DTPOSTED":
+					dataPostagem = conteudo;
+					break;
+				case "TRNAMT":
+					valor = conteudo;
+					break;
+				case "MEMO":
+					memo = conteudo;
+					break;
+				case "NAME":
+					nome = conteudo;
+					break;
+				default:
+					break;
+				}
+			}
+		}
+
+		return dentroDeTransacao ? criarTransacao() : null;
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+
+	private LinhaExtrato criarTransacao() {
+		if (dataPostagem == null || dataPostagem.length() < 8) {
+			return LinhaExtrato.invalida(inicioTransacao, "Data inválida: " + dataPostagem);
+		}
+
+		LocalDate data;
+		try {
+			data = LocalDate.parse(dataPostagem.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+		} catch (DateTimeParseException e) {
+			return LinhaExtrato.invalida(inicioTransacao, "Data inválida: " + dataPostagem);
+		}
+
+		if (valor == null) {
+			return LinhaExtrato.invalida(inicioTransacao, "Valor não informado.");
+		}
+
+		try {
+			return criarLinha(inicioTransacao, data, memo != null && !memo.isBlank() ? memo : nome,
+					new BigDecimal(valor.replace(',', '.')));
+		} catch (NumberFormatException e) {
+			return LinhaExtrato.invalida(inicioTransacao, "Valor inválido: " + valor);
+		}
+	}
+
+	/**
+	 * Avança até o próximo {@code <TAG>} e devolve o nome da tag em maiúsculas,
+	 * com a barra quando for de fechamento.
+	 */
+	private String proximaTag() throws IOException {
+		int c;
+		while ((c = lerCaractere()) != -1 && c != '<') {
+			// ignora o conteúdo fora das tags que interessam
+		}
+		if (c == -1) {
+			return null;
+		}
+
+		StringBuilder tag = new StringBuilder();
+		while ((c = lerCaractere()) != -1 && c != '>') {
+			tag.append((char) c);
+		}
+		return tag.toString().trim().toUpperCase();
+	}
+
+	/**
+	 * Conteúdo de uma tag folha: vai até o próximo {@code <} ou quebra de linha,
+	 * o que funciona para o SGML, onde a tag não é fechada, e para o XML.
+	 */
+	private String lerConteudo() throws IOException {
+		StringBuilder conteudo = new StringBuilder();
+		int c;
+		while ((c = espiarCaractere()) != -1 && c != '<' && c != '\n' && c != '\r') {
+			conteudo.append((char) lerCaractere());
+		}
+		return conteudo.toString().trim();
+	}
+
+	private int espiarCaractere() throws IOException {
+		if (caractere == -2) {
+			caractere = reader.read();
+		}
+		return caractere;
+	}
+
+	private int lerCaractere() throws IOException {
+		int c = espiarCaractere();
+		caractere = -2;
+		if (c == '\n') {
+			linhaAtual++;
+		}
+		return c;
+	}
+}
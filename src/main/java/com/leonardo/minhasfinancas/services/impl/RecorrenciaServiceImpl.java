@@ -0,0 +1,205 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.LoteMaterializacao;
+import com.leonardo.minhasfinancas.model.Recorrencia;
+import com.leonardo.minhasfinancas.model.ResultadoImportacao;
+import com.leonardo.minhasfinancas.repository.RecorrenciaRepository;
+import com.leonardo.minhasfinancas.services.LancamentoService;
+import com.leonardo.minhasfinancas.services.RecorrenciaService;
+import com.leonardo.minhasfinancas.services.VersaoDadosService;
+
+@Service
+public class RecorrenciaServiceImpl implements RecorrenciaService {
+
+	private RecorrenciaRepository recorrenciaRepository;
+	private LancamentoService lancamentoService;
+	private VersaoDadosService versaoDadosService;
+	private int horizonteMeses;
+
+	public RecorrenciaServiceImpl(RecorrenciaRepository recorrenciaRepository, LancamentoService lancamentoService,
+			VersaoDadosService versaoDadosService,
+			@Value("${minhasfinancas.recorrencia.horizonte-meses}") int horizonteMeses) {
+		this.recorrenciaRepository = recorrenciaRepository;
+		this.lancamentoService = lancamentoService;
+		this.versaoDadosService = versaoDadosService;
+		this.horizonteMeses = horizonteMeses;
+	}
+
+	@Override
+	@Transactional
+	public Recorrencia salvar(final Recorrencia recorrencia) {
+		validar(recorrencia);
+		recorrencia.setOcorrenciasGeradas(0);
+		recorrencia.setAnoProxima(null);
+		recorrencia.setMesProxima(null);
+		Recorrencia salva = recorrenciaRepository.save(recorrencia);
+		gerar(List.of(salva), YearMonth.now().plusMonths(horizonteMeses));
+		// As ocorrências projetadas mudam mesmo quando nenhuma é gerada agora.
+		versaoDadosService.incrementar(salva.getUsuario().getId());
+		return salva;
+	}
+
+	@Override
+	@Transactional
+	public void encerrar(final Long id, final Long idUsuario) {
+		Recorrencia recorrencia = recorrenciaRepository.findById(id)
+				.filter(r -> r.getUsuario().getId().equals(idUsuario))
+				.orElseThrow(() -> new RegraNegocioException("Recorrência não encontrada na base de dados"));
+		recorrencia.encerrar();
+		versaoDadosService.incrementar(recorrencia.getUsuario().getId());
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Recorrencia> buscarPorId(final Long id) {
+		return recorrenciaRepository.findById(id);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<Recorrencia> buscarPorUsuario(final Long idUsuario) {
+		return recorrenciaRepository.findByUsuarioIdOrderById(idUsuario);
+	}
+
+	@Override
+	@Transactional
+	public LoteMaterializacao materializar(final YearMonth ate, final Long aposId, final int quantidade) {
+		List<Recorrencia> recorrencias = recorrenciaRepository.obterPendentes(aposId, ate.getYear(),
+				ate.getMonthValue(), PageRequest.of(0, quantidade));
+		if (recorrencias.isEmpty()) {
+			return new LoteMaterializacao(0, 0, aposId);
+		}
+
+		Long ultimoId = recorrencias.get(recorrencias.size() - 1).getId();
+		return new LoteMaterializacao(recorrencias.size(), gerar(recorrencias, ate), ultimoId);
+	}
+
+	private int gerar(final List<Recorrencia> recorrencias, final YearMonth ate) {
+		List<Lancamento> lancamentos = new ArrayList<>();
+		recorrencias.forEach(r -> lancamentos.addAll(r.materializarAte(ate)));
+		// Grava o avanço das recorrências antes que a gravação em lote limpe a sessão.
+		recorrenciaRepository.flush();
+
+		ResultadoImportacao resultado = lancamentoService.salvarLote(lancamentos.iterator());
+		if (!resultado.getErros().isEmpty()) {
+			throw new RegraNegocioException(resultado.getErros().get(0).getMensagem());
+		}
+		return resultado.getImportados();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<LancamentoDto> projetar(final Lancamento filtro) {
+		if (filtro.getUsuario() == null || filtro.getAno() == null || filtro.getMes() == null) {
+			throw new RegraNegocioException("Informe o usuário, o ano e o mês para projetar as recorrências.");
+		}
+		if (filtro.getStatus() != null && filtro.getStatus() != StatusLancamento.PENDENTE) {
+			return List.of();
+		}
+
+		YearMonth competencia = YearMonth.of(filtro.getAno(), filtro.getMes());
+		String descricao = filtro.getDescricao() == null ? null : filtro.getDescricao().toLowerCase();
+
+		return recorrenciaRepository
+				.obterProjetaveis(filtro.getUsuario().getId(), competencia.getYear(), competencia.getMonthValue())
+				.stream()
+				.filter(r -> filtro.getTipo() == null || r.getTipo() == filtro.getTipo())
+				.filter(r -> descricao == null || r.getDescricao().toLowerCase().contains(descricao))
+				.filter(r -> r.ocorrenciaProjetadaEm(competencia) >= 0)
+				.map(r -> projetar(r, r.ocorrenciaProjetadaEm(competencia)))
+				.collect(Collectors.toList());
+	}
+
+	private LancamentoDto projetar(final Recorrencia recorrencia, final int indice) {
+		YearMonth competencia = recorrencia.competencia(indice);
+		return LancamentoDto.builder().descricao(recorrencia.getDescricao()).valor(recorrencia.getValor())
+				.ano(competencia.getYear()).mes(competencia.getMonthValue())
+				.usuario(recorrencia.getUsuario().getId()).tipo(recorrencia.getTipo().name())
+				.status(StatusLancamento.PENDENTE.name()).recorrencia(recorrencia.getId()).parcela(indice + 1)
+				.build();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BigDecimal projetarSaldo(final Long idUsuario, final Collection<StatusLancamento> status,
+			final Integer ano, final Integer mes) {
+		if (ano == null || (mes != null && (mes < 1 || mes > 12))) {
+			throw new RegraNegocioException("Informe o ano (e um mês entre 1 e 12) até quando projetar o saldo.");
+		}
+		if (status != null && !status.isEmpty() && !status.contains(StatusLancamento.PENDENTE)) {
+			return BigDecimal.ZERO;
+		}
+
+		YearMonth ate = YearMonth.of(ano, mes == null ? 12 : mes);
+		BigDecimal saldo = BigDecimal.ZERO;
+		for (Recorrencia recorrencia : recorrenciaRepository.obterProjetaveis(idUsuario, ate.getYear(),
+				ate.getMonthValue())) {
+			BigDecimal valor = recorrencia.getValor()
+					.multiply(BigDecimal.valueOf(recorrencia.ocorrenciasProjetadasAte(ate)));
+			saldo = recorrencia.getTipo() == TipoLancamento.RECEITA ? saldo.add(valor) : saldo.subtract(valor);
+		}
+		return saldo;
+	}
+
+	private void validar(final Recorrencia recorrencia) {
+		if (recorrencia.getDescricao() == null || recorrencia.getDescricao().trim().equals("")) {
+			throw new RegraNegocioException("Informe uma descrição valida.");
+		}
+
+		if (recorrencia.getMesInicio() == null || recorrencia.getMesInicio() < 1 || recorrencia.getMesInicio() > 12) {
+			throw new RegraNegocioException("Informe um mês de início válido.");
+		}
+
+		if (recorrencia.getAnoInicio() == null || recorrencia.getAnoInicio().toString().length() != 4) {
+			throw new RegraNegocioException("Informe um ano de início válido.");
+		}
+
+		if (recorrencia.getUsuario() == null || recorrencia.getUsuario().getId() == null) {
+			throw new RegraNegocioException("Informe um usuário");
+		}
+
+		if (recorrencia.getValor() == null || recorrencia.getValor().compareTo(BigDecimal.ZERO) < 1) {
+			throw new RegraNegocioException("Informe um valor maior ou igual a 1");
+		}
+
+		if (recorrencia.getTipo() == null) {
+			throw new RegraNegocioException("Informe um tipo de lançamento.");
+		}
+
+		if (recorrencia.getFrequencia() == null) {
+			throw new RegraNegocioException("Informe a frequência da recorrência.");
+		}
+
+		if (recorrencia.getQuantidade() != null && recorrencia.getQuantidade() < 1) {
+			throw new RegraNegocioException("Informe uma quantidade de ocorrências maior ou igual a 1.");
+		}
+
+		if ((recorrencia.getAnoFim() == null) != (recorrencia.getMesFim() == null)) {
+			throw new RegraNegocioException("Informe o ano e o mês finais da recorrência, ou nenhum dos dois.");
+		}
+
+		if (recorrencia.getAnoFim() != null && (recorrencia.getMesFim() < 1 || recorrencia.getMesFim() > 12
+				|| recorrencia.getAnoFim().toString().length() != 4
+				|| recorrencia.getFim().isBefore(recorrencia.getInicio()))) {
+			throw new RegraNegocioException("Informe um mês final válido, igual ou posterior ao início.");
+		}
+	}
+}
@@ -0,0 +1,246 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.DivergenciaSaldo;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.MovimentoSaldo;
+import com.leonardo.minhasfinancas.model.ResumoPeriodo;
+import com.leonardo.minhasfinancas.model.SaldoMensal;
+import com.leonardo.minhasfinancas.model.SaldoMensalId;
+import com.leonardo.minhasfinancas.model.SaldoUsuario;
+import com.leonardo.minhasfinancas.model.TotalSaldo;
+import com.leonardo.minhasfinancas.repository.LancamentoArquivadoRepository;
+import com.leonardo.minhasfinancas.repository.LancamentoRepository;
+import com.leonardo.minhasfinancas.repository.SaldoMensalRepository;
+import com.leonardo.minhasfinancas.repository.SaldoUsuarioRepository;
+import com.leonardo.minhasfinancas.services.SaldoService;
+import com.leonardo.minhasfinancas.services.VersaoDadosService;
+
+@Service
+public class SaldoServiceImpl implements SaldoService {
+
+	private SaldoMensalRepository saldoMensalRepository;
+	private SaldoUsuarioRepository saldoUsuarioRepository;
+	private LancamentoRepository lancamentoRepository;
+	private VersaoDadosService versaoDadosService;
+	private LancamentoArquivadoRepository lancamentoArquivadoRepository;
+
+	public SaldoServiceImpl(SaldoMensalRepository saldoMensalRepository,
+			SaldoUsuarioRepository saldoUsuarioRepository, LancamentoRepository lancamentoRepository,
+			VersaoDadosService versaoDadosService, LancamentoArquivadoRepository lancamentoArquivadoRepository) {
+		this.saldoMensalRepository = saldoMensalRepository;
+		this.saldoUsuarioRepository = saldoUsuarioRepository;
+		this.lancamentoRepository = lancamentoRepository;
+		this.versaoDadosService = versaoDadosService;
+		this.lancamentoArquivadoRepository = lancamentoArquivadoRepository;
+	}
+
+	@Override
+	@Transactional
+	public void registrar(final Lancamento lancamento) {
+		aplicar(MovimentoSaldo.de(lancamento));
+	}
+
+	@Override
+	@Transactional
+	public void registrar(final Collection<Lancamento> lancamentos) {
+		Map<SaldoMensalId, MovimentoSaldo> agrupados = new HashMap<>();
+		for (Lancamento lancamento : lancamentos) {
+			MovimentoSaldo movimento = MovimentoSaldo.de(lancamento);
+			agrupados.merge(movimento.getChave(), movimento,
+					(a, b) -> new MovimentoSaldo(a.getIdUsuario(), a.getAno(), a.getMes(), a.getTipo(), a.getStatus(),
+							a.getValor().add(b.getValor()), a.getQuantidade() + b.getQuantidade()));
+		}
+		agrupados.values().forEach(this::aplicar);
+	}
+
+	@Override
+	@Transactional
+	public void estornar(final MovimentoSaldo movimento) {
+		aplicar(movimento.estorno());
+	}
+
+	@Override
+	@Transactional
+	public void alterarStatus(final MovimentoSaldo movimento, final StatusLancamento status) {
+		// O saldo do usuário não depende do status: só o consolidado mensal muda.
+		aplicarMensal(movimento.estorno());
+		aplicarMensal(movimento.comStatus(status));
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BigDecimal obterSaldo(final Long idUsuario) {
+		return saldoUsuarioRepository.obterSaldo(idUsuario).orElse(BigDecimal.ZERO);
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public BigDecimal obterSaldo(final Long idUsuario, final Collection<StatusLancamento> status, final Integer ano,
+			final Integer mes) {
+		if (mes != null && (ano == null || mes < 1 || mes > 12)) {
+			throw new RegraNegocioException("Informe um mês entre 1 e 12, acompanhado do ano.");
+		}
+
+		ResumoPeriodo saldo = new ResumoPeriodo(ano, mes);
+		saldoMensalRepository.somarAte(idUsuario, statusOuTodos(status), ano == null ? Integer.MAX_VALUE : ano,
+				mes == null ? 12 : mes).forEach(saldo::somar);
+		return saldo.getSaldo();
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<ResumoPeriodo> obterResumoMensal(final Long idUsuario, final Integer ano,
+			final Collection<StatusLancamento> status) {
+		List<ResumoPeriodo> meses = new ArrayList<>(12);
+		for (int mes = 1; mes <= 12; mes++) {
+			meses.add(new ResumoPeriodo(ano, mes));
+		}
+
+		for (TotalSaldo total : saldoMensalRepository.somarPorMes(idUsuario, ano, statusOuTodos(status))) {
+			meses.get(total.getMes() - 1).somar(total);
+		}
+		return meses;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public List<ResumoPeriodo> obterResumoAnual(final Long idUsuario, final Collection<StatusLancamento> status) {
+		Map<Integer, ResumoPeriodo> anos = new TreeMap<>();
+		for (TotalSaldo total : saldoMensalRepository.somarPorAno(idUsuario, statusOuTodos(status))) {
+			anos.computeIfAbsent(total.getAno(), ano -> new ResumoPeriodo(ano, null)).somar(total);
+		}
+		return new ArrayList<>(anos.values());
+	}
+
+	@Override
+	@Transactional
+	public List<DivergenciaSaldo> reconciliar(final Long idUsuario) {
+		versaoDadosService.travar(idUsuario);
+		Map<SaldoMensalId, MovimentoSaldo> esperados = lancamentoRepository.obterMovimentosPorUsuario(idUsuario)
+				.stream().collect(Collectors.toMap(MovimentoSaldo::getChave, Function.identity()));
+		Map<SaldoMensalId, SaldoMensal> encontrados = saldoMensalRepository.findByIdUsuario(idUsuario).stream()
+				.collect(Collectors.toMap(SaldoMensal::getId, Function.identity()));
+
+		// Os lançamentos de anos arquivados saíram da tabela, mas o consolidado
+		// deles continua valendo: fica fora da comparação e é preservado.
+		Set<Integer> anosArquivados = lancamentoArquivadoRepository.obterAnos();
+		List<SaldoMensal> arquivados = new ArrayList<>();
+		encontrados.values().removeIf(s -> anosArquivados.contains(s.getAno()) && arquivados.add(s));
+		esperados.keySet().removeIf(chave -> anosArquivados.contains(chave.getAno()));
+
+		List<DivergenciaSaldo> divergencias = new ArrayList<>();
+
+		Set<SaldoMensalId> chaves = new HashSet<>(esperados.keySet());
+		chaves.addAll(encontrados.keySet());
+		for (SaldoMensalId chave : chaves) {
+			MovimentoSaldo esperado = esperados.get(chave);
+			SaldoMensal encontrado = encontrados.get(chave);
+			BigDecimal valorEsperado = esperado == null ? BigDecimal.ZERO : valor(esperado.getValor());
+			BigDecimal valorEncontrado = encontrado == null ? BigDecimal.ZERO : encontrado.getValor();
+			long quantidadeEsperada = esperado == null ? 0 : esperado.getQuantidade();
+			long quantidadeEncontrada = encontrado == null ? 0 : encontrado.getQuantidade();
+
+			if (valorEsperado.compareTo(valorEncontrado) != 0 || quantidadeEsperada != quantidadeEncontrada) {
+				divergencias.add(new DivergenciaSaldo(idUsuario, chave.getAno(), chave.getMes(), chave.getTipo(),
+						chave.getStatus(), valorEsperado, valorEncontrado));
+			}
+		}
+
+		Map<TipoLancamento, BigDecimal> totaisEsperados = somarPorTipo(esperados.values());
+		for (SaldoMensal arquivado : arquivados) {
+			totaisEsperados.merge(arquivado.getTipo(), arquivado.getValor(), BigDecimal::add);
+		}
+		SaldoUsuario saldoUsuario = saldoUsuarioRepository.findById(idUsuario).orElse(null);
+		for (TipoLancamento tipo : TipoLancamento.values()) {
+			BigDecimal valorEsperado = totaisEsperados.get(tipo);
+			BigDecimal valorEncontrado = saldoUsuario == null ? BigDecimal.ZERO
+					: tipo == TipoLancamento.RECEITA ? saldoUsuario.getReceitas() : saldoUsuario.getDespesas();
+
+			if (valorEsperado.compareTo(valorEncontrado) != 0) {
+				divergencias.add(new DivergenciaSaldo(idUsuario, null, null, tipo, null, valorEsperado, valorEncontrado));
+			}
+		}
+
+		if (divergencias.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		saldoMensalRepository.excluirPorUsuario(idUsuario);
+		saldoMensalRepository.saveAll(esperados.values().stream()
+				.map(m -> SaldoMensal.builder().idUsuario(m.getIdUsuario()).ano(m.getAno()).mes(m.getMes())
+						.tipo(m.getTipo()).status(m.getStatus()).valor(valor(m.getValor()))
+						.quantidade(m.getQuantidade()).build())
+				.collect(Collectors.toList()));
+		saldoMensalRepository.saveAll(arquivados);
+		saldoUsuarioRepository.save(new SaldoUsuario(idUsuario, totaisEsperados.get(TipoLancamento.RECEITA),
+				totaisEsperados.get(TipoLancamento.DESPESA)));
+		versaoDadosService.incrementar(idUsuario);
+
+		return divergencias;
+	}
+
+	private void aplicar(final MovimentoSaldo movimento) {
+		aplicarMensal(movimento);
+
+		BigDecimal valor = valor(movimento.getValor());
+		BigDecimal receitas = movimento.getTipo() == TipoLancamento.RECEITA ? valor : BigDecimal.ZERO;
+		BigDecimal despesas = movimento.getTipo() == TipoLancamento.DESPESA ? valor : BigDecimal.ZERO;
+
+		// Com o usuário travado, ninguém mais insere a linha entre o update e o insert.
+		if (saldoUsuarioRepository.somar(movimento.getIdUsuario(), receitas, despesas) == 0) {
+			saldoUsuarioRepository.inserir(movimento.getIdUsuario(), receitas, despesas);
+		}
+	}
+
+	private void aplicarMensal(final MovimentoSaldo movimento) {
+		Objects.requireNonNull(movimento.getIdUsuario());
+		BigDecimal valor = valor(movimento.getValor());
+
+		int atualizados = saldoMensalRepository.somar(movimento.getIdUsuario(), movimento.getAno(),
+				movimento.getMes(), movimento.getTipo(), movimento.getStatus(), valor, movimento.getQuantidade());
+		if (atualizados == 0) {
+			saldoMensalRepository.inserir(movimento.getIdUsuario(), movimento.getAno(), movimento.getMes(),
+					movimento.getTipo().name(), movimento.getStatus().name(), valor, movimento.getQuantidade());
+		}
+	}
+
+	private Map<TipoLancamento, BigDecimal> somarPorTipo(final Collection<MovimentoSaldo> movimentos) {
+		Map<TipoLancamento, BigDecimal> totais = new EnumMap<>(TipoLancamento.class);
+		for (TipoLancamento tipo : TipoLancamento.values()) {
+			totais.put(tipo, BigDecimal.ZERO);
+		}
+		for (MovimentoSaldo movimento : movimentos) {
+			totais.merge(movimento.getTipo(), valor(movimento.getValor()), BigDecimal::add);
+		}
+		return totais;
+	}
+
+	private Collection<StatusLancamento> statusOuTodos(final Collection<StatusLancamento> status) {
+		return status == null || status.isEmpty() ? List.of(StatusLancamento.values()) : status;
+	}
+
+	private BigDecimal valor(final BigDecimal valor) {
+		return valor == null ? BigDecimal.ZERO : valor;
+	}
+}
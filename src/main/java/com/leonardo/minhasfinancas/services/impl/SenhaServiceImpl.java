@@ -0,0 +1,93 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import com.leonardo.minhasfinancas.services.SenhaService;
+
+/**
+ * O BCrypt gasta CPU de propósito, então o cálculo roda em um pool próprio e
+ * limitado ({@code minhasfinancas.senha.threads} e {@code .fila}): uma rajada
+ * de logins espera na fila ou é recusada com {@link TaskRejectedException}, sem
+ * ocupar todas as threads das requisições.
+ */
+@Service
+public class SenhaServiceImpl implements SenhaService {
+
+	private static final Pattern HASH_BCRYPT = Pattern.compile("\\A\\$2[aby]?\\$\\d\\d\\$[./0-9A-Za-z]{53}");
+
+	private BCryptPasswordEncoder encoder;
+	private ThreadPoolTaskExecutor executor;
+	private Duration tempoMaximo;
+
+	public SenhaServiceImpl(TaskExecutorBuilder taskExecutorBuilder,
+			@Value("${minhasfinancas.senha.custo}") int custo,
+			@Value("${minhasfinancas.senha.threads}") int threads,
+			@Value("${minhasfinancas.senha.fila}") int fila,
+			@Value("${minhasfinancas.senha.tempo-maximo}") Duration tempoMaximo) {
+		this.encoder = new BCryptPasswordEncoder(custo);
+		this.tempoMaximo = tempoMaximo;
+		this.executor = taskExecutorBuilder.corePoolSize(threads).maxPoolSize(threads).queueCapacity(fila)
+				.threadNamePrefix("senha-").build();
+		this.executor.initialize();
+	}
+
+	@PreDestroy
+	public void encerrar() {
+		executor.shutdown();
+	}
+
+	@Override
+	public String codificar(final String senha) {
+		return executar(() -> encoder.encode(senha));
+	}
+
+	@Override
+	public boolean confere(final String senha, final String senhaGravada) {
+		if (senha == null || senhaGravada == null) {
+			return false;
+		}
+		if (!HASH_BCRYPT.matcher(senhaGravada).matches()) {
+			return MessageDigest.isEqual(senha.getBytes(StandardCharsets.UTF_8),
+					senhaGravada.getBytes(StandardCharsets.UTF_8));
+		}
+		return executar(() -> encoder.matches(senha, senhaGravada));
+	}
+
+	@Override
+	public boolean precisaRecodificar(final String senhaGravada) {
+		return senhaGravada != null
+				&& (!HASH_BCRYPT.matcher(senhaGravada).matches() || encoder.upgradeEncoding(senhaGravada));
+	}
+
+	private <T> T executar(final Callable<T> calculo) {
+		Future<T> resultado = executor.submit(calculo);
+		try {
+			return resultado.get(tempoMaximo.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			resultado.cancel(true);
+			throw new TaskRejectedException("Tempo esgotado aguardando a verificação da senha", e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
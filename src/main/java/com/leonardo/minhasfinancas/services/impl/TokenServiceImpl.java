@@ -0,0 +1,166 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.leonardo.minhasfinancas.exceptions.TokenInvalidoException;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.services.TokenService;
+
+/**
+ * JWT assinado com HMAC-SHA256. O cabeçalho leva o {@code kid} da chave usada:
+ * novos tokens saem com {@code minhasfinancas.token.chave-atual}, e qualquer
+ * chave ainda listada em {@code minhasfinancas.token.chaves} é aceita. Para
+ * trocar a chave, inclua a nova na lista, passe a assiná-la e remova a antiga
+ * depois da validade dos tokens. Não há chave padrão: sem
+ * {@code MINHASFINANCAS_TOKEN_CHAVES} a aplicação não sobe.
+ */
+@Service
+public class TokenServiceImpl implements TokenService {
+
+	private static final String ALGORITMO = "HmacSHA256";
+	private static final int TAMANHO_MINIMO_CHAVE = 32;
+	private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+	private final Map<String, Mac> chaves = new HashMap<>();
+	private ObjectMapper objectMapper;
+	private ObjectReader leitorCabecalho;
+	private ObjectReader leitorConteudo;
+	private String chaveAtual;
+	private String cabecalhoAtual;
+	private Duration validade;
+
+	public TokenServiceImpl(ObjectMapper objectMapper, @Value("${minhasfinancas.token.chaves}") String chaves,
+			@Value("${minhasfinancas.token.chave-atual}") String chaveAtual,
+			@Value("${minhasfinancas.token.validade}") Duration validade) {
+		this.objectMapper = objectMapper;
+		this.leitorCabecalho = objectMapper.readerFor(Cabecalho.class);
+		this.leitorConteudo = objectMapper.readerFor(Conteudo.class);
+		this.chaveAtual = chaveAtual;
+		this.validade = validade;
+
+		if (!StringUtils.hasText(chaves)) {
+			throw new IllegalStateException("Informe as chaves do token em minhasfinancas.token.chaves "
+					+ "(variável de ambiente MINHASFINANCAS_TOKEN_CHAVES).");
+		}
+		for (String chave : chaves.split(",")) {
+			String[] partes = chave.trim().split(":", 2);
+			if (partes.length != 2 || partes[1].length() < TAMANHO_MINIMO_CHAVE) {
+				throw new IllegalStateException("Informe as chaves do token como kid:segredo, com segredos de ao menos "
+						+ TAMANHO_MINIMO_CHAVE + " caracteres.");
+			}
+			this.chaves.put(partes[0], criarMac(partes[1]));
+		}
+		if (!this.chaves.containsKey(chaveAtual)) {
+			throw new IllegalStateException("A chave atual do token (" + chaveAtual + ") não está entre as chaves.");
+		}
+
+		this.cabecalhoAtual = codificar("{\"alg\":\"HS256\",\"typ\":\"JWT\",\"kid\":\"" + chaveAtual + "\"}");
+	}
+
+	@Override
+	public String gerar(final Usuario usuario) {
+		long agora = System.currentTimeMillis() / 1000;
+		Conteudo conteudo = new Conteudo();
+		conteudo.sub = String.valueOf(usuario.getId());
+		conteudo.iat = agora;
+		conteudo.exp = agora + validade.getSeconds();
+
+		try {
+			String corpo = cabecalhoAtual + "." + BASE64.encodeToString(objectMapper.writeValueAsBytes(conteudo));
+			return corpo + "." + BASE64.encodeToString(assinar(chaveAtual, corpo));
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public Long validar(final String token) {
+		int fimCabecalho = token == null ? -1 : token.indexOf('.');
+		int fimConteudo = fimCabecalho < 0 ? -1 : token.indexOf('.', fimCabecalho + 1);
+		if (fimConteudo < 0) {
+			throw new TokenInvalidoException("Token mal formado.");
+		}
+
+		try {
+			Cabecalho cabecalho = leitorCabecalho
+					.readValue(BASE64_DECODER.decode(token.substring(0, fimCabecalho)));
+			if (!"HS256".equals(cabecalho.alg) || !chaves.containsKey(cabecalho.kid)) {
+				throw new TokenInvalidoException("Token assinado com algoritmo ou chave desconhecidos.");
+			}
+
+			byte[] assinatura = BASE64_DECODER.decode(token.substring(fimConteudo + 1));
+			if (!MessageDigest.isEqual(assinatura, assinar(cabecalho.kid, token.substring(0, fimConteudo)))) {
+				throw new TokenInvalidoException("Assinatura do token inválida.");
+			}
+
+			Conteudo conteudo = leitorConteudo
+					.readValue(BASE64_DECODER.decode(token.substring(fimCabecalho + 1, fimConteudo)));
+			if (conteudo.exp <= System.currentTimeMillis() / 1000) {
+				throw new TokenInvalidoException("Token expirado.");
+			}
+			return Long.valueOf(conteudo.sub);
+		} catch (IOException | IllegalArgumentException e) {
+			throw new TokenInvalidoException("Token mal formado.");
+		}
+	}
+
+	@Override
+	public long getValidadeSegundos() {
+		return validade.getSeconds();
+	}
+
+	private byte[] assinar(final String kid, final String corpo) {
+		try {
+			// O Mac não é thread-safe; o clone evita inicializar a chave a cada token.
+			Mac mac = (Mac) chaves.get(kid).clone();
+			return mac.doFinal(corpo.getBytes(StandardCharsets.US_ASCII));
+		} catch (CloneNotSupportedException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static Mac criarMac(final String segredo) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITMO);
+			mac.init(new SecretKeySpec(segredo.getBytes(StandardCharsets.UTF_8), ALGORITMO));
+			return mac;
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String codificar(final String json) {
+		return BASE64.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	static class Cabecalho {
+		public String alg;
+		public String kid;
+	}
+
+	@JsonIgnoreProperties(ignoreUnknown = true)
+	static class Conteudo {
+		public String sub;
+		public long iat;
+		public long exp;
+	}
+}
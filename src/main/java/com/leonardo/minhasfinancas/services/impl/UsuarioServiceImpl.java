@@ -1,46 +1,96 @@
 package com.leonardo.minhasfinancas.services.impl;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.leonardo.minhasfinancas.exceptions.ErroAutenticacaoException;
 import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
 import com.leonardo.minhasfinancas.model.Usuario;
 import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+import com.leonardo.minhasfinancas.services.SenhaService;
 import com.leonardo.minhasfinancas.services.UsuarioService;
 
+/**
+ * As consultas por id e por email passam pelos caches {@value #CACHE_USUARIOS}
+ * e {@value #CACHE_USUARIOS_POR_EMAIL}, configurados em
+ * {@code spring.cache.*}. Apenas usuários encontrados são guardados, e as
+ * gravações e invalidações só chegam ao cache depois do commit.
+ */
 @Service
 public class UsuarioServiceImpl implements UsuarioService {
 
+	public static final String CACHE_USUARIOS = "usuarios";
+	public static final String CACHE_USUARIOS_POR_EMAIL = "usuariosPorEmail";
+
 	private UsuarioRepository usuarioRepository;
+	private SenhaService senhaService;
+	private Cache usuariosPorId;
+	private Cache usuariosPorEmail;
+	private TransactionTemplate transactionTemplate;
 
-	public UsuarioServiceImpl(UsuarioRepository usuarioRepository) {
+	public UsuarioServiceImpl(UsuarioRepository usuarioRepository, SenhaService senhaService,
+			CacheManager cacheManager, PlatformTransactionManager transactionManager) {
 		super();
 		this.usuarioRepository = usuarioRepository;
+		this.senhaService = senhaService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.usuariosPorId = new TransactionAwareCacheDecorator(cacheManager.getCache(CACHE_USUARIOS));
+		this.usuariosPorEmail = new TransactionAwareCacheDecorator(cacheManager.getCache(CACHE_USUARIOS_POR_EMAIL));
 	}
 
 	@Override
 	public Usuario autenticaUsuario(final String email, final String senha) {
-		Optional<Usuario> usuario = usuarioRepository.findByEmail(email);
+		Optional<Usuario> usuario = obterPorEmail(email);
 
 		if (usuario.isEmpty()) {
 			throw new ErroAutenticacaoException("Usuário não encontrado pelo email informado");
 		} else {
-			if (!usuario.get().getSenha().equals(senha)) {
+			if (!senhaService.confere(senha, usuario.get().getSenha())) {
 				throw new ErroAutenticacaoException("Senha invalida");
 			}
 		}
 
+		if (senhaService.precisaRecodificar(usuario.get().getSenha())) {
+			recodificarSenha(usuario.get(), senha);
+		}
+
 		return usuario.get();
 	}
 
+	/**
+	 * Troca a senha em texto puro (ou com custo antigo) pelo hash atual, no
+	 * primeiro login bem-sucedido.
+	 */
+	private void recodificarSenha(final Usuario usuario, final String senha) {
+		String hash = senhaService.codificar(senha);
+		usuarioRepository.atualizarSenha(usuario.getId(), hash);
+		usuariosPorId.evict(usuario.getId());
+		usuariosPorEmail.evict(usuario.getEmail());
+	}
+
+	/**
+	 * O hash da senha é calculado antes da transação, como no login: a espera
+	 * pelo pool de senhas não prende uma conexão do banco.
+	 */
 	@Override
-	@Transactional
 	public Usuario salvaUsuario(final Usuario usuario) {
-		validarEmail(usuario.getEmail());
-		return usuarioRepository.save(usuario);
+		if (usuario.getSenha() != null) {
+			usuario.setSenha(senhaService.codificar(usuario.getSenha()));
+		}
+		return transactionTemplate.execute(status -> {
+			validarEmail(usuario.getEmail());
+			Usuario salvo = usuarioRepository.save(usuario);
+			usuariosPorId.evict(salvo.getId());
+			usuariosPorEmail.evict(salvo.getEmail());
+			return salvo;
+		});
 	}
 
 	@Override
@@ -52,6 +102,26 @@ public class UsuarioServiceImpl implements UsuarioService {
 
 	@Override
 	public Optional<Usuario> obterPorId(final Long id) {
-		return usuarioRepository.findById(id);
+		return obterComCache(usuariosPorId, id, () -> usuarioRepository.findById(id));
+	}
+
+	@Override
+	public Optional<Usuario> obterPorEmail(final String email) {
+		return obterComCache(usuariosPorEmail, email, () -> usuarioRepository.findByEmail(email));
+	}
+
+	private Optional<Usuario> obterComCache(Cache cache, Object chave, Supplier<Optional<Usuario>> consulta) {
+		if (chave == null) {
+			return Optional.empty();
+		}
+
+		Usuario emCache = cache.get(chave, Usuario.class);
+		if (emCache != null) {
+			return Optional.of(emCache);
+		}
+
+		Optional<Usuario> usuario = consulta.get();
+		usuario.ifPresent(u -> cache.put(chave, u));
+		return usuario;
 	}
 }
@@ -0,0 +1,48 @@
+package com.leonardo.minhasfinancas.services.impl;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+import com.leonardo.minhasfinancas.services.VersaoDadosService;
+
+@Service
+public class VersaoDadosServiceImpl implements VersaoDadosService {
+
+	private UsuarioRepository usuarioRepository;
+
+	public VersaoDadosServiceImpl(UsuarioRepository usuarioRepository) {
+		this.usuarioRepository = usuarioRepository;
+	}
+
+	@Override
+	@Transactional(readOnly = true)
+	public Optional<Long> obter(final Long idUsuario) {
+		return usuarioRepository.obterVersaoDados(idUsuario);
+	}
+
+	@Override
+	@Transactional
+	public void incrementar(final Long idUsuario) {
+		incrementar(Collections.singleton(idUsuario));
+	}
+
+	@Override
+	@Transactional
+	public void incrementar(final Collection<Long> idsUsuarios) {
+		if (!idsUsuarios.isEmpty()) {
+			usuarioRepository.incrementarVersaoDados(idsUsuarios);
+		}
+	}
+
+	@Override
+	@Transactional
+	public void travar(final Long idUsuario) {
+		usuarioRepository.travar(idUsuario);
+	}
+
+}
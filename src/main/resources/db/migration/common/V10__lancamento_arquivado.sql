@@ -0,0 +1,9 @@
+-- Anos cujos lancamentos sairam de financas.lancamento para o arquivo (ver
+-- db/migration/particionamento). O saldo mensal desses anos e mantido como estava.
+CREATE TABLE IF NOT EXISTS financas.lancamento_arquivado
+(
+  ano integer NOT NULL PRIMARY KEY,
+  tabela character varying(100) NOT NULL,
+  linhas bigint NOT NULL,
+  data_arquivamento timestamp default now()
+);
@@ -0,0 +1,26 @@
+-- Outbox das alteracoes em lancamentos: gravado na mesma transacao da
+-- alteracao e lido em ordem de id pelas projecoes. Cada evento leva o estado
+-- do lancamento depois da alteracao (antes dela, na exclusao).
+CREATE TABLE IF NOT EXISTS financas.evento_lancamento
+(
+  id bigserial NOT NULL PRIMARY KEY,
+  tipo_evento character varying(20) NOT NULL check (tipo_evento in ('CRIADO', 'ATUALIZADO', 'STATUS_ALTERADO', 'EXCLUIDO')),
+  id_lancamento bigint NOT NULL,
+  id_usuario bigint NOT NULL,
+  descricao character varying(100),
+  mes integer,
+  ano integer,
+  valor numeric(16,2),
+  tipo character varying(20),
+  status character varying(20),
+  versao bigint,
+  data_criacao timestamp default now()
+);
+
+-- Ultimo evento processado por cada projecao.
+CREATE TABLE IF NOT EXISTS financas.posicao_projecao
+(
+  projecao character varying(100) NOT NULL PRIMARY KEY,
+  posicao bigint NOT NULL,
+  data_atualizacao timestamp default now()
+);
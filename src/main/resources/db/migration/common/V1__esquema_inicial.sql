@@ -0,0 +1,21 @@
+CREATE TABLE IF NOT EXISTS financas.usuario
+(
+  id bigserial NOT NULL PRIMARY KEY,
+  nome character varying(150),
+  email character varying(100),
+  senha character varying(20),
+  data_cadastro date default now()
+);
+
+CREATE TABLE IF NOT EXISTS financas.lancamento
+(
+  id bigserial NOT NULL PRIMARY KEY ,
+  descricao character varying(100) NOT NULL,
+  mes integer NOT NULL,
+  ano integer NOT NULL,
+  valor numeric(16,2),
+  tipo character varying(20) NOT NULL check (tipo in ('RECEITA', 'DESPESA')),
+  status character varying(20) NOT NULL check (status in ('PENDENTE', 'CANCELADO', 'EFETIVADO')),
+  id_usuario bigint NOT NULL REFERENCES financas.usuario (id),
+  data_cadastro date default now()
+);
@@ -0,0 +1,32 @@
+CREATE TABLE IF NOT EXISTS financas.saldo_usuario
+(
+  id_usuario bigint NOT NULL PRIMARY KEY REFERENCES financas.usuario (id),
+  receitas numeric(16,2) NOT NULL default 0,
+  despesas numeric(16,2) NOT NULL default 0
+);
+
+CREATE TABLE IF NOT EXISTS financas.saldo_mensal
+(
+  id_usuario bigint NOT NULL REFERENCES financas.usuario (id),
+  ano integer NOT NULL,
+  mes integer NOT NULL,
+  tipo character varying(20) NOT NULL check (tipo in ('RECEITA', 'DESPESA')),
+  status character varying(20) NOT NULL check (status in ('PENDENTE', 'CANCELADO', 'EFETIVADO')),
+  valor numeric(16,2) NOT NULL default 0,
+  quantidade bigint NOT NULL default 0,
+  PRIMARY KEY (id_usuario, ano, mes, tipo, status)
+);
+
+INSERT INTO financas.saldo_mensal (id_usuario, ano, mes, tipo, status, valor, quantidade)
+SELECT id_usuario, ano, mes, tipo, status, coalesce(sum(valor), 0), count(*)
+FROM financas.lancamento
+WHERE NOT EXISTS (SELECT 1 FROM financas.saldo_mensal)
+GROUP BY id_usuario, ano, mes, tipo, status;
+
+INSERT INTO financas.saldo_usuario (id_usuario, receitas, despesas)
+SELECT id_usuario,
+  coalesce(sum(case when tipo = 'RECEITA' then valor end), 0),
+  coalesce(sum(case when tipo = 'DESPESA' then valor end), 0)
+FROM financas.lancamento
+WHERE NOT EXISTS (SELECT 1 FROM financas.saldo_usuario)
+GROUP BY id_usuario;
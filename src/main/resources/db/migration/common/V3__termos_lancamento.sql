@@ -0,0 +1,9 @@
+-- Bases que ja possuem lancamentos devem iniciar a aplicacao uma vez com
+-- minhasfinancas.busca.reindexar-na-inicializacao=true para popular esta tabela.
+CREATE TABLE IF NOT EXISTS financas.lancamento_termo
+(
+  id_lancamento bigint NOT NULL REFERENCES financas.lancamento (id) ON DELETE CASCADE,
+  termo character varying(50) NOT NULL,
+  id_usuario bigint NOT NULL REFERENCES financas.usuario (id),
+  PRIMARY KEY (id_lancamento, termo)
+);
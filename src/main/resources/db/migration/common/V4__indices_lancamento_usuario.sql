@@ -0,0 +1,5 @@
+-- Busca e paginacao por cursor: filtro por usuario, ordenacao por ano, mes e id.
+CREATE INDEX IF NOT EXISTS idx_lancamento_usuario_ano_mes ON financas.lancamento (id_usuario, ano, mes, id);
+
+-- Login e cadastro consultam o usuario pelo email.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_usuario_email ON financas.usuario (email);
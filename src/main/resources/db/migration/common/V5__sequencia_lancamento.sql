@@ -0,0 +1,3 @@
+-- O incremento deve ser igual ao allocationSize de Lancamento: o Hibernate reserva
+-- 50 ids a cada chamada e consegue agrupar os inserts em lotes JDBC.
+CREATE SEQUENCE IF NOT EXISTS financas.lancamento_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1 @@
+ALTER TABLE financas.lancamento ADD COLUMN IF NOT EXISTS versao bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,26 @@
+CREATE TABLE IF NOT EXISTS financas.recorrencia
+(
+  id bigserial NOT NULL PRIMARY KEY,
+  descricao character varying(100) NOT NULL,
+  valor numeric(16,2) NOT NULL,
+  tipo character varying(20) NOT NULL check (tipo in ('RECEITA', 'DESPESA')),
+  frequencia character varying(20) NOT NULL check (frequencia in ('MENSAL', 'ANUAL')),
+  ano_inicio integer NOT NULL,
+  mes_inicio integer NOT NULL,
+  quantidade integer,
+  ano_fim integer,
+  mes_fim integer,
+  ocorrencias_geradas integer NOT NULL default 0,
+  ano_proxima integer,
+  mes_proxima integer,
+  id_usuario bigint NOT NULL REFERENCES financas.usuario (id),
+  data_cadastro date default now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_recorrencia_usuario ON financas.recorrencia (id_usuario);
+CREATE INDEX IF NOT EXISTS idx_recorrencia_proxima ON financas.recorrencia (ano_proxima, mes_proxima);
+
+ALTER TABLE financas.lancamento ADD COLUMN IF NOT EXISTS id_recorrencia bigint REFERENCES financas.recorrencia (id);
+ALTER TABLE financas.lancamento ADD COLUMN IF NOT EXISTS parcela integer;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_lancamento_recorrencia_parcela ON financas.lancamento (id_recorrencia, parcela);
@@ -0,0 +1,2 @@
+-- Comporta o hash BCrypt (60 caracteres) com folga para trocar de algoritmo.
+ALTER TABLE financas.usuario ALTER COLUMN senha SET DATA TYPE character varying(100);
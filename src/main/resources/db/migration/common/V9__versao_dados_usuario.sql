@@ -0,0 +1,2 @@
+-- Incrementada a cada alteração nos lançamentos do usuário; base dos ETags das leituras.
+ALTER TABLE financas.usuario ADD COLUMN IF NOT EXISTS versao_dados bigint NOT NULL DEFAULT 0;
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_lancamento_termo_usuario_termo ON financas.lancamento_termo (id_usuario, termo);
@@ -0,0 +1,108 @@
+-- Particiona financas.lancamento por faixa de ano (PostgreSQL 11 ou superior).
+-- Opcional: so roda com o perfil "particionado", que inclui esta pasta no Flyway.
+-- Os lancamentos sao copiados para a nova tabela; em bases grandes aplique em
+-- janela de manutencao.
+
+-- A chave primaria de uma tabela particionada precisa conter o ano, entao o id
+-- deixa de ser referenciavel sozinho. Os termos continuam sendo removidos pela
+-- aplicacao junto com o lancamento.
+ALTER TABLE financas.lancamento_termo DROP CONSTRAINT IF EXISTS lancamento_termo_id_lancamento_fkey;
+
+ALTER TABLE financas.lancamento RENAME TO lancamento_nao_particionado;
+
+CREATE TABLE financas.lancamento
+(
+  id bigint NOT NULL DEFAULT nextval('financas.lancamento_seq'),
+  descricao character varying(100) NOT NULL,
+  mes integer NOT NULL,
+  ano integer NOT NULL,
+  valor numeric(16,2),
+  tipo character varying(20) NOT NULL check (tipo in ('RECEITA', 'DESPESA')),
+  status character varying(20) NOT NULL check (status in ('PENDENTE', 'CANCELADO', 'EFETIVADO')),
+  id_usuario bigint NOT NULL REFERENCES financas.usuario (id),
+  data_cadastro date default now(),
+  versao bigint NOT NULL DEFAULT 0,
+  id_recorrencia bigint REFERENCES financas.recorrencia (id),
+  parcela integer,
+  PRIMARY KEY (id, ano)
+) PARTITION BY RANGE (ano);
+
+-- Anos sem particao propria caem aqui ate que a particao seja criada.
+CREATE TABLE financas.lancamento_padrao PARTITION OF financas.lancamento DEFAULT;
+
+-- Cria a particao do ano, movendo para ela o que ja estiver na particao padrao.
+-- O job roda em todos os nos: o advisory lock serializa as chamadas ate o fim da
+-- transacao, entao quem espera ja encontra a particao criada.
+CREATE OR REPLACE FUNCTION financas.criar_particao_lancamento(p_ano integer) RETURNS void AS $$
+DECLARE
+  v_tabela text := 'lancamento_' || p_ano;
+BEGIN
+  PERFORM pg_advisory_xact_lock(hashtext('financas.particao_lancamento'));
+
+  IF to_regclass('financas.' || v_tabela) IS NOT NULL THEN
+    RETURN;
+  END IF;
+
+  EXECUTE format('CREATE TABLE financas.%I (LIKE financas.lancamento INCLUDING DEFAULTS INCLUDING CONSTRAINTS)', v_tabela);
+  EXECUTE format('WITH movidos AS (DELETE FROM financas.lancamento_padrao WHERE ano = %s RETURNING *) '
+    || 'INSERT INTO financas.%I SELECT * FROM movidos', p_ano, v_tabela);
+  EXECUTE format('ALTER TABLE financas.lancamento ATTACH PARTITION financas.%I FOR VALUES FROM (%s) TO (%s)',
+    v_tabela, p_ano, p_ano + 1);
+END;
+$$ LANGUAGE plpgsql;
+
+SELECT financas.criar_particao_lancamento(ano)
+FROM (SELECT DISTINCT ano FROM financas.lancamento_nao_particionado
+      UNION SELECT extract(year FROM current_date)::integer
+      UNION SELECT extract(year FROM current_date)::integer + 1) anos;
+
+INSERT INTO financas.lancamento (id, descricao, mes, ano, valor, tipo, status, id_usuario, data_cadastro, versao,
+  id_recorrencia, parcela)
+SELECT id, descricao, mes, ano, valor, tipo, status, id_usuario, data_cadastro, versao, id_recorrencia, parcela
+FROM financas.lancamento_nao_particionado;
+
+DROP TABLE financas.lancamento_nao_particionado;
+
+-- Os indices criados na tabela particionada sao replicados em cada particao.
+-- Indices unicos precisam do ano; a parcela de uma recorrencia sempre cai no mesmo ano.
+CREATE INDEX idx_lancamento_usuario_ano_mes ON financas.lancamento (id_usuario, ano, mes, id);
+CREATE UNIQUE INDEX uk_lancamento_recorrencia_parcela ON financas.lancamento (id_recorrencia, parcela, ano);
+
+CREATE SCHEMA IF NOT EXISTS financas_arquivo;
+
+-- Desanexa a particao do ano e a move para o esquema financas_arquivo (e para
+-- um tablespace frio, se informado). Os lancamentos arquivados deixam de
+-- aparecer nas consultas; o saldo do ano e mantido.
+CREATE OR REPLACE FUNCTION financas.arquivar_lancamentos(p_ano integer, p_tablespace text DEFAULT NULL)
+RETURNS bigint AS $$
+DECLARE
+  v_tabela text := 'lancamento_' || p_ano;
+  v_linhas bigint;
+BEGIN
+  PERFORM pg_advisory_xact_lock(hashtext('financas.particao_lancamento'));
+
+  -- Outro no pode ter arquivado o ano enquanto esta chamada esperava o lock.
+  PERFORM 1 FROM financas.lancamento_arquivado WHERE ano = p_ano;
+  IF FOUND THEN
+    RETURN 0;
+  END IF;
+
+  PERFORM financas.criar_particao_lancamento(p_ano);
+
+  EXECUTE format('DELETE FROM financas.lancamento_termo t USING financas.%I l WHERE t.id_lancamento = l.id', v_tabela);
+  EXECUTE format('ALTER TABLE financas.lancamento DETACH PARTITION financas.%I', v_tabela);
+  EXECUTE format('ALTER TABLE financas.%I SET SCHEMA financas_arquivo', v_tabela);
+  IF p_tablespace IS NOT NULL THEN
+    EXECUTE format('ALTER TABLE financas_arquivo.%I SET TABLESPACE %I', v_tabela, p_tablespace);
+  END IF;
+
+  -- As buscas dos usuarios afetados mudam: invalida os ETags deles.
+  EXECUTE format('UPDATE financas.usuario SET versao_dados = versao_dados + 1 '
+    || 'WHERE id IN (SELECT id_usuario FROM financas_arquivo.%I)', v_tabela);
+
+  EXECUTE format('SELECT count(*) FROM financas_arquivo.%I', v_tabela) INTO v_linhas;
+  INSERT INTO financas.lancamento_arquivado (ano, tabela, linhas)
+  VALUES (p_ano, 'financas_arquivo.' || v_tabela, v_linhas);
+  RETURN v_linhas;
+END;
+$$ LANGUAGE plpgsql;
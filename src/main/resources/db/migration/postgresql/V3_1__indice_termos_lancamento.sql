@@ -0,0 +1,2 @@
+-- varchar_pattern_ops permite que o LIKE 'prefixo%' use o indice em qualquer collation.
+CREATE INDEX IF NOT EXISTS idx_lancamento_termo_usuario_termo ON financas.lancamento_termo (id_usuario, termo varchar_pattern_ops);
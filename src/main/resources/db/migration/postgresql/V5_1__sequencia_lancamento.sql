@@ -0,0 +1,4 @@
+SELECT setval('financas.lancamento_seq', greatest((SELECT max(id) FROM financas.lancamento), 1));
+
+-- Inserts feitos fora da aplicacao passam a usar a mesma sequencia.
+ALTER TABLE financas.lancamento ALTER COLUMN id SET DEFAULT nextval('financas.lancamento_seq');
@@ -0,0 +1,72 @@
+package com.leonardo.minhasfinancas.api.resource;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.leonardo.minhasfinancas.enums.FormatoExtrato;
+import com.leonardo.minhasfinancas.model.ImportacaoExtrato;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.services.ImportacaoExtratoService;
+import com.leonardo.minhasfinancas.services.TokenService;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ImportacaoResourceTest {
+
+	static final String URI = "/api/importacoes";
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	TokenService tokenService;
+
+	@MockBean
+	ImportacaoExtratoService importacaoExtratoService;
+
+	@Test
+	public void deveResponderServicoIndisponivelComOPoolDeImportacoesCheio() throws Exception {
+		Mockito.when(importacaoExtratoService.iniciar(ArgumentMatchers.any(), ArgumentMatchers.any(),
+				ArgumentMatchers.any(), ArgumentMatchers.any()))
+				.thenThrow(new TaskRejectedException("Muitas importações em andamento."));
+
+		mockMvc.perform(MockMvcRequestBuilders.multipart(URI)
+				.file(new MockMultipartFile("arquivo", "extrato.csv", "text/csv", "2020-01-05;Padaria;-1".getBytes()))
+				.header(HttpHeaders.AUTHORIZATION, bearer(1L)))
+				.andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.RETRY_AFTER, "5"));
+	}
+
+	@Test
+	public void deveMostrarAImportacaoSomenteAoSeuUsuario() throws Exception {
+		ImportacaoExtrato importacao = new ImportacaoExtrato(2L, FormatoExtrato.CSV);
+		Mockito.when(importacaoExtratoService.obter(importacao.getId())).thenReturn(Optional.of(importacao));
+
+		mockMvc.perform(MockMvcRequestBuilders.get(URI.concat("/{id}"), importacao.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer(2L))).andExpect(MockMvcResultMatchers.status().isOk());
+		mockMvc.perform(MockMvcRequestBuilders.get(URI.concat("/{id}"), importacao.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer(1L))).andExpect(MockMvcResultMatchers.status().isNotFound());
+	}
+
+	private String bearer(Long idUsuario) {
+		return "Bearer " + tokenService.gerar(Usuario.builder().id(idUsuario).build());
+	}
+}
@@ -0,0 +1,476 @@
+package com.leonardo.minhasfinancas.api.resource;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.persistence.EntityManager;
+
+import org.assertj.core.api.Assertions;
+import org.hamcrest.Matchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jayway.jsonpath.JsonPath;
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.metricas.MetricasAspect;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.LancamentoRepository;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+import com.leonardo.minhasfinancas.services.LancamentoService;
+import com.leonardo.minhasfinancas.services.SaldoService;
+import com.leonardo.minhasfinancas.services.TokenService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class LancamentoResourceTest {
+
+	static final String URI = "/api/lancamentos";
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	LancamentoRepository lancamentoRepository;
+
+	@Autowired
+	LancamentoService lancamentoService;
+
+	@Autowired
+	SaldoService saldoService;
+
+	@Autowired
+	EntityManager entityManager;
+
+	@Autowired
+	TokenService tokenService;
+
+	@Autowired
+	MeterRegistry registry;
+
+	private Usuario usuario;
+
+	@BeforeEach
+	public void setUp() {
+		usuario = usuarioRepository.save(Usuario.builder().nome("Leonardo").email("lote@email.com").build());
+	}
+
+	@Test
+	public void deveImportarLoteJsonRejeitandoApenasAsLinhasInvalidas() throws Exception {
+		String json = "[" + linha("Mercado", 2, "DESPESA", "10.00") + "," + linha("", 2, "DESPESA", "5.00") + ","
+				+ linha("Salario", 13, "RECEITA", "100.00") + "," + linha("Salario", 3, "RECEITA", "100.00") + "]";
+
+		var request = MockMvcRequestBuilders.post(URI.concat("/lote")).header(HttpHeaders.AUTHORIZATION, bearer())
+				.contentType(MediaType.APPLICATION_JSON).content(json);
+
+		mockMvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("recebidos").value(4))
+				.andExpect(MockMvcResultMatchers.jsonPath("importados").value(2))
+				.andExpect(MockMvcResultMatchers.jsonPath("erros[0].linha").value(2))
+				.andExpect(MockMvcResultMatchers.jsonPath("erros[1].linha").value(3))
+				.andExpect(MockMvcResultMatchers.jsonPath("erros[1].mensagem").value("Informe um mês válido."));
+
+		Assertions.assertThat(lancamentoRepository.findByUsuarioId(usuario.getId())).hasSize(2);
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("90.00");
+	}
+
+	@Test
+	public void deveImportarLoteNdjsonEmVariosLotes() throws Exception {
+		String ndjson = IntStream.rangeClosed(1, 1200).mapToObj(i -> linha("Parcela " + i, 1, "DESPESA", "1.00"))
+				.collect(Collectors.joining("\n"));
+
+		var request = MockMvcRequestBuilders.post(URI.concat("/lote")).header(HttpHeaders.AUTHORIZATION, bearer())
+				.contentType("application/x-ndjson").content(ndjson);
+
+		mockMvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("importados").value(1200))
+				.andExpect(MockMvcResultMatchers.jsonPath("erros").isEmpty());
+
+		Assertions.assertThat(lancamentoRepository.findByUsuarioId(usuario.getId())).hasSize(1200);
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("-1200.00");
+	}
+
+	@Test
+	public void deveRejeitarLinhaComTipoDesconhecidoEGravarOLoteParaOUsuarioDoToken() throws Exception {
+		var outro = usuarioRepository.save(Usuario.builder().nome("Outro").email("outro@email.com").build());
+		String json = "[" + linha("Mercado", 2, "OUTRO", "10.00") + ","
+				+ "{\"descricao\":\"Mercado\",\"mes\":2,\"ano\":2020,\"tipo\":\"DESPESA\",\"valor\":10,\"usuario\":"
+				+ outro.getId() + "}]";
+
+		var request = MockMvcRequestBuilders.post(URI.concat("/lote")).header(HttpHeaders.AUTHORIZATION, bearer())
+				.contentType(MediaType.APPLICATION_JSON).content(json);
+
+		mockMvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("importados").value(1))
+				.andExpect(MockMvcResultMatchers.jsonPath("erros.length()").value(1))
+				.andExpect(MockMvcResultMatchers.jsonPath("erros[0].mensagem").value("Informe um tipo de lançamento."));
+
+		Assertions.assertThat(lancamentoRepository.findByUsuarioId(usuario.getId())).hasSize(1);
+		Assertions.assertThat(lancamentoRepository.findByUsuarioId(outro.getId())).isEmpty();
+	}
+
+	@Test
+	public void deveRejeitarLinhaForaDosLimitesDasColunas() throws Exception {
+		String json = "[" + linha("x".repeat(101), 2, "DESPESA", "10.00") + ","
+				+ linha("Mercado", 2, "DESPESA", "10.001") + "," + linha("Mercado", 2, "DESPESA", "123456789012345")
+				+ "," + linha("Mercado", 2, "DESPESA", "12345678901234.50") + "]";
+
+		var request = MockMvcRequestBuilders.post(URI.concat("/lote")).header(HttpHeaders.AUTHORIZATION, bearer())
+				.contentType(MediaType.APPLICATION_JSON).content(json);
+
+		mockMvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("importados").value(1))
+				.andExpect(MockMvcResultMatchers.jsonPath("erros.length()").value(3))
+				.andExpect(MockMvcResultMatchers.jsonPath("erros[0].mensagem")
+						.value("Informe uma descrição com até 100 caracteres."));
+	}
+
+	@Test
+	public void deveRetornarBadRequestParaLoteMalFormado() throws Exception {
+		var request = MockMvcRequestBuilders.post(URI.concat("/lote")).header(HttpHeaders.AUTHORIZATION, bearer())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("[" + linha("Mercado", 2, "DESPESA", "10.00") + ", {\"descricao\": ");
+
+		mockMvc.perform(request).andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+
+	@Test
+	public void deveBuscarComQuantidadeDeConsultasConstante() throws Exception {
+		lancamentoRepository.saveAll(IntStream.rangeClosed(0, 30).mapToObj(i -> Lancamento.builder()
+				.descricao("Parcela " + i).mes(i == 0 ? 1 : 2).ano(2020).valor(BigDecimal.ONE)
+				.tipo(TipoLancamento.DESPESA).status(StatusLancamento.PENDENTE).usuario(usuario).build())
+				.collect(Collectors.toList()));
+
+		long umaLinha = comandosDaBusca(1, 1);
+		long trintaLinhas = comandosDaBusca(2, 30);
+
+		Assertions.assertThat(trintaLinhas).isEqualTo(umaLinha);
+		// A versão dos dados do usuário e a consulta dos lançamentos; o usuário vem do token.
+		Assertions.assertThat(umaLinha).isEqualTo(2);
+	}
+
+	@Test
+	public void deveResponderNotModifiedSemConsultarOsLancamentos() throws Exception {
+		lancamentoService.salvar(Lancamento.builder().descricao("Mercado").mes(1).ano(2020).valor(BigDecimal.TEN)
+				.tipo(TipoLancamento.DESPESA).usuario(usuario).build());
+		var request = MockMvcRequestBuilders.get(URI).header(HttpHeaders.AUTHORIZATION, bearer()).param("ano", "2020");
+
+		String etag = mockMvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+				.andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		double buscas = buscasNoRepositorio();
+
+		mockMvc.perform(request.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(MockMvcResultMatchers.status().isNotModified())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag));
+		Assertions.assertThat(buscasNoRepositorio()).isEqualTo(buscas);
+
+		lancamentoService.salvar(Lancamento.builder().descricao("Feira").mes(2).ano(2020).valor(BigDecimal.TEN)
+				.tipo(TipoLancamento.DESPESA).usuario(usuario).build());
+		mockMvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(2))
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, Matchers.not(etag)));
+	}
+
+	@Test
+	public void deveResponderNotModifiedNoSaldoAteONovoLancamento() throws Exception {
+		var request = saldo();
+		String etag = mockMvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk()).andReturn()
+				.getResponse().getHeader(HttpHeaders.ETAG);
+
+		mockMvc.perform(request.header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(MockMvcResultMatchers.status().isNotModified());
+
+		Lancamento lancamento = lancamentoService.salvar(Lancamento.builder().descricao("Mercado").mes(1).ano(2020)
+				.valor(BigDecimal.TEN).tipo(TipoLancamento.DESPESA).usuario(usuario).build());
+		mockMvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.content().string("-10.00"));
+
+		// Alterar apenas o status também muda a versão dos dados.
+		String etagAtual = mockMvc.perform(saldo()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+		lancamentoService.atualizarStatus(lancamento.getId(), usuario.getId(), StatusLancamento.EFETIVADO, null);
+		mockMvc.perform(saldo().header(HttpHeaders.IF_NONE_MATCH, etagAtual)).andExpect(MockMvcResultMatchers.status().isOk());
+	}
+
+	@Test
+	public void deveResponderNotModifiedNoLancamentoNaMesmaVersao() throws Exception {
+		Lancamento lancamento = lancamentoService.salvar(Lancamento.builder().descricao("Mercado").mes(1).ano(2020)
+				.valor(BigDecimal.TEN).tipo(TipoLancamento.DESPESA).usuario(usuario).build());
+
+		mockMvc.perform(MockMvcRequestBuilders.get(URI.concat("/{id}"), lancamento.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+				.andExpect(MockMvcResultMatchers.status().isNotModified());
+
+		lancamentoService.atualizarStatus(lancamento.getId(), usuario.getId(), StatusLancamento.EFETIVADO, null);
+		mockMvc.perform(MockMvcRequestBuilders.get(URI.concat("/{id}"), lancamento.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer()).header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1\""));
+	}
+
+	@Test
+	public void deveRetornarUnauthorizedNaBuscaSemTokenValido() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.get(URI).param("usuario", usuario.getId().toString()))
+				.andExpect(MockMvcResultMatchers.status().isUnauthorized());
+
+		String token = tokenService.gerar(usuario);
+		String adulterado = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+		mockMvc.perform(MockMvcRequestBuilders.get(URI).header(HttpHeaders.AUTHORIZATION, "Bearer " + adulterado))
+				.andExpect(MockMvcResultMatchers.status().isUnauthorized());
+	}
+
+	@Test
+	public void deveSalvarLancamentoParaOUsuarioDoToken() throws Exception {
+		var outro = usuarioRepository.save(Usuario.builder().nome("Outro").email("outro@email.com").build());
+
+		mockMvc.perform(MockMvcRequestBuilders.post(URI).header(HttpHeaders.AUTHORIZATION, bearer())
+				.contentType(MediaType.APPLICATION_JSON).content(String.format(
+						"{\"descricao\":\"Mercado\",\"mes\":1,\"ano\":2020,\"tipo\":\"DESPESA\",\"valor\":10,\"usuario\":%d}",
+						outro.getId())))
+				.andExpect(MockMvcResultMatchers.status().isCreated())
+				.andExpect(MockMvcResultMatchers.jsonPath("usuario.id").value(usuario.getId()));
+
+		Assertions.assertThat(lancamentoRepository.findByUsuarioId(usuario.getId())).hasSize(1);
+		Assertions.assertThat(lancamentoRepository.findByUsuarioId(outro.getId())).isEmpty();
+	}
+
+	@Test
+	public void deveAtualizarStatusSomenteNaVersaoInformada() throws Exception {
+		Lancamento lancamento = lancamentoService.salvar(Lancamento.builder().descricao("Mercado").mes(1).ano(2020)
+				.valor(BigDecimal.TEN).tipo(TipoLancamento.DESPESA).usuario(usuario).build());
+
+		mockMvc.perform(MockMvcRequestBuilders.get(URI.concat("/{id}"), lancamento.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"0\""))
+				.andExpect(MockMvcResultMatchers.jsonPath("versao").value(0));
+
+		mockMvc.perform(atualizarStatus(lancamento.getId(), "EFETIVADO", "\"0\""))
+				.andExpect(MockMvcResultMatchers.status().isNoContent())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1\""));
+
+		mockMvc.perform(atualizarStatus(lancamento.getId(), "CANCELADO", "\"0\""))
+				.andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+		Assertions.assertThat(lancamentoRepository.findById(lancamento.getId()).get().getStatus())
+				.isEqualTo(StatusLancamento.EFETIVADO);
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId(), List.of(StatusLancamento.EFETIVADO), null, null))
+				.isEqualByComparingTo("-10");
+	}
+
+	@Test
+	public void deveRejeitarAtualizacaoDeVersaoDesatualizadaSemAlterarDataCadastro() throws Exception {
+		Lancamento lancamento = lancamentoService.salvar(Lancamento.builder().descricao("Mercado").mes(1).ano(2020)
+				.valor(BigDecimal.TEN).tipo(TipoLancamento.DESPESA).usuario(usuario).build());
+		ZonedDateTime dataCadastro = lancamento.getDataCadastro();
+		String json = linha("Feira", 1, "DESPESA", "12.00").replace("}", ",\"status\":\"PENDENTE\"}");
+
+		mockMvc.perform(MockMvcRequestBuilders.put(URI.concat("/{id}"), lancamento.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer()).contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.IF_MATCH, "\"3\"").content(json))
+				.andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+
+		mockMvc.perform(MockMvcRequestBuilders.put(URI.concat("/{id}"), lancamento.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer()).contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.IF_MATCH, "\"0\"").content(json))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1\""))
+				.andExpect(MockMvcResultMatchers.jsonPath("descricao").value("Feira"));
+
+		entityManager.flush();
+		entityManager.clear();
+		Assertions.assertThat(lancamentoRepository.findById(lancamento.getId()).get().getDataCadastro().toLocalDate())
+				.isEqualTo(dataCadastro.toLocalDate());
+	}
+
+	@Test
+	public void deveAtualizarStatusDeVariosLancamentosPelosIds() throws Exception {
+		List<Long> ids = IntStream.rangeClosed(1, 3)
+				.mapToObj(i -> lancamentoService.salvar(Lancamento.builder().descricao("Parcela " + i).mes(1)
+						.ano(2020).valor(BigDecimal.TEN).tipo(TipoLancamento.DESPESA).usuario(usuario).build()).getId())
+				.collect(Collectors.toList());
+		String json = "{\"status\":\"EFETIVADO\",\"ids\":[" + ids.get(0) + "," + ids.get(1) + "]}";
+
+		mockMvc.perform(MockMvcRequestBuilders.put(URI.concat("/atualizar-status")).header(HttpHeaders.AUTHORIZATION, bearer())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(json)).andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("atualizados").value(2));
+
+		Assertions.assertThat(lancamentoRepository.findAllById(ids)).extracting(Lancamento::getStatus).containsOnly(
+				StatusLancamento.EFETIVADO, StatusLancamento.PENDENTE);
+		Assertions.assertThat(lancamentoRepository.findById(ids.get(2)).get().getStatus())
+				.isEqualTo(StatusLancamento.PENDENTE);
+		Assertions.assertThat(lancamentoRepository.findById(ids.get(0)).get().getVersao()).isEqualTo(1L);
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId(), List.of(StatusLancamento.EFETIVADO), null, null))
+				.isEqualByComparingTo("-20");
+		Assertions.assertThat(saldoService.reconciliar(usuario.getId())).isEmpty();
+	}
+
+	@Test
+	public void deveRetornarBadRequestAoAtualizarStatusEmLoteSemStatusValido() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.put(URI.concat("/atualizar-status")).header(HttpHeaders.AUTHORIZATION, bearer())
+				.contentType(MediaType.APPLICATION_JSON)
+				.content("{\"status\":\"PAGO\",\"ids\":[1]}"))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+
+	@Test
+	public void deveIncluirOcorrenciasProjetadasNaBuscaDoMes() throws Exception {
+		YearMonth hoje = YearMonth.now();
+		String recorrencia = String.format(
+				"{\"descricao\":\"Aluguel\",\"valor\":900,\"tipo\":\"DESPESA\",\"frequencia\":\"MENSAL\","
+						+ "\"ano\":%d,\"mes\":%d,\"quantidade\":24,\"usuario\":%d}",
+				hoje.getYear(), hoje.getMonthValue(), usuario.getId());
+		mockMvc.perform(MockMvcRequestBuilders.post("/api/recorrencias").header(HttpHeaders.AUTHORIZATION, bearer())
+				.contentType(MediaType.APPLICATION_JSON).content(recorrencia)).andExpect(MockMvcResultMatchers.status().isCreated())
+				.andExpect(MockMvcResultMatchers.jsonPath("ocorrenciasGeradas").value(4));
+
+		YearMonth futuro = hoje.plusMonths(10);
+		var request = MockMvcRequestBuilders.get(URI).header(HttpHeaders.AUTHORIZATION, bearer())
+				.param("ano", String.valueOf(futuro.getYear())).param("mes", String.valueOf(futuro.getMonthValue()));
+
+		mockMvc.perform(request).andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(0));
+		mockMvc.perform(request.param("projetar", "true")).andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(1))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].id").isEmpty())
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].parcela").value(11))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].status").value("PENDENTE"));
+	}
+
+	@Test
+	public void deveRetornarBadRequestAoExportarEmFormatoDesconhecido() throws Exception {
+		MvcResult exportacao = mockMvc.perform(MockMvcRequestBuilders.get(URI.concat("/exportar"))
+				.header(HttpHeaders.AUTHORIZATION, bearer()).param("formato", "PDF")).andReturn();
+
+		mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(exportacao))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest())
+				.andExpect(MockMvcResultMatchers.content().string("Informe o formato CSV ou XLSX."));
+	}
+
+	@Test
+	public void deveExportarEmCsvDeFormaAssincrona() throws Exception {
+		MvcResult exportacao = mockMvc
+				.perform(MockMvcRequestBuilders.get(URI.concat("/exportar")).header(HttpHeaders.AUTHORIZATION, bearer()))
+				.andExpect(MockMvcResultMatchers.request().asyncStarted()).andReturn();
+
+		mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(exportacao))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.content().contentType("text/csv"))
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CONTENT_DISPOSITION,
+						Matchers.containsString("lancamentos.csv")));
+	}
+
+	@Test
+	public void deveTratarDadosDeOutroUsuarioComoInexistentes() throws Exception {
+		var outro = usuarioRepository.save(Usuario.builder().nome("Outro").email("outro@email.com").build());
+		Lancamento alheio = lancamentoService.salvar(Lancamento.builder().descricao("Mercado").mes(1).ano(2020)
+				.valor(BigDecimal.TEN).tipo(TipoLancamento.DESPESA).usuario(outro).build());
+		String json = linha("Feira", 1, "DESPESA", "12.00").replace("}", ",\"status\":\"PENDENTE\"}");
+
+		mockMvc.perform(MockMvcRequestBuilders.get(URI.concat("/{id}"), alheio.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer())).andExpect(MockMvcResultMatchers.status().isNotFound());
+		mockMvc.perform(MockMvcRequestBuilders.put(URI.concat("/{id}"), alheio.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer()).contentType(MediaType.APPLICATION_JSON).content(json))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest());
+		mockMvc.perform(atualizarStatus(alheio.getId(), "EFETIVADO", "*"))
+				.andExpect(MockMvcResultMatchers.status().isBadRequest());
+		mockMvc.perform(MockMvcRequestBuilders.put(URI.concat("/atualizar-status"))
+				.header(HttpHeaders.AUTHORIZATION, bearer()).contentType(MediaType.APPLICATION_JSON)
+				.content("{\"status\":\"EFETIVADO\",\"ids\":[" + alheio.getId() + "]}"))
+				.andExpect(MockMvcResultMatchers.jsonPath("atualizados").value(0));
+		mockMvc.perform(MockMvcRequestBuilders.delete(URI.concat("/{id}"), alheio.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer())).andExpect(MockMvcResultMatchers.status().isBadRequest());
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/usuarios/{id}/saldo", outro.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer())).andExpect(MockMvcResultMatchers.status().isNotFound());
+
+		entityManager.flush();
+		entityManager.clear();
+		Lancamento intacto = lancamentoRepository.findById(alheio.getId()).get();
+		Assertions.assertThat(intacto.getDescricao()).isEqualTo("Mercado");
+		Assertions.assertThat(intacto.getStatus()).isEqualTo(StatusLancamento.PENDENTE);
+
+		String resposta = mockMvc.perform(MockMvcRequestBuilders.post("/api/recorrencias")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.gerar(outro))
+				.contentType(MediaType.APPLICATION_JSON).content("{\"descricao\":\"Aluguel\",\"valor\":900,"
+						+ "\"tipo\":\"DESPESA\",\"frequencia\":\"MENSAL\",\"ano\":2020,\"mes\":1,\"quantidade\":2}"))
+				.andExpect(MockMvcResultMatchers.status().isCreated())
+				.andExpect(MockMvcResultMatchers.jsonPath("usuario").value(outro.getId())).andReturn().getResponse()
+				.getContentAsString();
+		Object recorrencia = JsonPath.read(resposta, "$.id");
+		mockMvc.perform(MockMvcRequestBuilders.get("/api/recorrencias/{id}", recorrencia)
+				.header(HttpHeaders.AUTHORIZATION, bearer())).andExpect(MockMvcResultMatchers.status().isNotFound());
+		mockMvc.perform(MockMvcRequestBuilders.delete("/api/recorrencias/{id}", recorrencia)
+				.header(HttpHeaders.AUTHORIZATION, bearer())).andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+
+	private MockHttpServletRequestBuilder atualizarStatus(Long id, String status, String ifMatch) {
+		return MockMvcRequestBuilders.put(URI.concat("/{id}/atualizar-status"), id)
+				.header(HttpHeaders.AUTHORIZATION, bearer()).contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.IF_MATCH, ifMatch).content("{\"status\":\"" + status + "\"}");
+	}
+
+	private long comandosDaBusca(int mes, int linhasEsperadas) throws Exception {
+		entityManager.flush();
+		entityManager.clear();
+		Statistics estatisticas = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		long antes = estatisticas.getPrepareStatementCount();
+
+		var request = MockMvcRequestBuilders.get(URI).header(HttpHeaders.AUTHORIZATION, bearer())
+				.param("ano", "2020").param("mes", String.valueOf(mes));
+
+		mockMvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.length()").value(linhasEsperadas))
+				.andExpect(MockMvcResultMatchers.jsonPath("$[0].usuario").value(usuario.getId()));
+
+		return estatisticas.getPrepareStatementCount() - antes;
+	}
+
+	private double buscasNoRepositorio() {
+		Timer timer = registry.find(MetricasAspect.METRICA_REPOSITORIO).tag("repositorio", "LancamentoRepository")
+				.tag("metodo", "buscarDto").timer();
+		return timer == null ? 0 : timer.count();
+	}
+
+	private MockHttpServletRequestBuilder saldo() {
+		return MockMvcRequestBuilders.get("/api/usuarios/{id}/saldo", usuario.getId()).header(HttpHeaders.AUTHORIZATION,
+				bearer());
+	}
+
+	private String bearer() {
+		return "Bearer " + tokenService.gerar(usuario);
+	}
+
+	private String linha(String descricao, int mes, String tipo, String valor) {
+		return String.format("{\"descricao\":\"%s\",\"mes\":%d,\"ano\":2020,\"tipo\":\"%s\",\"valor\":%s,\"usuario\":%d}",
+				descricao, mes, tipo, valor, usuario.getId());
+	}
+}
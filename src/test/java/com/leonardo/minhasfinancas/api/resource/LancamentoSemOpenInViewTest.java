@@ -0,0 +1,80 @@
+package com.leonardo.minhasfinancas.api.resource;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+import com.leonardo.minhasfinancas.services.LancamentoService;
+import com.leonardo.minhasfinancas.services.TokenService;
+
+/**
+ * Mesmas configurações de JPA do perfil performance, sem transação no teste:
+ * as respostas são montadas depois que a sessão do Hibernate já foi fechada.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = { "spring.jpa.open-in-view=false",
+		"spring.jpa.properties.hibernate.order_inserts=true", "spring.jpa.properties.hibernate.order_updates=true",
+		"spring.jpa.properties.hibernate.jdbc.batch_versioned_data=true" })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class LancamentoSemOpenInViewTest {
+
+	static final String URI = "/api/lancamentos";
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	LancamentoService lancamentoService;
+
+	@Autowired
+	TokenService tokenService;
+
+	private Usuario usuario;
+
+	@BeforeEach
+	public void setUp() {
+		usuario = usuarioRepository
+				.save(Usuario.builder().nome("Leonardo").email(UUID.randomUUID() + "@email.com").build());
+	}
+
+	@Test
+	public void deveAtualizarEConsultarSemOpenInView() throws Exception {
+		Lancamento lancamento = lancamentoService.salvar(Lancamento.builder().descricao("Mercado").mes(1).ano(2020)
+				.valor(BigDecimal.TEN).tipo(TipoLancamento.DESPESA).usuario(usuario).build());
+
+		mockMvc.perform(MockMvcRequestBuilders.put(URI.concat("/{id}"), lancamento.getId())
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.gerar(usuario))
+				.header(HttpHeaders.IF_MATCH, "\"0\"").contentType(MediaType.APPLICATION_JSON)
+				.content(String.format("{\"descricao\":\"Feira\",\"mes\":1,\"ano\":2020,\"tipo\":\"DESPESA\","
+						+ "\"valor\":12,\"status\":\"PENDENTE\",\"usuario\":%d}", usuario.getId())))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1\""))
+				.andExpect(MockMvcResultMatchers.jsonPath("usuario").value(usuario.getId()));
+
+		mockMvc.perform(MockMvcRequestBuilders.get(URI.concat("/{id}"), lancamento.getId())
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + tokenService.gerar(usuario)))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("descricao").value("Feira"));
+	}
+}
@@ -0,0 +1,57 @@
+package com.leonardo.minhasfinancas.api.resource;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.web.server.LocalManagementPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@ActiveProfiles("test")
+public class SaudeResourceTest {
+
+	@Autowired
+	TestRestTemplate restTemplate;
+
+	@LocalServerPort
+	int porta;
+
+	@LocalManagementPort
+	int portaGerencia;
+
+	@Test
+	public void deveExporSoOStatusDaSaudeNaPortaPublica() {
+		ResponseEntity<String> saude = restTemplate.getForEntity(url(porta, "health"), String.class);
+		Assertions.assertThat(saude.getStatusCode()).isEqualTo(HttpStatus.OK);
+		Assertions.assertThat(saude.getBody()).isEqualTo("{\"status\":\"UP\"}");
+
+		for (String endpoint : new String[] { "caches", "metrics", "prometheus", "projecoes" }) {
+			Assertions.assertThat(restTemplate.getForEntity(url(porta, endpoint), String.class).getStatusCode())
+					.as(endpoint).isEqualTo(HttpStatus.NOT_FOUND);
+		}
+		Assertions.assertThat(restTemplate.exchange(url(porta, "caches"), HttpMethod.DELETE, null, String.class)
+				.getStatusCode()).isNotEqualTo(HttpStatus.NO_CONTENT);
+	}
+
+	@Test
+	public void deveExporOActuatorNaPortaDeGerencia() {
+		for (String endpoint : new String[] { "health", "caches", "metrics", "prometheus", "projecoes" }) {
+			Assertions.assertThat(restTemplate.getForEntity(url(portaGerencia, endpoint), String.class)
+					.getStatusCode()).as(endpoint).isEqualTo(HttpStatus.OK);
+		}
+	}
+
+	private String url(int porta, String endpoint) {
+		return "http://localhost:" + porta + "/actuator/" + endpoint;
+	}
+}
@@ -0,0 +1,36 @@
+package com.leonardo.minhasfinancas.config;
+
+import java.util.concurrent.ExecutorService;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+public class ThreadsVirtuaisConfigTest {
+
+	private static final boolean SUPORTA_THREADS_VIRTUAIS = Runtime.version().feature() >= 21;
+
+	@Test
+	public void deveExecutarTarefasEmThreadsVirtuais() throws Exception {
+		Assumptions.assumeTrue(SUPORTA_THREADS_VIRTUAIS, "Requer Java 21");
+
+		ExecutorService executor = ThreadsVirtuaisConfig.criarExecutor();
+		try {
+			Thread thread = executor.submit(Thread::currentThread).get();
+			Assertions.assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void deveFalharComMensagemClaraAntesDoJava21() {
+		Assumptions.assumeFalse(SUPORTA_THREADS_VIRTUAIS, "Requer Java anterior ao 21");
+
+		Throwable erro = Assertions.catchThrowable(ThreadsVirtuaisConfig::criarExecutor);
+
+		Assertions.assertThat(erro).isInstanceOf(IllegalStateException.class)
+				.hasMessageStartingWith("Threads virtuais exigem Java 21");
+	}
+
+}
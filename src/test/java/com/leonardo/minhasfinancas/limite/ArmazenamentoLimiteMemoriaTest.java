@@ -0,0 +1,85 @@
+package com.leonardo.minhasfinancas.limite;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ArmazenamentoLimiteMemoriaTest {
+
+	private static final long SEGUNDO = TimeUnit.SECONDS.toNanos(1);
+
+	private final AtomicLong relogio = new AtomicLong(SEGUNDO);
+	private final ArmazenamentoLimiteMemoria armazenamento = new ArmazenamentoLimiteMemoria(relogio::get);
+
+	@Test
+	public void deveAceitarARajadaEDepoisRepor() {
+		RegraLimite regra = new RegraLimite(3, 1);
+
+		for (int i = 0; i < 3; i++) {
+			Assertions.assertThat(armazenamento.consumir("u1", regra)).isZero();
+		}
+		Assertions.assertThat(armazenamento.consumir("u1", regra)).isEqualTo(SEGUNDO);
+		Assertions.assertThat(armazenamento.consumir("u2", regra)).isZero();
+
+		relogio.addAndGet(SEGUNDO);
+		Assertions.assertThat(armazenamento.consumir("u1", regra)).isZero();
+		Assertions.assertThat(armazenamento.consumir("u1", regra)).isPositive();
+	}
+
+	@Test
+	public void deveLimitarAsRequisicoesEmAndamento() {
+		Assertions.assertThat(armazenamento.entrar("u1", 2)).isTrue();
+		Assertions.assertThat(armazenamento.entrar("u1", 2)).isTrue();
+		Assertions.assertThat(armazenamento.entrar("u1", 2)).isFalse();
+
+		armazenamento.sair("u1");
+		Assertions.assertThat(armazenamento.entrar("u1", 2)).isTrue();
+	}
+
+	@Test
+	public void deveDescartarBaldesCheios() {
+		RegraLimite regra = new RegraLimite(5, 10);
+		armazenamento.consumir("u1", regra);
+		armazenamento.consumir("u2", regra);
+
+		relogio.addAndGet(SEGUNDO);
+		armazenamento.consumir("u2", regra);
+		armazenamento.limpar();
+
+		Assertions.assertThat(armazenamento.quantidadeChaves()).isEqualTo(1);
+	}
+
+	@Test
+	public void deveConcederApenasACapacidadeComThreadsConcorrentes() throws Exception {
+		RegraLimite regra = new RegraLimite(1000, 1);
+		AtomicInteger concedidas = new AtomicInteger();
+		CountDownLatch largada = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+			for (int t = 0; t < 4; t++) {
+				executor.submit(() -> {
+					largada.await();
+					for (int i = 0; i < 500; i++) {
+						if (armazenamento.consumir("u1", regra) == 0) {
+							concedidas.incrementAndGet();
+						}
+					}
+					return null;
+				});
+			}
+			largada.countDown();
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(10, TimeUnit.SECONDS);
+		}
+
+		Assertions.assertThat(concedidas.get()).isEqualTo(1000);
+	}
+}
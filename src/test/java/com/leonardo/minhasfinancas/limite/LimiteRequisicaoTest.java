@@ -0,0 +1,110 @@
+package com.leonardo.minhasfinancas.limite;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+import com.leonardo.minhasfinancas.services.TokenService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = { "minhasfinancas.limite.habilitado=true",
+		"minhasfinancas.limite.leitura.capacidade=2", "minhasfinancas.limite.leitura.por-segundo=0.01",
+		"minhasfinancas.limite.simultaneas=1" })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class LimiteRequisicaoTest {
+
+	static final String URI = "/api/lancamentos";
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	TokenService tokenService;
+
+	@Autowired
+	MeterRegistry registry;
+
+	private Usuario usuario;
+	private Usuario outro;
+
+	@BeforeEach
+	public void setUp() {
+		usuario = usuarioRepository.save(Usuario.builder().nome("Leonardo").email("limite@email.com").build());
+		outro = usuarioRepository.save(Usuario.builder().nome("Outro").email("limite-outro@email.com").build());
+	}
+
+	@Test
+	public void deveRetornarTooManyRequestsAcimaDoLimiteDoUsuario() throws Exception {
+		double bloqueadas = registry.get(LimiteRequisicaoFilter.METRICA_REQUISICOES).tag("classe", "leitura")
+				.tag("resultado", "taxa").counter().count();
+
+		for (int i = 0; i < 2; i++) {
+			mockMvc.perform(buscar(usuario)).andExpect(MockMvcResultMatchers.status().isOk());
+		}
+		mockMvc.perform(buscar(usuario)).andExpect(MockMvcResultMatchers.status().isTooManyRequests())
+				.andExpect(MockMvcResultMatchers.header().exists(HttpHeaders.RETRY_AFTER));
+
+		// Cada usuário tem o próprio balde.
+		mockMvc.perform(buscar(outro)).andExpect(MockMvcResultMatchers.status().isOk());
+
+		Assertions.assertThat(registry.get(LimiteRequisicaoFilter.METRICA_REQUISICOES).tag("classe", "leitura")
+				.tag("resultado", "taxa").counter().count()).isEqualTo(bloqueadas + 1);
+	}
+
+	@Test
+	public void deveOcuparAVagaAteARespostaAssincronaTerminar() throws Exception {
+		String bearer = "Bearer " + tokenService.gerar(outro);
+		MvcResult exportacao = mockMvc.perform(MockMvcRequestBuilders.get(URI.concat("/exportar"))
+				.header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(MockMvcResultMatchers.request().asyncStarted())
+				.andReturn();
+
+		// O controller já devolveu, mas a exportação ainda ocupa a única vaga do cliente.
+		mockMvc.perform(excluir(bearer)).andExpect(MockMvcResultMatchers.status().isTooManyRequests());
+
+		mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(exportacao))
+				.andExpect(MockMvcResultMatchers.status().isOk());
+		// Como faz o container ao terminar a resposta assíncrona.
+		exportacao.getRequest().getAsyncContext().complete();
+
+		mockMvc.perform(excluir(bearer)).andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+
+	@Test
+	public void naoDeveLimitarForaDaApi() throws Exception {
+		for (int i = 0; i < 5; i++) {
+			mockMvc.perform(MockMvcRequestBuilders.get("/actuator/health"))
+					.andExpect(MockMvcResultMatchers.status().isOk());
+		}
+	}
+
+	private MockHttpServletRequestBuilder excluir(String bearer) {
+		return MockMvcRequestBuilders.delete(URI.concat("/{id}"), -1L).header(HttpHeaders.AUTHORIZATION, bearer);
+	}
+
+	private MockHttpServletRequestBuilder buscar(Usuario usuario) {
+		return MockMvcRequestBuilders.get(URI).header(HttpHeaders.AUTHORIZATION,
+				"Bearer " + tokenService.gerar(usuario));
+	}
+}
@@ -0,0 +1,125 @@
+package com.leonardo.minhasfinancas.metricas;
+
+import java.math.BigDecimal;
+
+import javax.persistence.EntityManager;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.LancamentoRepository;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+import com.leonardo.minhasfinancas.services.TokenService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+public class MetricasTest {
+
+	static final String URI_LANCAMENTO = "/api/lancamentos/{id}";
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	MeterRegistry registry;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	LancamentoRepository lancamentoRepository;
+
+	@Autowired
+	EntityManager entityManager;
+
+	@Autowired
+	TokenService tokenService;
+
+	@Autowired
+	PrometheusMeterRegistry prometheus;
+
+	private Usuario usuario;
+	private Lancamento lancamento;
+
+	@BeforeEach
+	public void setUp() {
+		usuario = usuarioRepository.save(Usuario.builder().nome("Leonardo").email("metricas@email.com").build());
+		lancamento = lancamentoRepository.save(Lancamento.builder().descricao("Mercado").mes(1).ano(2020)
+				.valor(BigDecimal.TEN).tipo(TipoLancamento.DESPESA).status(StatusLancamento.PENDENTE)
+				.usuario(usuario).build());
+
+		// Força a requisição a ir ao banco em vez do contexto de persistência do teste.
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	public void deveExporMetricasNoFormatoPrometheus() throws Exception {
+		mockMvc.perform(MockMvcRequestBuilders.get(URI_LANCAMENTO, lancamento.getId()).header(HttpHeaders.AUTHORIZATION,
+				"Bearer " + tokenService.gerar(usuario)))
+				.andExpect(MockMvcResultMatchers.status().isOk());
+
+		// O /actuator/prometheus fica na porta de gerência (ver SaudeResourceTest); aqui basta o conteúdo.
+		String conteudo = prometheus.scrape();
+
+		Assertions.assertThat(conteudo)
+				.contains("http_server_requests_seconds{exception=\"None\",method=\"GET\",outcome=\"SUCCESS\","
+						+ "status=\"200\",uri=\"/api/lancamentos/{id}\",quantile=\"0.99\",}")
+				.contains("minhasfinancas_servico_seconds_count{exception=\"none\",metodo=\"buscarPorId\","
+						+ "servico=\"LancamentoSeriviceImpl\",}")
+				.contains("minhasfinancas_repositorio_seconds_count{exception=\"none\",metodo=\"findById\","
+						+ "repositorio=\"LancamentoRepository\",}")
+				.contains("minhasfinancas_requisicao_comandos_count{method=\"GET\","
+						+ "uri=\"/api/lancamentos/{id}\",}")
+				.contains("hikaricp_connections_active").contains("hibernate_statements_total");
+		// Os timers por método só têm as faixas de SLA, sem percentis calculados na aplicação.
+		Assertions.assertThat(conteudo)
+				.contains("minhasfinancas_servico_seconds_bucket{exception=\"none\",metodo=\"buscarPorId\","
+						+ "servico=\"LancamentoSeriviceImpl\",le=\"0.2\",}")
+				.doesNotContain("minhasfinancas_servico_seconds{").doesNotContain("minhasfinancas_repositorio_seconds{");
+	}
+
+	@Test
+	public void deveContarComandosEEntidadesPorRequisicao() throws Exception {
+		DistributionSummary comandos = summary(MetricasRequisicaoFilter.METRICA_COMANDOS);
+		DistributionSummary entidades = summary(MetricasRequisicaoFilter.METRICA_ENTIDADES);
+		double comandosAntes = comandos.totalAmount();
+		double entidadesAntes = entidades.totalAmount();
+
+		mockMvc.perform(MockMvcRequestBuilders.get(URI_LANCAMENTO, lancamento.getId()).header(HttpHeaders.AUTHORIZATION,
+				"Bearer " + tokenService.gerar(usuario)))
+				.andExpect(MockMvcResultMatchers.status().isOk());
+
+		Assertions.assertThat(comandos.totalAmount() - comandosAntes).isGreaterThanOrEqualTo(1);
+		// Só o lançamento: o DTO usa apenas o id do usuário, que não é carregado.
+		Assertions.assertThat(entidades.totalAmount() - entidadesAntes).isEqualTo(1);
+	}
+
+	private DistributionSummary summary(String metrica) {
+		return DistributionSummary.builder(metrica).tag("uri", URI_LANCAMENTO).tag("method", "GET").register(registry);
+	}
+
+}
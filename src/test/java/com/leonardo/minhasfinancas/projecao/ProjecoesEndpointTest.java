@@ -0,0 +1,34 @@
+package com.leonardo.minhasfinancas.projecao;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.repository.PosicaoProjecaoRepository;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ProjecoesEndpointTest {
+
+	@Autowired
+	ProjecoesEndpoint projecoesEndpoint;
+
+	@Autowired
+	PosicaoProjecaoRepository posicaoProjecaoRepository;
+
+	@Test
+	public void naoDeveCriarPosicaoParaProjecaoNaoRegistrada() {
+		var resposta = projecoesEndpoint.reprocessar("inexistente", 0);
+
+		Assertions.assertThat(resposta.getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+		Assertions.assertThat(posicaoProjecaoRepository.existsById("inexistente")).isFalse();
+	}
+}
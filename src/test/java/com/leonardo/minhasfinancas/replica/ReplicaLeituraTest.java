@@ -0,0 +1,152 @@
+package com.leonardo.minhasfinancas.replica;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+import com.leonardo.minhasfinancas.services.LancamentoService;
+import com.leonardo.minhasfinancas.services.TokenService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Primário e réplica são dois H2 independentes, sem replicação entre eles: o
+ * que cada leitura enxerga mostra para qual banco ela foi.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest(properties = { "minhasfinancas.replicas.habilitado=true", "spring.jpa.open-in-view=false",
+		"minhasfinancas.replicas.urls=" + ReplicaLeituraTest.URL_REPLICA,
+		"minhasfinancas.replicas.janela-leitura=300ms" })
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class ReplicaLeituraTest {
+
+	static final String URL_REPLICA = "jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1;INIT=CREATE SCHEMA IF NOT EXISTS financas";
+
+	@Autowired
+	LancamentoService lancamentoService;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	MeterRegistry registry;
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	TokenService tokenService;
+
+	private JdbcTemplate replica;
+	private Usuario usuario;
+
+	@BeforeEach
+	public void setUp() {
+		Flyway.configure().dataSource(URL_REPLICA, "sa", "sa").schemas("financas")
+				.locations("classpath:db/migration/common", "classpath:db/migration/h2").load().migrate();
+		replica = new JdbcTemplate(new DriverManagerDataSource(URL_REPLICA, "sa", "sa"));
+
+		usuario = usuarioRepository
+				.save(Usuario.builder().nome("Leonardo").email(UUID.randomUUID() + "@email.com").build());
+		replica.update("insert into financas.usuario (id, nome, email) values (?, ?, ?)", usuario.getId(),
+				usuario.getNome(), usuario.getEmail());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		UsuarioRequisicao.limpar();
+	}
+
+	@Test
+	public void deveLerDaReplicaNasTransacoesSomenteLeitura() {
+		replica.update("insert into financas.lancamento (descricao, mes, ano, valor, tipo, status, id_usuario) "
+				+ "values ('So na replica', 1, 2020, 10, 'DESPESA', 'PENDENTE', ?)", usuario.getId());
+		double leituras = contador("replica", "leitura");
+
+		Assertions.assertThat(lancamentoService.buscarDto(filtro())).extracting(LancamentoDto::getDescricao)
+				.containsExactly("So na replica");
+		Assertions.assertThat(contador("replica", "leitura")).isGreaterThan(leituras);
+	}
+
+	@Test
+	public void deveLerDoPrimarioDuranteAJanelaAposEscrever() throws Exception {
+		UsuarioRequisicao.definir(usuario.getId());
+		lancamentoService.salvar(Lancamento.builder().descricao("No primario").mes(1).ano(2020)
+				.valor(BigDecimal.TEN).tipo(TipoLancamento.RECEITA).usuario(usuario).build());
+
+		Assertions.assertThat(lancamentoService.buscarDto(filtro())).extracting(LancamentoDto::getDescricao)
+				.containsExactly("No primario");
+
+		// Outro usuário não escreveu e continua lendo da réplica.
+		UsuarioRequisicao.definir(usuario.getId() + 1000);
+		Assertions.assertThat(lancamentoService.buscarDto(filtro())).isEmpty();
+
+		UsuarioRequisicao.definir(usuario.getId());
+		Thread.sleep(400);
+		Assertions.assertThat(lancamentoService.buscarDto(filtro())).isEmpty();
+	}
+
+	@Test
+	public void deveLerDaReplicaSemUsuarioNaRequisicaoMesmoAposEscrita() {
+		lancamentoService.salvar(Lancamento.builder().descricao("No primario").mes(1).ano(2020)
+				.valor(BigDecimal.TEN).tipo(TipoLancamento.RECEITA).usuario(usuario).build());
+
+		Assertions.assertThat(lancamentoService.buscarDto(filtro())).isEmpty();
+	}
+
+	@Test
+	public void deveAlterarEExcluirPelaApiLendoOLancamentoNoPrimario() throws Exception {
+		// Gravado sem usuário na requisição: a janela não o protege e só o primário tem o lançamento.
+		Lancamento lancamento = lancamentoService.salvar(Lancamento.builder().descricao("No primario").mes(1)
+				.ano(2020).valor(BigDecimal.TEN).tipo(TipoLancamento.RECEITA).usuario(usuario).build());
+		String bearer = "Bearer " + tokenService.gerar(usuario);
+		String json = "{\"descricao\":\"Alterado\",\"mes\":1,\"ano\":2020,\"tipo\":\"RECEITA\",\"valor\":20,"
+				+ "\"status\":\"PENDENTE\"}";
+
+		mockMvc.perform(MockMvcRequestBuilders.put("/api/lancamentos/{id}", lancamento.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer).header(HttpHeaders.IF_MATCH, "\"0\"")
+				.contentType(MediaType.APPLICATION_JSON).content(json))
+				.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1\""))
+				.andExpect(MockMvcResultMatchers.jsonPath("descricao").value("Alterado"));
+
+		mockMvc.perform(MockMvcRequestBuilders.delete("/api/lancamentos/{id}", lancamento.getId())
+				.header(HttpHeaders.AUTHORIZATION, bearer)).andExpect(MockMvcResultMatchers.status().isNoContent());
+
+		UsuarioRequisicao.definir(usuario.getId());
+		Assertions.assertThat(lancamentoService.buscarDto(filtro())).isEmpty();
+	}
+
+	private Lancamento filtro() {
+		return Lancamento.builder().usuario(usuario).build();
+	}
+
+	private double contador(String destino, String transacao) {
+		return registry.get(DataSourceRoteado.METRICA_CONEXOES).tag("destino", destino).tag("transacao", transacao)
+				.counter().count();
+	}
+}
@@ -0,0 +1,63 @@
+package com.leonardo.minhasfinancas.repository;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.leonardo.minhasfinancas.model.Usuario;
+
+@ExtendWith(SpringExtension.class)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@ActiveProfiles("test")
+public class EsquemaBancoTest {
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Test
+	public void deveUsarIndiceDeUsuarioAnoEMesNaBusca() {
+		String plano = explicar("select id from financas.lancamento where id_usuario = 1 and ano = 2020 and mes = 1");
+
+		Assertions.assertThat(plano).containsIgnoringCase("idx_lancamento_usuario_ano_mes");
+	}
+
+	@Test
+	public void deveUsarIndiceUnicoNaBuscaPorEmail() {
+		String plano = explicar("select id from financas.usuario where email = 'leonardo@email.com'");
+
+		Assertions.assertThat(plano).containsIgnoringCase("uk_usuario_email");
+	}
+
+	@Test
+	public void deveUsarIndiceDeTermosNaBuscaPorPrefixo() {
+		String plano = explicar(
+				"select id_lancamento from financas.lancamento_termo where id_usuario = 1 and termo like 'con%'");
+
+		Assertions.assertThat(plano).containsIgnoringCase("idx_lancamento_termo_usuario_termo");
+	}
+
+	@Test
+	public void naoDevePermitirEmailDuplicado() {
+		usuarioRepository.saveAndFlush(Usuario.builder().nome("Leonardo").email("duplicado@email.com").build());
+
+		Assertions.assertThatThrownBy(() -> usuarioRepository
+				.saveAndFlush(Usuario.builder().nome("Juliana").email("duplicado@email.com").build()))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	private String explicar(String sql) {
+		return jdbcTemplate.queryForObject("explain " + sql, String.class);
+	}
+}
@@ -1,8 +1,13 @@
 package com.leonardo.minhasfinancas.repository;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,12 +15,17 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import com.leonardo.minhasfinancas.enums.StatusLancamento;
 import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.CursorLancamento;
 import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
 
 @ExtendWith(SpringExtension.class)
 @DataJpaTest
@@ -29,6 +39,13 @@ public class LancamentoRepositoryTest {
 	@Autowired
 	TestEntityManager entityManager;
 
+	private Usuario usuario;
+
+	@BeforeEach
+	public void setUp() {
+		usuario = entityManager.persist(Usuario.builder().nome("Juliana").email("juliana@email.com").build());
+	}
+
 	@Test
 	public void deveSalvarUmLancamento() {
 		Lancamento lancamento = criarLancamentoDespesaPendente();
@@ -76,6 +93,63 @@ public class LancamentoRepositoryTest {
 		Assertions.assertThat(result.isPresent()).isTrue();
 	}
 
+	@Test
+	public void devePercorrerTodosOsLancamentosDoUsuarioPorCursor() {
+		var usuarioCursor = entityManager
+				.persist(Usuario.builder().nome("Leonardo").email("cursor@email.com").build());
+		List<Long> esperados = new ArrayList<>();
+		for (int ano = 2019; ano <= 2020; ano++) {
+			for (int mes = 1; mes <= 3; mes++) {
+				for (int i = 0; i < 2; i++) {
+					var lancamento = criarLancamentoDespesaPendente();
+					lancamento.setAno(ano);
+					lancamento.setMes(mes);
+					lancamento.setUsuario(usuarioCursor);
+					esperados.add(entityManager.persist(lancamento).getId());
+				}
+			}
+		}
+		entityManager.persist(criarLancamentoDespesaPendente());
+
+		var filtro = Lancamento.builder().usuario(usuarioCursor).build();
+
+		Assertions.assertThat(percorrer(filtro, Sort.Direction.ASC)).containsExactlyElementsOf(esperados);
+
+		var decrescente = new ArrayList<>(esperados);
+		Collections.reverse(decrescente);
+		Assertions.assertThat(percorrer(filtro, Sort.Direction.DESC)).containsExactlyElementsOf(decrescente);
+	}
+
+	@Test
+	public void deveBuscarFatiaSemContarOTotal() {
+		for (int i = 0; i < 3; i++) {
+			criarEPersistirLancamento();
+		}
+
+		Slice<Lancamento> primeira = lancamentoRepository.buscar(new Lancamento(), PageRequest.of(0, 2, Sort.by("id")));
+		Slice<Lancamento> segunda = lancamentoRepository.buscar(new Lancamento(), primeira.nextPageable());
+
+		Assertions.assertThat(primeira.getContent()).hasSize(2);
+		Assertions.assertThat(primeira.hasNext()).isTrue();
+		Assertions.assertThat(segunda.getContent()).hasSize(1);
+		Assertions.assertThat(segunda.hasNext()).isFalse();
+	}
+
+	private List<Long> percorrer(Lancamento filtro, Sort.Direction direcao) {
+		List<Long> ids = new ArrayList<>();
+		CursorLancamento cursor = null;
+		Slice<Lancamento> pagina;
+		do {
+			pagina = lancamentoRepository.buscar(filtro, cursor, direcao, 5);
+			ids.addAll(pagina.getContent().stream().map(Lancamento::getId).collect(Collectors.toList()));
+			if (pagina.hasNext()) {
+				cursor = CursorLancamento.decodificar(
+						CursorLancamento.de(pagina.getContent().get(pagina.getNumberOfElements() - 1)).codificar());
+			}
+		} while (pagina.hasNext());
+		return ids;
+	}
+
 	private Lancamento criarEPersistirLancamento() {
 		var lancamento = criarLancamentoDespesaPendente();
 		lancamento = entityManager.persist(lancamento);
@@ -84,6 +158,6 @@ public class LancamentoRepositoryTest {
 
 	private Lancamento criarLancamentoDespesaPendente() {
 		return Lancamento.builder().ano(2020).mes(2).descricao("lancamento qualquer").tipo(TipoLancamento.RECEITA)
-				.status(StatusLancamento.PENDENTE).dataCadastro(ZonedDateTime.now()).build();
+				.status(StatusLancamento.PENDENTE).dataCadastro(ZonedDateTime.now()).usuario(usuario).build();
 	}
 }
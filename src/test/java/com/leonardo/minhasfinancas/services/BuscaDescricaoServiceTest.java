@@ -0,0 +1,109 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.math.BigDecimal;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class BuscaDescricaoServiceTest {
+
+	@Autowired
+	LancamentoService lancamentoService;
+
+	@Autowired
+	BuscaDescricaoService buscaDescricaoService;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	private Usuario usuario;
+
+	@BeforeEach
+	public void setUp() {
+		usuario = usuarioRepository.save(Usuario.builder().nome("Leonardo").email("busca@email.com").build());
+	}
+
+	@Test
+	public void deveOrdenarPorRelevanciaPriorizandoTermoExato() {
+		var conta = lancamentoService.salvar(criarLancamento("Conta de luz"));
+		var contabilidade = lancamentoService.salvar(criarLancamento("Contabilidade"));
+		lancamentoService.salvar(criarLancamento("Mercado"));
+
+		var resultado = buscaDescricaoService.buscar(usuario.getId(), "conta", 10);
+
+		Assertions.assertThat(resultado).extracting(Lancamento::getId).containsExactly(conta.getId(),
+				contabilidade.getId());
+	}
+
+	@Test
+	public void deveIgnorarAcentosEMaiusculas() {
+		var salario = lancamentoService.salvar(criarLancamento("SALÁRIO Março"));
+
+		var resultado = buscaDescricaoService.buscar(usuario.getId(), "salario marc", 10);
+
+		Assertions.assertThat(resultado).extracting(Lancamento::getId).containsExactly(salario.getId());
+	}
+
+	@Test
+	public void deveExigirTodosOsTermosDaBusca() {
+		var luzCasa = lancamentoService.salvar(criarLancamento("Conta de luz casa"));
+		lancamentoService.salvar(criarLancamento("Conta de agua casa"));
+		lancamentoService.salvar(criarLancamento("Luz da praia"));
+
+		var resultado = buscaDescricaoService.buscar(usuario.getId(), "conta luz", 10);
+
+		Assertions.assertThat(resultado).extracting(Lancamento::getId).containsExactly(luzCasa.getId());
+	}
+
+	@Test
+	public void deveRespeitarOLimite() {
+		for (int i = 0; i < 5; i++) {
+			lancamentoService.salvar(criarLancamento("Parcela carro " + i));
+		}
+
+		Assertions.assertThat(buscaDescricaoService.buscar(usuario.getId(), "parcela", 3)).hasSize(3);
+	}
+
+	@Test
+	public void deveReindexarAoAtualizarERemoverAoDeletar() {
+		var lancamento = lancamentoService.salvar(criarLancamento("Aluguel"));
+
+		lancamento.setDescricao("Condominio");
+		lancamentoService.atualizar(lancamento);
+
+		Assertions.assertThat(buscaDescricaoService.buscar(usuario.getId(), "aluguel", 10)).isEmpty();
+		Assertions.assertThat(buscaDescricaoService.buscar(usuario.getId(), "condo", 10)).hasSize(1);
+
+		lancamentoService.deletar(lancamento);
+
+		Assertions.assertThat(buscaDescricaoService.buscar(usuario.getId(), "condo", 10)).isEmpty();
+	}
+
+	@Test
+	public void deveLancarErroQuandoNaoHouverTermoValido() {
+		Assertions.assertThatThrownBy(() -> buscaDescricaoService.buscar(usuario.getId(), " a ", 10))
+				.isInstanceOf(RegraNegocioException.class);
+	}
+
+	private Lancamento criarLancamento(String descricao) {
+		return Lancamento.builder().ano(2020).mes(2).descricao(descricao).tipo(TipoLancamento.DESPESA)
+				.valor(BigDecimal.TEN).usuario(usuario).build();
+	}
+}
@@ -0,0 +1,177 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoEventoLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.EventoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.projecao.ProjecaoLancamento;
+import com.leonardo.minhasfinancas.repository.EventoLancamentoRepository;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+import com.leonardo.minhasfinancas.services.impl.EventoLancamentoServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class EventoLancamentoServiceTest {
+
+	static final String PROJECAO = "teste";
+
+	@Autowired
+	EventoLancamentoService eventoLancamentoService;
+
+	@Autowired
+	LancamentoService lancamentoService;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	EventoLancamentoRepository eventoLancamentoRepository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	MeterRegistry registry;
+
+	private Usuario usuario;
+	private long inicio;
+	private final List<List<EventoLancamento>> lotes = new ArrayList<>();
+	private final ProjecaoLancamento projecao = new ProjecaoLancamento() {
+
+		@Override
+		public String getNome() {
+			return PROJECAO;
+		}
+
+		@Override
+		public void processar(List<EventoLancamento> eventos) {
+			lotes.add(new ArrayList<>(eventos));
+		}
+	};
+
+	@BeforeEach
+	public void setUp() {
+		usuario = usuarioRepository.save(Usuario.builder().nome("Leonardo").email("eventos@email.com").build());
+	}
+
+	@Test
+	public void deveEntregarUmEventoPorAlteracaoNaOrdem() {
+		var lancamento = lancamentoService.salvar(criarLancamento(100));
+		lancamento.setValor(BigDecimal.valueOf(500));
+		var atualizado = lancamentoService.atualizar(lancamento);
+		lancamentoService.atualizarStatus(atualizado, StatusLancamento.EFETIVADO);
+		lancamentoService.deletar(atualizado);
+		posicionarAntesDosEventosDoUsuario();
+
+		Assertions.assertThat(eventoLancamentoService.despachar(projecao, 100)).isEqualTo(4);
+
+		List<EventoLancamento> eventos = lotes.get(0);
+		Assertions.assertThat(eventos).extracting(EventoLancamento::getTipoEvento).containsExactly(
+				TipoEventoLancamento.CRIADO, TipoEventoLancamento.ATUALIZADO, TipoEventoLancamento.STATUS_ALTERADO,
+				TipoEventoLancamento.EXCLUIDO);
+		Assertions.assertThat(eventos).allMatch(e -> e.getIdLancamento().equals(lancamento.getId())
+				&& e.getIdUsuario().equals(usuario.getId()));
+		Assertions.assertThat(eventos.get(1).getValor()).isEqualByComparingTo(BigDecimal.valueOf(500));
+		Assertions.assertThat(eventos.get(2).getStatus()).isEqualTo(StatusLancamento.EFETIVADO);
+		Assertions.assertThat(eventos).extracting(EventoLancamento::getVersao).containsExactly(0L, 1L, 2L, 2L);
+		Assertions.assertThat(eventoLancamentoService.obterAtraso(PROJECAO).getEventos()).isZero();
+	}
+
+	@Test
+	public void deveEntregarEmLotesEReprocessarAPartirDaPosicao() {
+		for (int i = 1; i <= 3; i++) {
+			lancamentoService.salvar(criarLancamento(i));
+		}
+		posicionarAntesDosEventosDoUsuario();
+		Assertions.assertThat(eventoLancamentoService.obterAtraso(PROJECAO).getEventos()).isEqualTo(3);
+
+		Assertions.assertThat(eventoLancamentoService.despachar(projecao, 2)).isEqualTo(2);
+		Assertions.assertThat(eventoLancamentoService.despachar(projecao, 2)).isEqualTo(1);
+		Assertions.assertThat(eventoLancamentoService.despachar(projecao, 2)).isZero();
+		Assertions.assertThat(lotes).extracting(List::size).containsExactly(2, 1);
+
+		eventoLancamentoService.reprocessar(PROJECAO, inicio + 1);
+		Assertions.assertThat(eventoLancamentoService.despachar(projecao, 10)).isEqualTo(2);
+		Assertions.assertThat(lotes.get(2)).extracting(EventoLancamento::getValor)
+				.usingElementComparator(BigDecimal::compareTo)
+				.containsExactly(BigDecimal.valueOf(2), BigDecimal.valueOf(3));
+	}
+
+	@Test
+	public void deveEsperarAntesDePularUmaLacuna() throws Exception {
+		double ignoradas = registry.counter(EventoLancamentoServiceImpl.METRICA_LACUNAS).count();
+		inicio = eventoLancamentoRepository.obterUltimaPosicao();
+		eventoLancamentoService.reprocessar(PROJECAO, inicio);
+		// Como se a transação que pegou o id inicio + 1 ainda não tivesse confirmado.
+		jdbcTemplate.update("insert into financas.evento_lancamento (id, tipo_evento, id_lancamento, id_usuario) "
+				+ "values (?, 'CRIADO', 1, ?)", inicio + 2, usuario.getId());
+
+		Assertions.assertThat(eventoLancamentoService.despachar(projecao, 10)).isZero();
+
+		Thread.sleep(400);
+		Assertions.assertThat(eventoLancamentoService.despachar(projecao, 10)).isEqualTo(1);
+		Assertions.assertThat(registry.counter(EventoLancamentoServiceImpl.METRICA_LACUNAS).count())
+				.isEqualTo(ignoradas + 1);
+	}
+
+	@Test
+	public void deveExpurgarSoOsEventosEntreguesEForaDaRetencao() {
+		lancamentoService.salvar(criarLancamento(1));
+		lancamentoService.salvar(criarLancamento(2));
+		posicionarAntesDosEventosDoUsuario();
+		jdbcTemplate.update("update financas.evento_lancamento set data_criacao = ? where id_usuario = ?",
+				Timestamp.valueOf(LocalDateTime.now().minusDays(30)), usuario.getId());
+
+		Assertions.assertThat(eventoLancamentoService.despachar(projecao, 1)).isEqualTo(1);
+		eventoLancamentoService.expurgar();
+
+		Assertions.assertThat(eventoLancamentoRepository.existsById(inicio + 1)).isFalse();
+		Assertions.assertThat(eventoLancamentoRepository.existsById(inicio + 2)).isTrue();
+
+		// Entregue, mas ainda dentro da retenção.
+		Assertions.assertThat(eventoLancamentoService.despachar(projecao, 1)).isEqualTo(1);
+		jdbcTemplate.update("update financas.evento_lancamento set data_criacao = ? where id = ?",
+				Timestamp.valueOf(LocalDateTime.now()), inicio + 2);
+		eventoLancamentoService.expurgar();
+
+		Assertions.assertThat(eventoLancamentoRepository.existsById(inicio + 2)).isTrue();
+	}
+
+	/**
+	 * A base dos testes é compartilhada e os testes desfeitos deixam lacunas nos
+	 * ids: a projeção começa logo antes do primeiro evento deste teste.
+	 */
+	private void posicionarAntesDosEventosDoUsuario() {
+		inicio = jdbcTemplate.queryForObject("select min(id) - 1 from financas.evento_lancamento where id_usuario = ?",
+				Long.class, usuario.getId());
+		eventoLancamentoService.reprocessar(PROJECAO, inicio);
+	}
+
+	private Lancamento criarLancamento(int valor) {
+		return Lancamento.builder().descricao("Mercado").mes(3).ano(2020).tipo(TipoLancamento.DESPESA)
+				.valor(BigDecimal.valueOf(valor)).usuario(usuario).build();
+	}
+}
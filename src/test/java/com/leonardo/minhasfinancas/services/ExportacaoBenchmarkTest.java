@@ -0,0 +1,95 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.leonardo.minhasfinancas.enums.FormatoExportacao;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mede a exportação em CSV e XLSX de um usuário com muitos lançamentos e quanto
+ * o heap cresce durante ela. O H2 em memória guarda a base no próprio heap, por
+ * isso o crescimento é medido a partir do uso logo antes da exportação. Não
+ * roda no build padrão: {@code mvn test -Pbenchmark}, com
+ * {@code -Dbenchmark.linhas=N} para mudar a quantidade de lançamentos.
+ */
+@Slf4j
+@Tag("benchmark")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ExportacaoBenchmarkTest {
+
+	private static final int LINHAS = Integer.getInteger("benchmark.linhas", 300_000);
+
+	@Autowired
+	ExportacaoService exportacaoService;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Test
+	public void deveExportarComHeapConstante() throws Exception {
+		var usuario = usuarioRepository
+				.save(Usuario.builder().nome("Benchmark").email(UUID.randomUUID() + "@email.com").build());
+		jdbcTemplate.update("insert into financas.lancamento (descricao, mes, ano, valor, tipo, status, id_usuario) "
+				+ "select concat('Compra cartao loja ', mod(x, 1000)), mod(x, 12) + 1, 2000 + mod(x, 20), 12.34, "
+				+ "'DESPESA', 'PENDENTE', ? from system_range(1, ?)", usuario.getId(), LINHAS);
+
+		for (FormatoExportacao formato : FormatoExportacao.values()) {
+			exportar(usuario, formato);
+		}
+	}
+
+	private void exportar(Usuario usuario, FormatoExportacao formato) throws Exception {
+		MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+		AtomicLong bytes = new AtomicLong();
+		AtomicLong maiorHeap = new AtomicLong();
+		OutputStream saida = new OutputStream() {
+
+			@Override
+			public void write(int b) {
+				bytes.incrementAndGet();
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+				bytes.addAndGet(len);
+				maiorHeap.accumulateAndGet(memoria.getHeapMemoryUsage().getUsed(), Math::max);
+			}
+		};
+
+		System.gc();
+		long heapInicial = memoria.getHeapMemoryUsage().getUsed();
+		long inicio = System.nanoTime();
+		exportacaoService.exportar(Lancamento.builder().usuario(usuario).build(), formato, saida);
+		Duration duracao = Duration.ofNanos(System.nanoTime() - inicio);
+
+		log.info("Exportadas {} linhas em {} ({} MB) em {} ms, heap inicial {} MB, maior heap observado {} MB", LINHAS,
+				formato, bytes.get() / (1024 * 1024), duracao.toMillis(), heapInicial / (1024 * 1024),
+				maiorHeap.get() / (1024 * 1024));
+
+		Assertions.assertThat(bytes.get()).isGreaterThan(LINHAS);
+	}
+}
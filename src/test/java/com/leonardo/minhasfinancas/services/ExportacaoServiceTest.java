@@ -0,0 +1,86 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.enums.FormatoExportacao;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class ExportacaoServiceTest {
+
+	@Autowired
+	ExportacaoService exportacaoService;
+
+	@Autowired
+	LancamentoService lancamentoService;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	private Usuario usuario;
+
+	@BeforeEach
+	public void setUp() {
+		usuario = usuarioRepository.save(Usuario.builder().nome("Leonardo").email("exportacao@email.com").build());
+		lancamentoService.salvar(criarLancamento("Mercado; \"feira\"", 1, TipoLancamento.DESPESA, "35.50"));
+		lancamentoService.salvar(criarLancamento("Salario", 1, TipoLancamento.RECEITA, "1000.00"));
+		lancamentoService.salvar(criarLancamento("Aluguel", 2, TipoLancamento.DESPESA, "900.00"));
+	}
+
+	@Test
+	public void deveExportarCsvComOsFiltrosDaBusca() throws Exception {
+		ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+		exportacaoService.exportar(filtro(1, TipoLancamento.DESPESA), FormatoExportacao.CSV, saida);
+
+		String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+		Assertions.assertThat(linhas).hasSize(2);
+		Assertions.assertThat(linhas[0]).isEqualTo("id;descricao;mes;ano;valor;tipo;status;recorrencia;parcela");
+		Assertions.assertThat(linhas[1]).endsWith(";\"Mercado; \"\"feira\"\"\";1;2020;35.50;DESPESA;PENDENTE;;");
+	}
+
+	@Test
+	public void deveExportarXlsxEmOrdemDeAnoEMes() throws Exception {
+		ByteArrayOutputStream saida = new ByteArrayOutputStream();
+
+		exportacaoService.exportar(filtro(null, null), FormatoExportacao.XLSX, saida);
+
+		try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(saida.toByteArray()))) {
+			Sheet planilha = workbook.getSheetAt(0);
+			Assertions.assertThat(planilha.getLastRowNum()).isEqualTo(3);
+			Assertions.assertThat(planilha.getRow(0).getCell(1).getStringCellValue()).isEqualTo("descricao");
+			Assertions.assertThat(planilha.getRow(3).getCell(1).getStringCellValue()).isEqualTo("Aluguel");
+			Assertions.assertThat(planilha.getRow(3).getCell(4).getNumericCellValue()).isEqualTo(900.0);
+		}
+	}
+
+	private Lancamento filtro(Integer mes, TipoLancamento tipo) {
+		return Lancamento.builder().usuario(usuario).mes(mes).tipo(tipo).build();
+	}
+
+	private Lancamento criarLancamento(String descricao, int mes, TipoLancamento tipo, String valor) {
+		return Lancamento.builder().descricao(descricao).mes(mes).ano(2020).tipo(tipo).valor(new BigDecimal(valor))
+				.usuario(usuario).build();
+	}
+}
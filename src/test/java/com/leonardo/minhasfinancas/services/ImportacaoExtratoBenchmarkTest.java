@@ -0,0 +1,94 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.leonardo.minhasfinancas.enums.FormatoExtrato;
+import com.leonardo.minhasfinancas.enums.StatusImportacao;
+import com.leonardo.minhasfinancas.model.ImportacaoExtrato;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mede a vazão da importação de um CSV gerado. Não roda no build padrão:
+ * {@code mvn test -Pbenchmark}, com {@code -Dbenchmark.linhas=N} para mudar o
+ * tamanho do arquivo.
+ */
+@Slf4j
+@Tag("benchmark")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ImportacaoExtratoBenchmarkTest {
+
+	private static final int LINHAS = Integer.getInteger("benchmark.linhas", 1_000_000);
+
+	@Autowired
+	ImportacaoExtratoService importacaoExtratoService;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Test
+	public void deveImportarUmMilhaoDeLinhas() throws Exception {
+		var usuario = usuarioRepository
+				.save(Usuario.builder().nome("Benchmark").email(UUID.randomUUID() + "@email.com").build());
+		Path arquivo = gerarCsv();
+		MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+		long maiorHeap = 0;
+
+		long inicio = System.nanoTime();
+		ImportacaoExtrato importacao;
+		try (InputStream conteudo = Files.newInputStream(arquivo)) {
+			importacao = importacaoExtratoService.iniciar(usuario.getId(), FormatoExtrato.CSV,
+					StandardCharsets.UTF_8, conteudo);
+		}
+		while (!importacao.isFinalizada()) {
+			Thread.sleep(200);
+			maiorHeap = Math.max(maiorHeap, memoria.getHeapMemoryUsage().getUsed());
+		}
+		Duration duracao = Duration.ofNanos(System.nanoTime() - inicio);
+		Files.delete(arquivo);
+
+		log.info("Importadas {} linhas em {} ms ({} linhas/s), maior heap observado {} MB", importacao.getImportados(),
+				duracao.toMillis(), importacao.getImportados() * 1000 / Math.max(duracao.toMillis(), 1),
+				maiorHeap / (1024 * 1024));
+
+		Assertions.assertThat(importacao.getStatus()).isEqualTo(StatusImportacao.CONCLUIDA);
+		Assertions.assertThat(importacao.getImportados()).isEqualTo(LINHAS);
+	}
+
+	private Path gerarCsv() throws Exception {
+		Path arquivo = Files.createTempFile("benchmark-extrato-", ".csv");
+		LocalDate data = LocalDate.of(2020, 1, 1);
+		try (BufferedWriter writer = Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8)) {
+			writer.write("data;descricao;valor\n");
+			for (int i = 1; i <= LINHAS; i++) {
+				writer.write(data.plusDays(i % 365).toString());
+				writer.write(";Compra cartao loja ");
+				writer.write(Integer.toString(i % 1000));
+				writer.write(i % 10 == 0 ? ";2500,00\n" : ";-12,34\n");
+			}
+		}
+		return arquivo;
+	}
+}
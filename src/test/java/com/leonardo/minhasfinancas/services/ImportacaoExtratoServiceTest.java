@@ -0,0 +1,135 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.leonardo.minhasfinancas.enums.FormatoExtrato;
+import com.leonardo.minhasfinancas.enums.StatusImportacao;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.ErroImportacao;
+import com.leonardo.minhasfinancas.model.ImportacaoExtrato;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.LancamentoRepository;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ImportacaoExtratoServiceTest {
+
+	@Autowired
+	ImportacaoExtratoService importacaoExtratoService;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	LancamentoRepository lancamentoRepository;
+
+	@Autowired
+	SaldoService saldoService;
+
+	private Usuario usuario;
+
+	@BeforeEach
+	public void setUp() {
+		usuario = usuarioRepository
+				.save(Usuario.builder().nome("Leonardo").email(UUID.randomUUID() + "@email.com").build());
+	}
+
+	@Test
+	public void deveImportarExtratoCsvDerivandoTipoPeloSinal() throws Exception {
+		String csv = "Data;Descrição;Valor\n"
+				+ "05/01/2020;Salário;\"5.000,00\"\n"
+				+ "\n"
+				+ "2020-02-10;\"Mercado; feira\";-150,25\n"
+				+ "31/02/2020;Data errada;10,00\n"
+				+ "15/03/2020;Sem valor;0\n";
+
+		var importacao = aguardar(importar(FormatoExtrato.CSV, csv, StandardCharsets.UTF_8));
+
+		Assertions.assertThat(importacao.getStatus()).isEqualTo(StatusImportacao.CONCLUIDA);
+		Assertions.assertThat(importacao.getLinhasLidas()).isEqualTo(4);
+		Assertions.assertThat(importacao.getImportados()).isEqualTo(2);
+		Assertions.assertThat(importacao.getErros()).extracting(ErroImportacao::getLinha).containsExactly(5, 6);
+
+		List<Lancamento> lancamentos = lancamentosDoUsuario();
+		Assertions.assertThat(lancamentos).extracting(Lancamento::getDescricao).containsExactly("Salário",
+				"Mercado; feira");
+		Assertions.assertThat(lancamentos.get(0).getTipo()).isEqualTo(TipoLancamento.RECEITA);
+		Assertions.assertThat(lancamentos.get(1).getTipo()).isEqualTo(TipoLancamento.DESPESA);
+		Assertions.assertThat(lancamentos.get(1).getMes()).isEqualTo(2);
+		Assertions.assertThat(lancamentos.get(1).getValor()).isEqualByComparingTo("150.25");
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("4849.75");
+	}
+
+	@Test
+	public void deveIgnorarLinhasEmBrancoAntesDoCabecalho() throws Exception {
+		String csv = "\n\nData,Descricao,Valor\n2020-01-05,Padaria,-12.50\n";
+
+		var importacao = aguardar(importar(FormatoExtrato.CSV, csv, StandardCharsets.UTF_8));
+
+		Assertions.assertThat(importacao.getStatus()).isEqualTo(StatusImportacao.CONCLUIDA);
+		Assertions.assertThat(importacao.getErros()).isEmpty();
+		Assertions.assertThat(lancamentosDoUsuario()).extracting(Lancamento::getDescricao).containsExactly("Padaria");
+	}
+
+	@Test
+	public void deveImportarExtratoOfx() throws Exception {
+		String ofx = "OFXHEADER:100\nDATA:OFXSGML\nCHARSET:1252\n\n<OFX>\n<BANKMSGSRSV1><STMTTRNRS><STMTRS>\n"
+				+ "<BANKTRANLIST>\n<DTSTART>20200101\n"
+				+ "<STMTTRN>\n<TRNTYPE>DEBIT\n<DTPOSTED>20200115120000[-3:BRT]\n<TRNAMT>-42.50\n"
+				+ "<FITID>1\n<MEMO>Padaria São João\n</STMTTRN>\n"
+				+ "<STMTTRN><TRNTYPE>CREDIT</TRNTYPE><DTPOSTED>20200220</DTPOSTED><TRNAMT>1000.00</TRNAMT>"
+				+ "<NAME>Transferência</NAME></STMTTRN>\n"
+				+ "<STMTTRN>\n<DTPOSTED>2020\n<TRNAMT>1.00\n</STMTTRN>\n"
+				+ "</BANKTRANLIST>\n</STMTRS></STMTTRNRS></BANKMSGSRSV1>\n</OFX>\n";
+
+		var importacao = aguardar(importar(FormatoExtrato.OFX, ofx, Charset.forName("windows-1252")));
+
+		Assertions.assertThat(importacao.getStatus()).isEqualTo(StatusImportacao.CONCLUIDA);
+		Assertions.assertThat(importacao.getImportados()).isEqualTo(2);
+		Assertions.assertThat(importacao.getErros()).extracting(ErroImportacao::getLinha).containsExactly(17);
+
+		List<Lancamento> lancamentos = lancamentosDoUsuario();
+		Assertions.assertThat(lancamentos).extracting(Lancamento::getDescricao).containsExactly("Padaria São João",
+				"Transferência");
+		Assertions.assertThat(lancamentos).extracting(Lancamento::getTipo).containsExactly(TipoLancamento.DESPESA,
+				TipoLancamento.RECEITA);
+		Assertions.assertThat(lancamentos.get(0).getValor()).isEqualByComparingTo(new BigDecimal("42.50"));
+		Assertions.assertThat(lancamentos.get(1).getMes()).isEqualTo(2);
+	}
+
+	private ImportacaoExtrato importar(FormatoExtrato formato, String conteudo, Charset charset) {
+		return importacaoExtratoService.iniciar(usuario.getId(), formato, charset,
+				new ByteArrayInputStream(conteudo.getBytes(charset)));
+	}
+
+	private ImportacaoExtrato aguardar(ImportacaoExtrato importacao) throws InterruptedException {
+		for (int i = 0; i < 100 && !importacao.isFinalizada(); i++) {
+			Thread.sleep(100);
+		}
+		return importacaoExtratoService.obter(importacao.getId()).orElseThrow();
+	}
+
+	private List<Lancamento> lancamentosDoUsuario() {
+		return lancamentoRepository.findByUsuarioId(usuario.getId()).stream()
+				.sorted(Comparator.comparing(Lancamento::getId)).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,66 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.ErroImportacao;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.ResultadoImportacao;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.LancamentoRepository;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+
+/**
+ * Sem transação no teste: cada lote da importação é confirmado na sua própria
+ * transação.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class ImportacaoLoteTest {
+
+	@Autowired
+	LancamentoService lancamentoService;
+
+	@Autowired
+	SaldoService saldoService;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	LancamentoRepository lancamentoRepository;
+
+	@Test
+	public void deveRejeitarSoALinhaRecusadaPeloBanco() {
+		var usuario = usuarioRepository
+				.save(Usuario.builder().nome("Leonardo").email(UUID.randomUUID() + "@email.com").build());
+		// Passa na validação, mas o usuário não existe: a chave estrangeira recusa.
+		var inexistente = Usuario.builder().id(-1L).build();
+		ResultadoImportacao resultado = new ResultadoImportacao();
+
+		lancamentoService.importarLote(List.of(criarLancamento("Mercado", usuario),
+				criarLancamento("Farmacia", inexistente), criarLancamento("Feira", usuario)).iterator(), resultado);
+
+		Assertions.assertThat(resultado.getImportados()).isEqualTo(2);
+		Assertions.assertThat(resultado.getErros()).extracting(ErroImportacao::getLinha).containsExactly(2);
+		Assertions.assertThat(lancamentoRepository.findByUsuarioId(usuario.getId())).extracting(Lancamento::getDescricao)
+				.containsExactlyInAnyOrder("Mercado", "Feira");
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo("-20");
+	}
+
+	private Lancamento criarLancamento(String descricao, Usuario usuario) {
+		return Lancamento.builder().descricao(descricao).mes(1).ano(2020).valor(BigDecimal.TEN)
+				.tipo(TipoLancamento.DESPESA).usuario(usuario).build();
+	}
+}
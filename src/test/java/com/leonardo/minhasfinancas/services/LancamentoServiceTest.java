@@ -13,12 +13,16 @@ import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
 import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoEventoLancamento;
 import com.leonardo.minhasfinancas.enums.TipoLancamento;
 import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.AlteracaoStatus;
+import com.leonardo.minhasfinancas.model.EstadoLancamento;
 import com.leonardo.minhasfinancas.model.Lancamento;
 import com.leonardo.minhasfinancas.model.Usuario;
 import com.leonardo.minhasfinancas.repository.LancamentoRepository;
@@ -35,6 +39,18 @@ public class LancamentoServiceTest {
 	@MockBean
 	LancamentoRepository lancamentoRepository;
 
+	@MockBean
+	SaldoService saldoService;
+
+	@MockBean
+	BuscaDescricaoService buscaDescricaoService;
+
+	@MockBean
+	VersaoDadosService versaoDadosService;
+
+	@MockBean
+	EventoLancamentoService eventoLancamentoService;
+
 	@Test
 	public void deveSalvarUmLancamento() {
 		var lancamentoASalvar = criarLancamentoDespesaPendente();
@@ -49,6 +65,8 @@ public class LancamentoServiceTest {
 
 		Assertions.assertThat(lancamento.getId()).isEqualTo(lancamentoSalvo.getId());
 		Assertions.assertThat(lancamento.getStatus()).isEqualTo(StatusLancamento.EFETIVADO);
+		Mockito.verify(versaoDadosService).incrementar(1L);
+		Mockito.verify(eventoLancamentoService).registrar(TipoEventoLancamento.CRIADO, lancamentoSalvo);
 	}
 
 	@Test
@@ -151,20 +169,41 @@ public class LancamentoServiceTest {
 	public void deveAtualizarStatusDeUmLancamento() {
 		var lancamento = criarLancamentoDespesaPendente();
 		lancamento.setId(1L);
+		lancamento.setVersao(0L);
+		var estado = estado(lancamento);
 
-		Mockito.doReturn(lancamento).when(lancamentoService).atualizar(lancamento);
+		Mockito.when(lancamentoRepository.alterarStatus(1L, 1L, StatusLancamento.EFETIVADO, 0L))
+				.thenReturn(Optional.of(new AlteracaoStatus(estado, 1L)));
 
 		lancamentoService.atualizarStatus(lancamento, StatusLancamento.EFETIVADO);
 
 		Assertions.assertThat(lancamento.getStatus()).isEqualTo(StatusLancamento.EFETIVADO);
-		Mockito.verify(lancamentoService).atualizar(lancamento);
+		Assertions.assertThat(lancamento.getVersao()).isEqualTo(1L);
+		Mockito.verify(saldoService).alterarStatus(estado.getMovimento(), StatusLancamento.EFETIVADO);
+		Mockito.verify(lancamentoService, Mockito.never()).atualizar(lancamento);
+		Mockito.verify(lancamentoRepository, Mockito.never()).save(Mockito.any());
+	}
+
+	@Test
+	public void deveLancarErroAoAtualizarStatusDeVersaoDesatualizada() {
+		var lancamento = criarLancamentoDespesaPendente();
+		lancamento.setId(1L);
+		lancamento.setVersao(0L);
+
+		Mockito.when(lancamentoRepository.alterarStatus(Mockito.eq(1L), Mockito.eq(1L),
+				Mockito.eq(StatusLancamento.EFETIVADO), Mockito.any()))
+				.thenReturn(Optional.of(new AlteracaoStatus(estado(lancamento), null)));
+
+		Assertions.assertThatThrownBy(() -> lancamentoService.atualizarStatus(1L, 1L, StatusLancamento.EFETIVADO, 0L))
+				.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+		Assertions.assertThatThrownBy(() -> lancamentoService.atualizarStatus(1L, 1L, StatusLancamento.EFETIVADO, 7L))
+				.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+		Mockito.verify(saldoService, Mockito.never()).alterarStatus(Mockito.any(), Mockito.any());
 	}
 
 	@Test
 	public void deveLancarErroBuscarSaldoPorUsuario() {
-		Mockito.when(
-				lancamentoRepository.obterSaldoPorTipoLancamentoEUsuario(Mockito.anyLong(), Mockito.any()))
-				.thenReturn(BigDecimal.valueOf(3000));
+		Mockito.when(saldoService.obterSaldo(10L)).thenReturn(BigDecimal.ZERO);
 		
 		var resultado = lancamentoService.obterSaldoPorUsuario(10L);
 		Assertions.assertThat(resultado).isEqualTo(BigDecimal.ZERO);
@@ -228,7 +267,13 @@ public class LancamentoServiceTest {
 
 	private Lancamento criarLancamentoDespesaPendente() {
 		return Lancamento.builder().ano(2020).mes(2).descricao("lancamento qualquer").tipo(TipoLancamento.RECEITA)
-				.status(StatusLancamento.PENDENTE).dataCadastro(ZonedDateTime.now()).build();
+				.status(StatusLancamento.PENDENTE).dataCadastro(ZonedDateTime.now())
+				.usuario(Usuario.builder().id(1L).build()).build();
+	}
+
+	private EstadoLancamento estado(Lancamento lancamento) {
+		return new EstadoLancamento(1L, lancamento.getAno(), lancamento.getMes(), lancamento.getTipo(),
+				lancamento.getStatus(), lancamento.getValor(), lancamento.getVersao());
 	}
 
 }
@@ -0,0 +1,83 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.YearMonth;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.leonardo.minhasfinancas.jobs.MaterializacaoRecorrenciaJob;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mede a materialização de dez anos de recorrências mensais, uma por usuário.
+ * Só o horizonte vira lançamento; o restante tem que aparecer no saldo
+ * projetado. Não roda no build padrão: {@code mvn test -Pbenchmark}, com
+ * {@code -Dbenchmark.usuarios=N} para mudar a quantidade de usuários.
+ */
+@Slf4j
+@Tag("benchmark")
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class RecorrenciaBenchmarkTest {
+
+	private static final int USUARIOS = Integer.getInteger("benchmark.usuarios", 100_000);
+	private static final int OCORRENCIAS = 120;
+
+	@Autowired
+	MaterializacaoRecorrenciaJob materializacaoRecorrenciaJob;
+
+	@Autowired
+	RecorrenciaService recorrenciaService;
+
+	@Autowired
+	SaldoService saldoService;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	@Value("${minhasfinancas.recorrencia.horizonte-meses}")
+	int horizonteMeses;
+
+	@Value("${minhasfinancas.recorrencia.materializacao.tempo-maximo}")
+	Duration tempoMaximo;
+
+	@Test
+	public void deveMaterializarDezAnosDeRecorrenciasNoTempoMaximo() {
+		YearMonth hoje = YearMonth.now();
+		jdbcTemplate.update("insert into financas.usuario (nome, email) select 'Benchmark recorrencia', "
+				+ "concat('recorrencia', x, '@email.com') from system_range(1, ?)", USUARIOS);
+		jdbcTemplate.update("insert into financas.recorrencia (descricao, valor, tipo, frequencia, ano_inicio, "
+				+ "mes_inicio, quantidade, ano_proxima, mes_proxima, id_usuario) select 'Aluguel', 100, 'DESPESA', "
+				+ "'MENSAL', ?, ?, ?, ?, ?, id from financas.usuario where nome = 'Benchmark recorrencia'",
+				hoje.getYear(), hoje.getMonthValue(), OCORRENCIAS, hoje.getYear(), hoje.getMonthValue());
+
+		long inicio = System.nanoTime();
+		int lancamentos = materializacaoRecorrenciaJob.executar();
+		Duration duracao = Duration.ofNanos(System.nanoTime() - inicio);
+
+		log.info("Materializados {} lancamentos de {} recorrencias em {} ms ({} lancamentos/s)", lancamentos,
+				USUARIOS, duracao.toMillis(), lancamentos * 1000L / Math.max(duracao.toMillis(), 1));
+
+		Long idUsuario = jdbcTemplate.queryForObject(
+				"select max(id) from financas.usuario where nome = 'Benchmark recorrencia'", Long.class);
+		YearMonth fim = hoje.plusMonths(OCORRENCIAS - 1);
+		BigDecimal saldo = saldoService.obterSaldo(idUsuario, null, fim.getYear(), fim.getMonthValue())
+				.add(recorrenciaService.projetarSaldo(idUsuario, null, fim.getYear(), fim.getMonthValue()));
+
+		Assertions.assertThat(duracao).isLessThan(tempoMaximo);
+		Assertions.assertThat(lancamentos).isEqualTo(USUARIOS * (horizonteMeses + 1));
+		Assertions.assertThat(saldo).isEqualByComparingTo(BigDecimal.valueOf(-100L * OCORRENCIAS));
+	}
+}
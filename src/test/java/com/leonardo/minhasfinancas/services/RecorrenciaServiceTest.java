@@ -0,0 +1,162 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.api.dto.LancamentoDto;
+import com.leonardo.minhasfinancas.enums.FrequenciaRecorrencia;
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Recorrencia;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.RecorrenciaRepository;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class RecorrenciaServiceTest {
+
+	@Autowired
+	RecorrenciaService recorrenciaService;
+
+	@Autowired
+	LancamentoService lancamentoService;
+
+	@Autowired
+	SaldoService saldoService;
+
+	@Autowired
+	RecorrenciaRepository recorrenciaRepository;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	private Usuario usuario;
+
+	private final YearMonth hoje = YearMonth.now();
+
+	@BeforeEach
+	public void setUp() {
+		usuario = usuarioRepository.save(Usuario.builder().nome("Leonardo").email("recorrencia@email.com").build());
+	}
+
+	@Test
+	public void deveGerarAsOcorrenciasAteOHorizonteAoSalvar() {
+		var recorrencia = recorrenciaService.salvar(criarRecorrencia(FrequenciaRecorrencia.MENSAL, 12));
+
+		List<LancamentoDto> lancamentos = lancamentoService.buscarDto(filtro(null, null));
+
+		Assertions.assertThat(lancamentos).hasSize(4).allMatch(l -> recorrencia.getId().equals(l.getRecorrencia()));
+		Assertions.assertThat(lancamentos).extracting(LancamentoDto::getParcela).containsExactly(1, 2, 3, 4);
+		Assertions.assertThat(YearMonth.of(lancamentos.get(3).getAno(), lancamentos.get(3).getMes()))
+				.isEqualTo(hoje.plusMonths(3));
+		Assertions.assertThat(recorrenciaRepository.findById(recorrencia.getId()).get().getOcorrenciasGeradas())
+				.isEqualTo(4);
+	}
+
+	@Test
+	public void deveProjetarAsOcorrenciasAindaNaoGeradas() {
+		recorrenciaService.salvar(criarRecorrencia(FrequenciaRecorrencia.MENSAL, 12));
+		YearMonth futuro = hoje.plusMonths(6);
+
+		List<LancamentoDto> projetados = recorrenciaService.projetar(filtro(futuro.getYear(), futuro.getMonthValue()));
+
+		Assertions.assertThat(projetados).hasSize(1);
+		Assertions.assertThat(projetados.get(0).getId()).isNull();
+		Assertions.assertThat(projetados.get(0).getParcela()).isEqualTo(7);
+		Assertions.assertThat(projetados.get(0).getStatus()).isEqualTo(StatusLancamento.PENDENTE.name());
+
+		YearMonth depoisDoFim = hoje.plusMonths(12);
+		Assertions.assertThat(recorrenciaService.projetar(filtro(depoisDoFim.getYear(), depoisDoFim.getMonthValue())))
+				.isEmpty();
+		// Quatro ocorrências geradas e as outras oito projetadas.
+		Assertions.assertThat(saldoTotalAte(depoisDoFim)).isEqualByComparingTo(BigDecimal.valueOf(-1200));
+		Assertions.assertThat(recorrenciaService.projetarSaldo(usuario.getId(), List.of(StatusLancamento.EFETIVADO),
+				depoisDoFim.getYear(), depoisDoFim.getMonthValue())).isEqualByComparingTo(BigDecimal.ZERO);
+	}
+
+	@Test
+	public void deveMaterializarSemMudarOSaldoProjetado() {
+		var recorrencia = recorrenciaService.salvar(criarRecorrencia(FrequenciaRecorrencia.MENSAL, 12));
+		YearMonth fim = hoje.plusMonths(11);
+		BigDecimal projetado = saldoTotalAte(fim);
+
+		var lote = recorrenciaService.materializar(hoje.plusMonths(6), recorrencia.getId() - 1, 500);
+
+		Assertions.assertThat(lote.getRecorrencias()).isEqualTo(1);
+		Assertions.assertThat(lote.getLancamentos()).isEqualTo(3);
+		Assertions.assertThat(saldoTotalAte(fim)).isEqualByComparingTo(projetado);
+		Assertions.assertThat(recorrenciaService.materializar(hoje.plusMonths(6), recorrencia.getId() - 1, 500)
+				.getLancamentos()).isZero();
+	}
+
+	@Test
+	public void deveEncerrarAoGerarAUltimaOcorrencia() {
+		var recorrencia = criarRecorrencia(FrequenciaRecorrencia.ANUAL, null);
+		recorrencia.setAnoFim(hoje.getYear() + 2);
+		recorrencia.setMesFim(hoje.getMonthValue());
+		recorrencia = recorrenciaService.salvar(recorrencia);
+
+		recorrenciaService.materializar(hoje.plusYears(5), recorrencia.getId() - 1, 500);
+
+		var encerrada = recorrenciaRepository.findById(recorrencia.getId()).get();
+		Assertions.assertThat(encerrada.getOcorrenciasGeradas()).isEqualTo(3);
+		Assertions.assertThat(encerrada.isEncerrada()).isTrue();
+		Assertions.assertThat(lancamentoService.buscarDto(filtro(null, null))).extracting(LancamentoDto::getAno)
+				.containsExactly(hoje.getYear(), hoje.getYear() + 1, hoje.getYear() + 2);
+	}
+
+	@Test
+	public void devePararDeProjetarAoEncerrar() {
+		var recorrencia = recorrenciaService.salvar(criarRecorrencia(FrequenciaRecorrencia.MENSAL, null));
+
+		recorrenciaService.encerrar(recorrencia.getId(), usuario.getId());
+
+		YearMonth futuro = hoje.plusYears(10);
+		Assertions.assertThat(recorrenciaService.projetarSaldo(usuario.getId(), null, futuro.getYear(),
+				futuro.getMonthValue())).isEqualByComparingTo(BigDecimal.ZERO);
+		Assertions.assertThat(lancamentoService.buscarDto(filtro(null, null))).hasSize(4);
+	}
+
+	@Test
+	public void deveLancarErroComFimAntesDoInicio() {
+		var recorrencia = criarRecorrencia(FrequenciaRecorrencia.MENSAL, null);
+		recorrencia.setAnoFim(hoje.getYear() - 1);
+		recorrencia.setMesFim(1);
+
+		Assertions.assertThatThrownBy(() -> recorrenciaService.salvar(recorrencia))
+				.isInstanceOf(RegraNegocioException.class);
+		Assertions.assertThat(recorrenciaRepository.findByUsuarioIdOrderById(usuario.getId())).isEmpty();
+	}
+
+	private BigDecimal saldoTotalAte(YearMonth competencia) {
+		return saldoService.obterSaldo(usuario.getId(), null, competencia.getYear(), competencia.getMonthValue())
+				.add(recorrenciaService.projetarSaldo(usuario.getId(), null, competencia.getYear(),
+						competencia.getMonthValue()));
+	}
+
+	private Lancamento filtro(Integer ano, Integer mes) {
+		return Lancamento.builder().usuario(usuario).ano(ano).mes(mes).build();
+	}
+
+	private Recorrencia criarRecorrencia(FrequenciaRecorrencia frequencia, Integer quantidade) {
+		return Recorrencia.builder().descricao("Aluguel").valor(BigDecimal.valueOf(100)).tipo(TipoLancamento.DESPESA)
+				.frequencia(frequencia).usuario(usuario).anoInicio(hoje.getYear()).mesInicio(hoje.getMonthValue())
+				.quantidade(quantidade).build();
+	}
+}
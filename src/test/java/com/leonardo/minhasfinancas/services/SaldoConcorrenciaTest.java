@@ -0,0 +1,75 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+
+/**
+ * Sem transação no teste: cada lançamento é gravado e confirmado na sua
+ * própria thread.
+ */
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+public class SaldoConcorrenciaTest {
+
+	private static final int ESCRITAS = 8;
+
+	@Autowired
+	LancamentoService lancamentoService;
+
+	@Autowired
+	SaldoService saldoService;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Test
+	public void deveGravarOsPrimeirosLancamentosDoMesAoMesmoTempo() throws Exception {
+		var usuario = usuarioRepository
+				.save(Usuario.builder().nome("Leonardo").email(UUID.randomUUID() + "@email.com").build());
+		ExecutorService executor = Executors.newFixedThreadPool(ESCRITAS);
+		CountDownLatch largada = new CountDownLatch(1);
+
+		try {
+			List<CompletableFuture<Lancamento>> escritas = new ArrayList<>();
+			for (int i = 0; i < ESCRITAS; i++) {
+				escritas.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						largada.await();
+					} catch (InterruptedException e) {
+						throw new IllegalStateException(e);
+					}
+					return lancamentoService.salvar(Lancamento.builder().descricao("Mercado").mes(3).ano(2020)
+							.valor(BigDecimal.TEN).tipo(TipoLancamento.DESPESA).usuario(usuario).build());
+				}, executor));
+			}
+			largada.countDown();
+			CompletableFuture.allOf(escritas.toArray(new CompletableFuture[0])).get();
+		} finally {
+			executor.shutdown();
+		}
+
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId()))
+				.isEqualByComparingTo(BigDecimal.valueOf(-10L * ESCRITAS));
+		Assertions.assertThat(saldoService.reconciliar(usuario.getId())).isEmpty();
+	}
+}
@@ -0,0 +1,267 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.leonardo.minhasfinancas.enums.StatusLancamento;
+import com.leonardo.minhasfinancas.enums.TipoLancamento;
+import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
+import com.leonardo.minhasfinancas.model.Lancamento;
+import com.leonardo.minhasfinancas.model.ResumoPeriodo;
+import com.leonardo.minhasfinancas.model.SaldoMensalId;
+import com.leonardo.minhasfinancas.model.SaldoUsuario;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.repository.SaldoMensalRepository;
+import com.leonardo.minhasfinancas.repository.SaldoUsuarioRepository;
+import com.leonardo.minhasfinancas.repository.UsuarioRepository;
+
+@ExtendWith(SpringExtension.class)
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class SaldoServiceTest {
+
+	@Autowired
+	LancamentoService lancamentoService;
+
+	@Autowired
+	SaldoService saldoService;
+
+	@Autowired
+	UsuarioRepository usuarioRepository;
+
+	@Autowired
+	SaldoMensalRepository saldoMensalRepository;
+
+	@Autowired
+	SaldoUsuarioRepository saldoUsuarioRepository;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	private Usuario usuario;
+
+	@BeforeEach
+	public void setUp() {
+		usuario = usuarioRepository.save(Usuario.builder().nome("Leonardo").email("saldo@email.com").build());
+	}
+
+	@Test
+	public void deveAtualizarSaldoAoSalvarLancamentos() {
+		lancamentoService.salvar(criarLancamento(TipoLancamento.RECEITA, 1000));
+		lancamentoService.salvar(criarLancamento(TipoLancamento.DESPESA, 300));
+
+		Assertions.assertThat(lancamentoService.obterSaldoPorUsuario(usuario.getId()))
+				.isEqualByComparingTo(BigDecimal.valueOf(700));
+		Assertions.assertThat(saldoMensal(TipoLancamento.RECEITA, StatusLancamento.PENDENTE))
+				.isEqualByComparingTo(BigDecimal.valueOf(1000));
+	}
+
+	@Test
+	public void deveEstornarValorAnteriorAoAtualizarLancamento() {
+		var lancamento = lancamentoService.salvar(criarLancamento(TipoLancamento.DESPESA, 300));
+
+		lancamento.setValor(BigDecimal.valueOf(500));
+		lancamentoService.atualizar(lancamento);
+
+		Assertions.assertThat(lancamentoService.obterSaldoPorUsuario(usuario.getId()))
+				.isEqualByComparingTo(BigDecimal.valueOf(-500));
+	}
+
+	@Test
+	public void deveMoverValorEntreStatusAoAtualizarStatus() {
+		var lancamento = lancamentoService.salvar(criarLancamento(TipoLancamento.RECEITA, 200));
+
+		lancamentoService.atualizarStatus(lancamento, StatusLancamento.EFETIVADO);
+
+		Assertions.assertThat(saldoMensal(TipoLancamento.RECEITA, StatusLancamento.PENDENTE))
+				.isEqualByComparingTo(BigDecimal.ZERO);
+		Assertions.assertThat(saldoMensal(TipoLancamento.RECEITA, StatusLancamento.EFETIVADO))
+				.isEqualByComparingTo(BigDecimal.valueOf(200));
+		Assertions.assertThat(lancamentoService.obterSaldoPorUsuario(usuario.getId()))
+				.isEqualByComparingTo(BigDecimal.valueOf(200));
+	}
+
+	@Test
+	public void deveEstornarValorAoDeletarLancamento() {
+		var lancamento = lancamentoService.salvar(criarLancamento(TipoLancamento.RECEITA, 200));
+
+		lancamentoService.deletar(lancamento);
+
+		Assertions.assertThat(lancamentoService.obterSaldoPorUsuario(usuario.getId()))
+				.isEqualByComparingTo(BigDecimal.ZERO);
+	}
+
+	@Test
+	public void deveCorrigirDivergenciasAoReconciliar() {
+		lancamentoService.salvar(criarLancamento(TipoLancamento.RECEITA, 1000));
+		saldoUsuarioRepository.save(new SaldoUsuario(usuario.getId(), BigDecimal.valueOf(50), BigDecimal.ZERO));
+
+		var divergencias = saldoService.reconciliar(usuario.getId());
+
+		Assertions.assertThat(divergencias).hasSize(1);
+		Assertions.assertThat(divergencias.get(0).getValorEsperado()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+		Assertions.assertThat(divergencias.get(0).getValorEncontrado()).isEqualByComparingTo(BigDecimal.valueOf(50));
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo(BigDecimal.valueOf(1000));
+		Assertions.assertThat(saldoService.reconciliar(usuario.getId())).isEmpty();
+	}
+
+	@Test
+	public void deveManterOSaldoDeAnosArquivadosAoReconciliar() {
+		var antigo = criarLancamento(TipoLancamento.RECEITA, 1000);
+		antigo.setAno(2019);
+		lancamentoService.salvar(antigo);
+		lancamentoService.salvar(criarLancamento(TipoLancamento.DESPESA, 300));
+
+		// O que financas.arquivar_lancamentos faz no PostgreSQL particionado.
+		jdbcTemplate.update("delete from financas.lancamento_termo where id_lancamento in "
+				+ "(select id from financas.lancamento where ano = 2019)");
+		jdbcTemplate.update("delete from financas.lancamento where ano = 2019");
+		jdbcTemplate.update("insert into financas.lancamento_arquivado (ano, tabela, linhas) values (2019, 'x', 1)");
+
+		Assertions.assertThat(saldoService.reconciliar(usuario.getId())).isEmpty();
+
+		saldoUsuarioRepository.save(new SaldoUsuario(usuario.getId(), BigDecimal.ZERO, BigDecimal.ZERO));
+		Assertions.assertThat(saldoService.reconciliar(usuario.getId())).hasSize(2);
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId())).isEqualByComparingTo(BigDecimal.valueOf(700));
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId(), null, 2019, 12))
+				.isEqualByComparingTo(BigDecimal.valueOf(1000));
+	}
+
+	@Test
+	public void deveResumirOsDozeMesesDoAnoFiltrandoPorStatus() {
+		lancamentoService.salvar(criarLancamento(TipoLancamento.RECEITA, 1000));
+		lancamentoService.salvar(criarLancamento(TipoLancamento.DESPESA, 300));
+		var efetivado = lancamentoService.salvar(criarLancamento(TipoLancamento.DESPESA, 100));
+		lancamentoService.atualizarStatus(efetivado, StatusLancamento.EFETIVADO);
+		var outroMes = criarLancamento(TipoLancamento.RECEITA, 50);
+		outroMes.setMes(11);
+		lancamentoService.salvar(outroMes);
+
+		var todos = saldoService.obterResumoMensal(usuario.getId(), 2020, null);
+		var efetivados = saldoService.obterResumoMensal(usuario.getId(), 2020, List.of(StatusLancamento.EFETIVADO));
+
+		Assertions.assertThat(todos).hasSize(12);
+		Assertions.assertThat(todos.get(0).getSaldo()).isEqualByComparingTo(BigDecimal.ZERO);
+		Assertions.assertThat(todos.get(1).getReceitas()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+		Assertions.assertThat(todos.get(1).getDespesas()).isEqualByComparingTo(BigDecimal.valueOf(400));
+		Assertions.assertThat(todos.get(1).getSaldo()).isEqualByComparingTo(BigDecimal.valueOf(600));
+		Assertions.assertThat(todos.get(1).getQuantidade()).isEqualTo(3);
+		Assertions.assertThat(todos.get(10).getSaldo()).isEqualByComparingTo(BigDecimal.valueOf(50));
+		Assertions.assertThat(efetivados.get(1).getSaldo()).isEqualByComparingTo(BigDecimal.valueOf(-100));
+		Assertions.assertThat(efetivados.get(10).getQuantidade()).isZero();
+	}
+
+	@Test
+	public void deveResumirPorAno() {
+		lancamentoService.salvar(criarLancamento(TipoLancamento.RECEITA, 1000));
+		var anoAnterior = criarLancamento(TipoLancamento.DESPESA, 200);
+		anoAnterior.setAno(2019);
+		lancamentoService.salvar(anoAnterior);
+
+		var anos = saldoService.obterResumoAnual(usuario.getId(), null);
+
+		Assertions.assertThat(anos).extracting(ResumoPeriodo::getAno).containsExactly(2019, 2020);
+		Assertions.assertThat(anos.get(0).getSaldo()).isEqualByComparingTo(BigDecimal.valueOf(-200));
+		Assertions.assertThat(anos.get(1).getSaldo()).isEqualByComparingTo(BigDecimal.valueOf(1000));
+		Assertions.assertThat(anos.get(1).getMes()).isNull();
+	}
+
+	@Test
+	public void deveCalcularSaldoPorStatusAteUmMes() {
+		var efetivada = lancamentoService.salvar(criarLancamento(TipoLancamento.RECEITA, 1000));
+		lancamentoService.atualizarStatus(efetivada, StatusLancamento.EFETIVADO);
+		var cancelada = lancamentoService.salvar(criarLancamento(TipoLancamento.DESPESA, 300));
+		lancamentoService.atualizarStatus(cancelada, StatusLancamento.CANCELADO);
+		var posterior = criarLancamento(TipoLancamento.DESPESA, 100);
+		posterior.setMes(5);
+		lancamentoService.atualizarStatus(lancamentoService.salvar(posterior), StatusLancamento.EFETIVADO);
+		var anoSeguinte = criarLancamento(TipoLancamento.DESPESA, 50);
+		anoSeguinte.setAno(2021);
+		anoSeguinte.setMes(1);
+		lancamentoService.atualizarStatus(lancamentoService.salvar(anoSeguinte), StatusLancamento.EFETIVADO);
+
+		var efetivados = List.of(StatusLancamento.EFETIVADO);
+
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId(), efetivados, 2020, 4))
+				.isEqualByComparingTo(BigDecimal.valueOf(1000));
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId(), efetivados, 2020, null))
+				.isEqualByComparingTo(BigDecimal.valueOf(900));
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId(), efetivados, null, null))
+				.isEqualByComparingTo(BigDecimal.valueOf(850));
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId(), null, 2020, 2))
+				.isEqualByComparingTo(BigDecimal.valueOf(700));
+		Assertions.assertThat(saldoService.obterSaldo(usuario.getId(), efetivados, 2019, 12))
+				.isEqualByComparingTo(BigDecimal.ZERO);
+	}
+
+	@Test
+	public void deveLancarErroAoCalcularSaldoComMesInvalido() {
+		Assertions.assertThatThrownBy(() -> saldoService.obterSaldo(usuario.getId(), null, 2020, 13))
+				.isInstanceOf(RegraNegocioException.class);
+		Assertions.assertThatThrownBy(() -> saldoService.obterSaldo(usuario.getId(), null, null, 3))
+				.isInstanceOf(RegraNegocioException.class);
+	}
+
+	@Test
+	public void deveMoverSaldosAoEfetivarOMesEmLote() {
+		lancamentoService.salvar(criarLancamento(TipoLancamento.RECEITA, 1000));
+		lancamentoService.salvar(criarLancamento(TipoLancamento.DESPESA, 300));
+		lancamentoService.salvar(criarLancamento(TipoLancamento.DESPESA, 200));
+		var cancelada = lancamentoService.salvar(criarLancamento(TipoLancamento.DESPESA, 50));
+		lancamentoService.atualizarStatus(cancelada, StatusLancamento.CANCELADO);
+		var outroMes = criarLancamento(TipoLancamento.DESPESA, 70);
+		outroMes.setMes(3);
+		lancamentoService.salvar(outroMes);
+
+		var filtro = new Lancamento();
+		filtro.setUsuario(usuario);
+		filtro.setAno(2020);
+		filtro.setMes(2);
+		filtro.setStatus(StatusLancamento.PENDENTE);
+
+		Assertions.assertThat(lancamentoService.atualizarStatusEmLote(filtro, StatusLancamento.EFETIVADO)).isEqualTo(3);
+		Assertions.assertThat(lancamentoService.atualizarStatusEmLote(filtro, StatusLancamento.EFETIVADO)).isZero();
+
+		Assertions.assertThat(saldoMensal(TipoLancamento.DESPESA, StatusLancamento.PENDENTE))
+				.isEqualByComparingTo(BigDecimal.ZERO);
+		Assertions.assertThat(saldoMensal(TipoLancamento.DESPESA, StatusLancamento.EFETIVADO))
+				.isEqualByComparingTo(BigDecimal.valueOf(500));
+		Assertions.assertThat(saldoMensal(TipoLancamento.DESPESA, StatusLancamento.CANCELADO))
+				.isEqualByComparingTo(BigDecimal.valueOf(50));
+		Assertions.assertThat(lancamentoService.obterSaldoPorUsuario(usuario.getId()))
+				.isEqualByComparingTo(BigDecimal.valueOf(380));
+		Assertions.assertThat(saldoService.reconciliar(usuario.getId())).isEmpty();
+	}
+
+	@Test
+	public void deveLancarErroAoAlterarStatusEmLoteSemMes() {
+		var filtro = new Lancamento();
+		filtro.setUsuario(usuario);
+		filtro.setAno(2020);
+
+		Assertions.assertThatThrownBy(() -> lancamentoService.atualizarStatusEmLote(filtro, StatusLancamento.EFETIVADO))
+				.isInstanceOf(RegraNegocioException.class);
+	}
+
+	private BigDecimal saldoMensal(TipoLancamento tipo, StatusLancamento status) {
+		return saldoMensalRepository.findById(new SaldoMensalId(usuario.getId(), 2020, 2, tipo, status))
+				.map(s -> s.getValor()).orElse(BigDecimal.ZERO);
+	}
+
+	private Lancamento criarLancamento(TipoLancamento tipo, int valor) {
+		return Lancamento.builder().ano(2020).mes(2).descricao("lancamento qualquer").tipo(tipo)
+				.valor(BigDecimal.valueOf(valor)).usuario(usuario).build();
+	}
+}
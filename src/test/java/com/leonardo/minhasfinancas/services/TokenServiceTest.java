@@ -0,0 +1,80 @@
+package com.leonardo.minhasfinancas.services;
+
+import java.time.Duration;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leonardo.minhasfinancas.exceptions.TokenInvalidoException;
+import com.leonardo.minhasfinancas.model.Usuario;
+import com.leonardo.minhasfinancas.services.impl.TokenServiceImpl;
+
+public class TokenServiceTest {
+
+	private static final String CHAVE_ANTIGA = "v1:segredo-antigo-com-pelo-menos-32-caracteres";
+	private static final String CHAVE_NOVA = "v2:segredo-novo-com-pelo-menos-32-caracteres!!";
+
+	private final Usuario usuario = Usuario.builder().id(42L).build();
+
+	@Test
+	public void deveDevolverOIdDoUsuarioDoToken() {
+		var tokenService = criar(CHAVE_ANTIGA, "v1", Duration.ofHours(1));
+
+		Assertions.assertThat(tokenService.validar(tokenService.gerar(usuario))).isEqualTo(42L);
+	}
+
+	@Test
+	public void deveRejeitarTokenAdulterado() {
+		var tokenService = criar(CHAVE_ANTIGA, "v1", Duration.ofHours(1));
+		String[] partes = tokenService.gerar(usuario).split("\\.");
+		String outroUsuario = tokenService.gerar(Usuario.builder().id(7L).build()).split("\\.")[1];
+
+		Assertions.assertThatThrownBy(() -> tokenService.validar(partes[0] + "." + outroUsuario + "." + partes[2]))
+				.isInstanceOf(TokenInvalidoException.class);
+		Assertions.assertThatThrownBy(() -> tokenService.validar(partes[0] + "." + partes[1] + "."))
+				.isInstanceOf(TokenInvalidoException.class);
+		Assertions.assertThatThrownBy(() -> tokenService.validar("nao-e-um-token"))
+				.isInstanceOf(TokenInvalidoException.class);
+	}
+
+	@Test
+	public void deveRejeitarTokenExpirado() {
+		var tokenService = criar(CHAVE_ANTIGA, "v1", Duration.ofSeconds(-1));
+
+		Assertions.assertThatThrownBy(() -> tokenService.validar(tokenService.gerar(usuario)))
+				.isInstanceOf(TokenInvalidoException.class).hasMessage("Token expirado.");
+	}
+
+	@Test
+	public void deveAceitarAChaveAntigaEnquantoEstiverListada() {
+		String tokenAntigo = criar(CHAVE_ANTIGA, "v1", Duration.ofHours(1)).gerar(usuario);
+
+		var rotacionado = criar(CHAVE_ANTIGA + "," + CHAVE_NOVA, "v2", Duration.ofHours(1));
+		Assertions.assertThat(rotacionado.validar(tokenAntigo)).isEqualTo(42L);
+		Assertions.assertThat(rotacionado.validar(rotacionado.gerar(usuario))).isEqualTo(42L);
+
+		var semChaveAntiga = criar(CHAVE_NOVA, "v2", Duration.ofHours(1));
+		Assertions.assertThatThrownBy(() -> semChaveAntiga.validar(tokenAntigo))
+				.isInstanceOf(TokenInvalidoException.class);
+		Assertions.assertThat(semChaveAntiga.validar(rotacionado.gerar(usuario))).isEqualTo(42L);
+	}
+
+	@Test
+	public void deveExigirChaveAtualEntreAsChaves() {
+		Assertions.assertThatThrownBy(() -> criar(CHAVE_ANTIGA, "v2", Duration.ofHours(1)))
+				.isInstanceOf(IllegalStateException.class);
+		Assertions.assertThatThrownBy(() -> criar("v1:curta", "v1", Duration.ofHours(1)))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void deveExigirChavesConfiguradas() {
+		Assertions.assertThatThrownBy(() -> criar("", "", Duration.ofHours(1)))
+				.isInstanceOf(IllegalStateException.class).hasMessageContaining("MINHASFINANCAS_TOKEN_CHAVES");
+	}
+
+	private TokenService criar(String chaves, String chaveAtual, Duration validade) {
+		return new TokenServiceImpl(new ObjectMapper(), chaves, chaveAtual, validade);
+	}
+}
@@ -2,6 +2,8 @@ package com.leonardo.minhasfinancas.services;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Assertions;
@@ -15,6 +17,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.leonardo.minhasfinancas.exceptions.ErroAutenticacaoException;
 import com.leonardo.minhasfinancas.exceptions.RegraNegocioException;
@@ -34,6 +37,9 @@ public class UsuarioServiceTest {
 	@MockBean
 	UsuarioRepository usuarioRepository;
 
+	@SpyBean
+	SenhaService senhaService;
+
 	@Test
 	public void deveSalvarUmUsuario() {
 		Mockito.doNothing().when(usuarioService).validarEmail(Mockito.anyString());
@@ -49,6 +55,21 @@ public class UsuarioServiceTest {
 		Assertions.assertTrue(usuarioSalvo.getSenha().equals("123456"));
 	}
 
+	@Test
+	public void deveCodificarASenhaForaDaTransacao() {
+		Mockito.doNothing().when(usuarioService).validarEmail(Mockito.anyString());
+		Mockito.when(usuarioRepository.save(Mockito.any(Usuario.class))).thenAnswer(i -> i.getArgument(0));
+		List<Boolean> emTransacao = new ArrayList<>();
+		Mockito.doAnswer(i -> {
+			emTransacao.add(TransactionSynchronizationManager.isActualTransactionActive());
+			return i.callRealMethod();
+		}).when(senhaService).codificar(Mockito.anyString());
+
+		usuarioService.salvaUsuario(Usuario.builder().id(2L).email("hash@email.com").senha("123456").build());
+
+		Assertions.assertEquals(List.of(false), emTransacao);
+	}
+
 	@Test
 	public void naoDeveSalvarUmUsuarioComEmailJaCadastrado() {
 		var usuario = criarUsuarioComId();
@@ -64,12 +85,39 @@ public class UsuarioServiceTest {
 		final String email = "email@email.com.br";
 		final String senha = "123456";
 
-		var usuario = Usuario.builder().nome("Teste").email(email).senha(senha).build();
+		var usuario = Usuario.builder().id(10L).nome("Teste").email(email).senha(senha).build();
 		Mockito.when(usuarioRepository.findByEmail(email)).thenReturn(Optional.of(usuario));
 
 		var result = usuarioService.autenticaUsuario(email, senha);
 
 		Assertions.assertNotNull(result);
+		// Senha antiga, em texto puro: é trocada pelo hash no login.
+		Mockito.verify(usuarioRepository).atualizarSenha(Mockito.eq(10L), Mockito.startsWith("$2a$"));
+	}
+
+	@Test
+	public void deveAutenticarComSenhaCodificadaSemRecodificar() {
+		final String email = "hash@email.com";
+		var usuario = Usuario.builder().id(11L).nome("Teste").email(email).senha(senhaService.codificar("123456"))
+				.build();
+		Mockito.when(usuarioRepository.findByEmail(email)).thenReturn(Optional.of(usuario));
+
+		Assertions.assertNotNull(usuarioService.autenticaUsuario(email, "123456"));
+		Assertions.assertThrows(ErroAutenticacaoException.class, () -> usuarioService.autenticaUsuario(email, "654321"));
+		Mockito.verify(usuarioRepository, Mockito.never()).atualizarSenha(Mockito.anyLong(), Mockito.anyString());
+	}
+
+	@Test
+	public void deveGravarApenasOHashDaSenha() {
+		Mockito.doNothing().when(usuarioService).validarEmail(Mockito.anyString());
+		var usuario = Usuario.builder().id(12L).nome("Leonardo").email("novo@email.com").senha("123456").build();
+		Mockito.when(usuarioRepository.save(usuario)).thenReturn(usuario);
+
+		usuarioService.salvaUsuario(usuario);
+
+		Assertions.assertNotEquals("123456", usuario.getSenha());
+		Assertions.assertTrue(senhaService.confere("123456", usuario.getSenha()));
+		Assertions.assertFalse(senhaService.precisaRecodificar(usuario.getSenha()));
 	}
 
 	@Test
@@ -108,6 +156,41 @@ public class UsuarioServiceTest {
 		Assertions.assertThrows(RegraNegocioException.class, () -> usuarioService.validarEmail(Mockito.anyString()));
 	}
 
+	@Test
+	public void deveGuardarEmCacheOUsuarioObtidoPorId() {
+		var usuario = Usuario.builder().id(99L).nome("Leonardo").email("cache@email.com").build();
+		Mockito.when(usuarioRepository.findById(99L)).thenReturn(Optional.of(usuario));
+
+		usuarioService.obterPorId(99L);
+		var result = usuarioService.obterPorId(99L);
+
+		Assertions.assertEquals(usuario, result.get());
+		Mockito.verify(usuarioRepository, Mockito.times(1)).findById(99L);
+	}
+
+	@Test
+	public void naoDeveGuardarEmCacheUsuarioInexistente() {
+		Mockito.when(usuarioRepository.findByEmail("inexistente@email.com")).thenReturn(Optional.empty());
+
+		usuarioService.obterPorEmail("inexistente@email.com");
+		usuarioService.obterPorEmail("inexistente@email.com");
+
+		Mockito.verify(usuarioRepository, Mockito.times(2)).findByEmail("inexistente@email.com");
+	}
+
+	@Test
+	public void deveInvalidarOCacheAoSalvarUsuario() {
+		var usuario = Usuario.builder().id(98L).nome("Leonardo").email("invalida@email.com").senha("123456").build();
+		Mockito.when(usuarioRepository.findByEmail("invalida@email.com")).thenReturn(Optional.of(usuario));
+		Mockito.when(usuarioRepository.save(usuario)).thenReturn(usuario);
+
+		usuarioService.obterPorEmail("invalida@email.com");
+		usuarioService.salvaUsuario(usuario);
+		usuarioService.obterPorEmail("invalida@email.com");
+
+		Mockito.verify(usuarioRepository, Mockito.times(2)).findByEmail("invalida@email.com");
+	}
+
 	private Usuario criarUsuarioComId() {
 		return Usuario.builder().id(1L).nome("Leonardo").email("email@email.com").senha("123456").build();
 	}